@@ -0,0 +1,55 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+import ru.vyarus.java.generics.resolver.support.Base2;
+import ru.vyarus.java.generics.resolver.support.Lvl2Base1;
+import ru.vyarus.java.generics.resolver.support.Root;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocations of warm context navigation and generics access. Check gc.alloc.rate.norm metric of gc profiler
+ * (enabled in build): {@code typeGeneric} must not allocate at all.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AllocationBenchmark {
+
+    private GenericsContext root;
+    private Method doSomth;
+
+    @Setup
+    public void setUp() throws Exception {
+        root = GenericsResolver.resolve(Root.class);
+        doSomth = Lvl2Base1.class.getMethod("doSomth");
+        // warm up contexts cache
+        root.type(Base2.class).generic(0);
+        root.method(doSomth);
+    }
+
+    @Benchmark
+    public void typeGeneric(final Blackhole bh) {
+        bh.consume(root.type(Base2.class).generic(0));
+    }
+
+    @Benchmark
+    public void typeGenericsView(final Blackhole bh) {
+        bh.consume(root.type(Base2.class).genericsMapView().get("K"));
+    }
+
+    @Benchmark
+    public void methodReturnClass(final Blackhole bh) {
+        bh.consume(root.method(doSomth).resolveReturnClass());
+    }
+}
@@ -0,0 +1,72 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Descriptors cache behaviour under contention. Cold case measures time required for multiple threads to
+ * resolve (the same set of) unrelated classes on empty cache: with global lock this time grows with threads count,
+ * with per-class computation it should stay almost flat. Warm case measures lock-free cache reads.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+public class CacheContentionBenchmark {
+
+    private static final Class<?>[] TYPES = {
+            ArrayList.class, LinkedList.class, Vector.class, Stack.class, ArrayDeque.class, PriorityQueue.class,
+            HashMap.class, LinkedHashMap.class, TreeMap.class, WeakHashMap.class, IdentityHashMap.class,
+            Hashtable.class, Properties.class, HashSet.class, LinkedHashSet.class, TreeSet.class,
+            ConcurrentHashMap.class, ConcurrentSkipListMap.class, ConcurrentSkipListSet.class,
+            CopyOnWriteArrayList.class, CopyOnWriteArraySet.class, ConcurrentLinkedQueue.class,
+            ConcurrentLinkedDeque.class, LinkedBlockingQueue.class, LinkedBlockingDeque.class,
+            ArrayBlockingQueue.class, PriorityBlockingQueue.class, DelayQueue.class, SynchronousQueue.class,
+            LinkedTransferQueue.class, EnumMap.class, BitSet.class};
+
+    @Setup(Level.Iteration)
+    public void clearCache() {
+        GenericsInfoFactory.clearCache();
+    }
+
+    /**
+     * Each thread resolves all types on empty cache (starting from different positions).
+     *
+     * @param params thread params
+     * @param bh     blackhole
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 50)
+    public void coldResolution(final ThreadParams params, final Blackhole bh) {
+        final int shift = params.getThreadIndex();
+        for (int i = 0; i < TYPES.length; i++) {
+            bh.consume(GenericsInfoFactory.create(TYPES[(i + shift) % TYPES.length]));
+        }
+    }
+
+    /**
+     * All threads read already cached descriptors (only the first call in iteration resolves descriptors).
+     *
+     * @param bh blackhole
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void warmLookup(final Blackhole bh) {
+        for (Class<?> type : TYPES) {
+            bh.consume(GenericsInfoFactory.create(type));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Resolution of classes with shared super types (collections family). Cache is limited to a single descriptor,
+ * so each call resolves descriptor again, but hierarchy templates of already seen super types remain cached.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HierarchyFamilyBenchmark {
+
+    private static final Class<?>[] TYPES = {
+            ArrayList.class, LinkedList.class, Vector.class, Stack.class, CopyOnWriteArrayList.class,
+            HashSet.class, LinkedHashSet.class, TreeSet.class, HashMap.class, LinkedHashMap.class, TreeMap.class,
+            ConcurrentHashMap.class, ConcurrentSkipListMap.class};
+
+    @Setup
+    public void setUp() {
+        GenericsInfoFactory.clearCache();
+        GenericsInfoFactory.limitCacheSize(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        GenericsInfoFactory.limitCacheSize(0);
+        GenericsInfoFactory.clearCache();
+    }
+
+    @Benchmark
+    public void resolveFamily(final Blackhole bh) {
+        for (Class<?> type : TYPES) {
+            bh.consume(GenericsInfoFactory.create(type));
+        }
+    }
+}
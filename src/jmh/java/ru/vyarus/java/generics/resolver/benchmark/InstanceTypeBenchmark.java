@@ -0,0 +1,43 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.java.generics.resolver.util.type.InstanceTypeFactory;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instance types construction: single instance and median type for multiple instances (requires common type
+ * calculation).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InstanceTypeBenchmark {
+
+    private final Object single = new ArrayList<String>();
+    private final Object[] multiple = {new ArrayList<String>(), new LinkedList<String>(), new HashSet<String>()};
+    private final Object[] numbers = {1, 2L, 3.0, null};
+
+    @Benchmark
+    public Type single() {
+        return InstanceTypeFactory.build(single);
+    }
+
+    @Benchmark
+    public Type multiple() {
+        return InstanceTypeFactory.build(multiple);
+    }
+
+    @Benchmark
+    public Type numbers() {
+        return InstanceTypeFactory.build(numbers);
+    }
+}
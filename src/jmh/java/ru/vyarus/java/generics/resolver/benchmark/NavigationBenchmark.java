@@ -0,0 +1,70 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+import ru.vyarus.java.generics.resolver.support.Base2;
+import ru.vyarus.java.generics.resolver.support.Lvl2Base1;
+import ru.vyarus.java.generics.resolver.support.Root;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Context navigation on already resolved (cached) hierarchy: switching type in hierarchy, method context
+ * creation and inlying context building (for method return type).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NavigationBenchmark {
+
+    private GenericsContext root;
+    private GenericsContext map;
+    private Method doSomth;
+    private Method entrySet;
+    private Type entrySetType;
+
+    @Setup
+    public void setUp() throws Exception {
+        root = GenericsResolver.resolve(Root.class);
+        map = GenericsResolver.resolve(HashMap.class);
+        doSomth = Lvl2Base1.class.getMethod("doSomth");
+        entrySet = Map.class.getMethod("entrySet");
+        entrySetType = entrySet.getGenericReturnType();
+    }
+
+    @Benchmark
+    public void type(final Blackhole bh) {
+        bh.consume(root.type(Base2.class));
+        bh.consume(map.type(AbstractMap.class));
+    }
+
+    @Benchmark
+    public void method(final Blackhole bh) {
+        bh.consume(root.method(doSomth));
+        bh.consume(map.method(entrySet));
+    }
+
+    @Benchmark
+    public void methodReturnClass(final Blackhole bh) {
+        bh.consume(root.method(doSomth).resolveReturnClass());
+        bh.consume(map.method(entrySet).resolveReturnClass());
+    }
+
+    @Benchmark
+    public void inlyingType(final Blackhole bh) {
+        bh.consume(map.type(Map.class).inlyingType(entrySetType));
+    }
+}
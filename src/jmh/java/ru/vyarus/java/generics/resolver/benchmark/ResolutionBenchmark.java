@@ -0,0 +1,48 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Root class hierarchy resolution. Cold case measures complete hierarchy analysis (empty cache),
+ * warm case measures cached descriptor lookup (plus root context creation).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResolutionBenchmark {
+
+    @Param({"ru.vyarus.java.generics.resolver.cases.order.EnormousCase",
+            "ru.vyarus.java.generics.resolver.support.Root",
+            "java.util.ArrayList",
+            "java.util.concurrent.ConcurrentHashMap"})
+    public String type;
+
+    private Class<?> root;
+
+    @Setup
+    public void setUp() throws Exception {
+        root = Class.forName(type);
+    }
+
+    @Benchmark
+    public void coldCache(final Blackhole bh) {
+        GenericsInfoFactory.clearCache();
+        bh.consume(GenericsResolver.resolve(root));
+    }
+
+    @Benchmark
+    public void warmCache(final Blackhole bh) {
+        bh.consume(GenericsResolver.resolve(root));
+    }
+}
@@ -0,0 +1,61 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*;
+
+/**
+ * Types rendering (used for error messages and in reporting).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ToStringBenchmark {
+
+    // Map<String, List<? extends Number>[]>
+    private final Type type = param(Map.class, String.class, array(param(List.class, upper(Number.class))));
+    private Map<String, Type> generics;
+    private Method method;
+    private GenericsContext context;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = GenericsResolver.resolve(HashMap.class).type(Map.class);
+        generics = context.genericsMap();
+        method = Map.class.getMethod("putAll", Map.class);
+    }
+
+    @Benchmark
+    public String toStringType() {
+        return TypeToStringUtils.toStringType(type);
+    }
+
+    @Benchmark
+    public String toStringWithGenerics() {
+        return TypeToStringUtils.toStringWithGenerics(HashMap.class, generics);
+    }
+
+    @Benchmark
+    public String toStringMethod() {
+        return TypeToStringUtils.toStringMethod(method, generics);
+    }
+
+    @Benchmark
+    public String toStringHierarchy() {
+        return context.toString();
+    }
+}
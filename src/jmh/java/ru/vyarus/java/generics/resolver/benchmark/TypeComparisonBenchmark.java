@@ -0,0 +1,79 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.java.generics.resolver.util.TypeRelationsCache;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.param;
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.upper;
+
+/**
+ * Types comparison utilities on parameterized types (most expensive case because of types walking).
+ * Measured with and without relations memo ({@link TypeRelationsCache}). Common type is measured with cached
+ * and not cached resolution result.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypeComparisonBenchmark {
+
+    @Param({"false", "true"})
+    public boolean memo;
+
+    // ArrayList<Map<String, Integer>>
+    private final Type arrayList = param(ArrayList.class, param(Map.class, String.class, Integer.class));
+    // Collection<? extends Map<String, ? extends Number>>
+    private final Type collection = param(Collection.class,
+            upper(param(Map.class, String.class, upper(Number.class))));
+    // List<Map<String, Object>>
+    private final Type list = param(List.class, param(Map.class, String.class, Object.class));
+    // LinkedList<HashMap<String, Double>>
+    private final Type linkedList = param(LinkedList.class, param(HashMap.class, String.class, Double.class));
+
+    @Setup
+    public void setUp() {
+        TypeRelationsCache.enable(memo ? 10_000 : 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        TypeRelationsCache.disable();
+    }
+
+    @Benchmark
+    public boolean isAssignable() {
+        return TypeUtils.isAssignable(arrayList, collection);
+    }
+
+    @Benchmark
+    public boolean isMoreSpecific() {
+        return TypeUtils.isMoreSpecific(arrayList, list);
+    }
+
+    @Benchmark
+    public boolean isCompatible() {
+        return TypeUtils.isCompatible(linkedList, list);
+    }
+
+    @Benchmark
+    public Type getCommonType() {
+        return TypeUtils.getCommonType(arrayList, linkedList);
+    }
+
+    @Benchmark
+    public Type getCommonTypeCold() {
+        CommonTypeFactory.clearCache();
+        return TypeUtils.getCommonType(arrayList, linkedList);
+    }
+}
@@ -0,0 +1,42 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.vyarus.java.generics.resolver.cases.order.EnormousCase;
+import ru.vyarus.java.generics.resolver.util.TypeVariableUtils;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.param;
+
+/**
+ * Variables matching and tracking utilities.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VariablesBenchmark {
+
+    // AbstractMap<K, V>
+    private final Type template = HashMap.class.getGenericSuperclass();
+    // AbstractMap<String, List<Integer>>
+    private final Type real = param(AbstractMap.class, String.class, param(List.class, Integer.class));
+
+    @Benchmark
+    public Map<TypeVariable, Type> matchVariables() {
+        return TypeVariableUtils.matchVariables(template, real);
+    }
+
+    @Benchmark
+    public Map<Class<?>, LinkedHashMap<String, Type>> trackRootVariables() {
+        return TypeVariableUtils.trackRootVariables(EnormousCase.class);
+    }
+}
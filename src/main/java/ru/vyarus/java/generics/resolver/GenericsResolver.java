@@ -2,6 +2,9 @@ package ru.vyarus.java.generics.resolver;
 
 import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
+import ru.vyarus.java.generics.resolver.error.GenericsException;
+import ru.vyarus.java.generics.resolver.error.GenericsResolutionException;
+import ru.vyarus.java.generics.resolver.util.HierarchyPruning;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
 
 /**
@@ -20,8 +23,8 @@ public final class GenericsResolver {
      * generics bounds). To use it switch context to required type from hierarchy:
      * {@code returnedContext.type(SomeTypeFromHierarchy.class)}.
      * <p>
-     * Note: when ignore classes provided, produced {@code GenericsInfo} instance will not be cached
-     * (and full version from cache will not be used also)
+     * Note: descriptors, resolved with ignore classes, are cached for each ignored classes set (and derived from
+     * complete descriptor, if it's already cached)
      *
      * @param type          root class to resolve generics hierarchy
      * @param ignoreClasses list of classes to ignore during inspection (useful to avoid interface clashes
@@ -33,4 +36,37 @@ public final class GenericsResolver {
         return new GenericsContext(
                 GenericsInfoFactory.create(notPrimitiveType, ignoreClasses), notPrimitiveType);
     }
+
+    /**
+     * Same as {@link #resolve(Class, Class[])}, but with hierarchy pruning policy: exact classes, packages, marker
+     * annotations or custom predicate (see {@link HierarchyPruning}). Pruned types are not analyzed, so large
+     * uninteresting hierarchy parts could be cut off. Descriptors are cached for each policy.
+     *
+     * @param type    root class to resolve generics hierarchy
+     * @param pruning types to exclude from inspection
+     * @return resolved generics context object
+     */
+    public static GenericsContext resolve(final Class<?> type, final HierarchyPruning pruning) {
+        final Class<?> notPrimitiveType = TypeUtils.wrapPrimitive(type);
+        return new GenericsContext(
+                GenericsInfoFactory.create(notPrimitiveType, pruning), notPrimitiveType);
+    }
+
+    /**
+     * Same as {@link #resolve(Class, Class[])}, but returns null instead of failing when class hierarchy can't be
+     * resolved (e.g. interface appears in hierarchy with incompatible generics). Resolution errors are not cached,
+     * so enable lightweight exceptions ({@link GenericsException#LIGHTWEIGHT_PROPERTY}) when frequently probing
+     * broken hierarchies.
+     *
+     * @param type          root class to resolve generics hierarchy
+     * @param ignoreClasses list of classes to ignore during inspection
+     * @return resolved generics context object or null if hierarchy can't be resolved
+     */
+    public static GenericsContext tryResolve(final Class<?> type, final Class<?>... ignoreClasses) {
+        try {
+            return resolve(type, ignoreClasses);
+        } catch (GenericsResolutionException ex) {
+            return null;
+        }
+    }
 }
@@ -5,6 +5,7 @@ import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
 import ru.vyarus.java.generics.resolver.error.WrongGenericsContextException;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
 
 import java.lang.reflect.*;
 import java.util.*;
@@ -56,6 +57,9 @@ public abstract class AbstractGenericsContext {
     protected final GenericsInfo genericsInfo;
     protected final Class<?> currentType;
     protected final Map<String, Type> typeGenerics;
+    // current type generics for indexed access (lazy: type generics are finalized in subclass constructor);
+    // list state is published through final fields, so racy initialization is safe
+    private List<Type> typeGenericsList;
 
     @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
     public AbstractGenericsContext(final GenericsInfo genericsInfo, final Class<?> type) {
@@ -137,7 +141,7 @@ public abstract class AbstractGenericsContext {
      * @see #genericTypes() for details
      */
     public Type genericType(final int position) {
-        return genericTypes().get(position);
+        return typeGenericsList().get(position);
     }
 
     /**
@@ -167,7 +171,7 @@ public abstract class AbstractGenericsContext {
      * @see #resolveClass(java.lang.reflect.Type)
      */
     public Class<?> generic(final int position) {
-        return resolveClass(genericTypes().get(position));
+        return resolveClass(typeGenericsList().get(position));
     }
 
     /**
@@ -230,6 +234,15 @@ public abstract class AbstractGenericsContext {
         return new LinkedHashMap<>(typeGenerics);
     }
 
+    /**
+     * Same as {@link #genericsMap()}, but without map copying.
+     *
+     * @return unmodifiable map of current type generics
+     */
+    public Map<String, Type> genericsMapView() {
+        return Collections.unmodifiableMap(typeGenerics);
+    }
+
     /**
      * All reachable generics. Possible generics:
      * <ul>
@@ -247,6 +260,15 @@ public abstract class AbstractGenericsContext {
         return new LinkedHashMap<>(contextGenerics());
     }
 
+    /**
+     * Same as {@link #visibleGenericsMap()}, but without map copying.
+     *
+     * @return unmodifiable map of all generics visible from current context
+     */
+    public Map<String, Type> visibleGenericsMapView() {
+        return Collections.unmodifiableMap(contextGenerics());
+    }
+
     /**
      * @return generics info object, which contains all information of root class hierarchy generics
      */
@@ -279,6 +301,26 @@ public abstract class AbstractGenericsContext {
         return GenericsUtils.resolveClass(type, chooseContext(type).contextGenerics());
     }
 
+    /**
+     * Same as {@link #resolveClass(Type)}, but returns null instead of failing when type contains generics not
+     * visible from current class or unknown generics (no exception thrown).
+     *
+     * @param type type to resolve class
+     * @return resolved type class or null if type can't be resolved in current hierarchy
+     * @see #tryChooseContext(Type)
+     */
+    public Class<?> tryResolveClass(final Type type) {
+        final GenericsContext context = tryChooseContext(type);
+        if (context == null) {
+            return null;
+        }
+        try {
+            return GenericsUtils.resolveClass(type, context.contextGenerics());
+        } catch (UnknownGenericException ex) {
+            return null;
+        }
+    }
+
     /**
      * Shortcut for {@link #resolveClass(Type)} for fields (same as {@code resolveClass(field.getGenericType()}).
      * Use for more informative error message on incorrect usage.
@@ -473,6 +515,18 @@ public abstract class AbstractGenericsContext {
      */
     public abstract GenericsContext type(Class<?> type);
 
+    /**
+     * Same as {@link #type(Class)}, but returns null instead of failing when class is not present in hierarchy
+     * (no exception thrown). Useful for types probing: {@code context.findType(Some.class) != null}.
+     *
+     * @param type class to navigate to
+     * @return new context instance specific to requested class (or current context if type is the same) or null
+     * if requested class not present in root class hierarchy
+     */
+    public GenericsContext findType(final Class<?> type) {
+        return genericsInfo.isComposingType(TypeUtils.wrapPrimitive(type)) ? type(type) : null;
+    }
+
     /**
      * Navigates current context to specific method (type context is switched to method declaring class).
      * It is required because method could contain it's own generics.
@@ -488,6 +542,18 @@ public abstract class AbstractGenericsContext {
      */
     public abstract MethodGenericsContext method(Method method);
 
+    /**
+     * Same as {@link #method(Method)}, but returns null instead of failing when method's declaration class is not
+     * present in hierarchy (no exception thrown).
+     *
+     * @param method method to navigate to
+     * @return new context instance specific to requested method or null if method's declaration class is not
+     * present in current class hierarchy
+     */
+    public MethodGenericsContext tryMethod(final Method method) {
+        return genericsInfo.isComposingType(method.getDeclaringClass()) ? method(method) : null;
+    }
+
     /**
      * Navigates current context to specific constructor (type context is switched to constructor declaring class).
      * It is required because constructor could contain it's own generics.
@@ -503,6 +569,18 @@ public abstract class AbstractGenericsContext {
      */
     public abstract ConstructorGenericsContext constructor(Constructor constructor);
 
+    /**
+     * Same as {@link #constructor(Constructor)}, but returns null instead of failing when constructor's declaration
+     * class is not present in hierarchy (no exception thrown).
+     *
+     * @param constructor constructor to navigate to
+     * @return new context instance specific to requested constructor or null if constructor's declaration class
+     * is not present in current class hierarchy
+     */
+    public ConstructorGenericsContext tryConstructor(final Constructor constructor) {
+        return genericsInfo.isComposingType(constructor.getDeclaringClass()) ? constructor(constructor) : null;
+    }
+
     /**
      * Create generics context for field type (with correctly resolved root generics)."Drill down".
      * <pre>{@code class A<T> {
@@ -566,7 +644,8 @@ public abstract class AbstractGenericsContext {
      * resolve generics (preventing incorrect usage).
      * <p>
      * If provided type did not contains generic then cached type resolution will be used (the same as
-     * {@code GenericsResolver.resolve(Target.class)} and if generics present then type will be built on each call.
+     * {@code GenericsResolver.resolve(Target.class)} and if generics present then type hierarchy will be resolved
+     * on first call and cached inside current descriptor ({@link #getGenericsInfo()}).
      * <p>
      * Returned context holds reference to original (root) context: {@link GenericsContext#rootContext()}.
      * <p>
@@ -625,6 +704,23 @@ public abstract class AbstractGenericsContext {
      */
     public abstract GenericsContext chooseContext(Type type);
 
+    /**
+     * Same as {@link #chooseContext(Type)}, but returns null instead of {@link WrongGenericsContextException}
+     * (no exception thrown).
+     *
+     * @param type type, possibly containing generic variables
+     * @return correct context for generics resolution inside type (or the same context if type does not contains
+     * generics) or null if it is impossible to resolve type in current hierarchy
+     */
+    public GenericsContext tryChooseContext(final Type type) {
+        // default implementation for custom contexts; GenericsContext overrides it to avoid exception creation
+        try {
+            return chooseContext(type);
+        } catch (WrongGenericsContextException ex) {
+            return null;
+        }
+    }
+
     /**
      * For example, {@code class Root extends Base<String>} (and we resolve generics from Root):
      * {@code context.toStringCurrentClass() == "Root"} and
@@ -687,6 +783,15 @@ public abstract class AbstractGenericsContext {
         return switchContext(field.getDeclaringClass(), "Field '" + field.getName() + "'");
     }
 
+    private List<Type> typeGenericsList() {
+        List<Type> res = typeGenericsList;
+        if (res == null) {
+            res = Arrays.asList(typeGenerics.values().toArray(new Type[0]));
+            typeGenericsList = res;
+        }
+        return res;
+    }
+
     private String checkGenericName(final String genericName) {
         if (!contextGenerics().containsKey(genericName)) {
             throw new UnknownGenericException(currentType, genericName, null);
@@ -246,22 +246,19 @@ public class ConstructorGenericsContext extends GenericsContext {
     /**
      * Hierarchy writer with current constructor identification.
      */
-    class ConstructorContextWriter extends RootContextAwareTypeWriter {
+    class ConstructorContextWriter extends StreamingContextWriter {
         @Override
-        public String write(final Class<?> type,
-                            final Map<String, Type> generics,
-                            final Class<?> owner,
-                            final Map<String, Type> ownerGenerics,
-                            final String shift) {
-            String method = "";
+        public void write(final StringBuilder res,
+                          final Class<?> type,
+                          final Map<String, Type> generics,
+                          final Class<?> owner,
+                          final Map<String, Type> ownerGenerics,
+                          final String shift) {
+            super.write(res, type, generics, owner, ownerGenerics, shift);
             if (type == currentType) {
-                method = String.format("%n%s%s%s%s",
-                        shift,
-                        GenericsInfo.SHIFT_MARKER,
-                        toStringConstructor(),
-                        CURRENT_POSITION_MARKER);
+                res.append(System.lineSeparator()).append(shift).append(GenericsInfo.SHIFT_MARKER);
+                TypeToStringUtils.appendConstructor(res, ctor, contextGenerics()).append(CURRENT_POSITION_MARKER);
             }
-            return super.write(type, generics, owner, ownerGenerics, shift) + method;
         }
     }
 }
@@ -0,0 +1,595 @@
+package ru.vyarus.java.generics.resolver.context;
+
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics;
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics;
+import ru.vyarus.java.generics.resolver.util.ClassLoaderPartitions;
+import ru.vyarus.java.generics.resolver.util.GenericInfoUtils;
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
+import ru.vyarus.java.generics.resolver.util.HierarchyPruning;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Generics descriptors cache, used by {@link GenericsInfoFactory}.
+ * <p>
+ * Cache reads are lock-free. Each descriptor is computed exactly once: concurrent requests for the same class
+ * wait for the first computation (per entry lock), while different classes are resolved in parallel.
+ * <p>
+ * Cache could be bounded by entries count and (or) by total weight (descriptor weight is the number of its composing
+ * types plus memoized data: contexts, members table and inlying descriptors, see {@link GenericsInfo#weight()}).
+ * Entry weight is updated when descriptor memoized data grows (and weight limit is checked again). When limit is
+ * exceeded, least frequently used entries are evicted (older entries first for the same frequency). Eviction
+ * removes a part of entries at once (to not evict on each write). When evicted entries count reaches cache size,
+ * all frequency counters are halved (so entries, popular long ago, could be evicted eventually).
+ * <p>
+ * Descriptors, resolved with hierarchy pruning (e.g. ignored classes), are cached separately for each pruning
+ * policy (ignored classes order is not important). Such descriptor is derived from complete descriptor (when it's
+ * already cached) to avoid hierarchy analysis (if possible).
+ * <p>
+ * In soft mode descriptors are referenced with {@link SoftReference} and so could be collected under memory
+ * pressure (entries with collected descriptors are removed from cache).
+ * <p>
+ * Complete descriptors (without ignored classes) are composed from cached hierarchy templates of root class direct
+ * super types (see {@link HierarchyTemplates}), so each shared class hierarchy is analyzed only once. Templates are
+ * retained by cache entries of descriptors, composed from them, and so are evicted (or softly collected) together
+ * with descriptors.
+ * <p>
+ * Entries are partitioned by class loader of root class (see {@link ClassLoaderPartitions}): cache does not
+ * prevent class loader unloading (e.g. on application redeploy), entries are collected together with their class
+ * loader. Pruned descriptors are stored in partition of the youngest class loader of root class and pruning policy
+ * classes (not cached when these class loaders are unrelated). All entries of one class loader could be removed at once. Size and weight limits are applied to all
+ * partitions together.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@SuppressWarnings("PMD.AvoidUsingVolatile")
+final class DescriptorsCache {
+
+    // part of limit, removed in one eviction pass
+    private static final int EVICTION_PERCENT = 10;
+    private static final int MAX_FREQUENCY = Short.MAX_VALUE;
+    // weight marker for entries removed from cache
+    private static final int REMOVED = -2;
+    // weight marker for not yet computed entries
+    private static final int UNKNOWN = -1;
+    private static final Comparator<Entry> EVICTION_ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry o1, final Entry o2) {
+            final int res = Integer.compare(o1.frequency, o2.frequency);
+            return res != 0 ? res : Long.compare(o1.order, o2.order);
+        }
+    };
+
+    // weak keys are useless here because descriptor (value) always references its root class (key), instead
+    // entries are stored in partition of root class loader
+    private final ClassLoaderPartitions<Partition> partitions = new ClassLoaderPartitions<>(
+            new ClassLoaderPartitions.Factory<Partition>() {
+                @Override
+                public Partition create(final Class<?> type) {
+                    return new Partition();
+                }
+            });
+    private final ReferenceQueue<GenericsInfo> collectedQueue = new ReferenceQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong order = new AtomicLong();
+    // evicted entries since last frequencies aging (guarded by eviction lock)
+    private int evictedSinceAging;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder collected = new LongAdder();
+    private final HierarchyTemplates templates = new HierarchyTemplates();
+    // last used limits (applied when cached descriptor weight grows)
+    private volatile int maxSize;
+    private volatile long maxWeight;
+
+    /**
+     * Lock-free cache lookup.
+     *
+     * @param type    root class
+     * @param pruning hierarchy pruning policy (may be empty)
+     * @return cached descriptor or null
+     */
+    GenericsInfo get(final Class<?> type, final HierarchyPruning pruning) {
+        final Class<?> owner = owner(type, pruning);
+        final Entry entry = owner == null ? null : partitions.get(owner).entries.get(key(type, pruning));
+        final GenericsInfo res = entry == null ? null : entry.peek();
+        if (res == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return res;
+    }
+
+    /**
+     * Resolve descriptor and store it in cache (or wait for resolution in other thread).
+     *
+     * @param type      root class
+     * @param pruning   hierarchy pruning policy (may be empty)
+     * @param maxSize   maximum entries count or 0 for no limit
+     * @param maxWeight maximum total weight or 0 for no limit
+     * @param soft      true to reference descriptor with soft reference
+     * @param lazy      true to resolve complete descriptor generics on demand
+     * @return descriptor
+     */
+    GenericsInfo compute(final Class<?> type, final HierarchyPruning pruning,
+                         final int maxSize, final long maxWeight, final boolean soft, final boolean lazy) {
+        purgeCollected();
+        rememberLimits(maxSize, maxWeight);
+        final Class<?> owner = owner(type, pruning);
+        if (owner == null) {
+            // pruning policy references classes of class loader, unrelated to root class loader
+            return resolve(type, lazy, pruning, new ArrayList<>());
+        }
+        final Partition partition = partitions.get(owner);
+        final Object key = key(type, pruning);
+        Entry entry = partition.entries.get(key);
+        if (entry == null) {
+            final Entry created = new Entry(partition, key, type, pruning, soft, lazy);
+            entry = partition.entries.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+            }
+        }
+        final GenericsInfo res = entry.get();
+        if (maxSize > 0 || maxWeight > 0) {
+            evictIfRequired(maxSize, maxWeight);
+        }
+        return res;
+    }
+
+    /**
+     * Store already resolved complete descriptor (e.g. loaded from snapshot). Already cached descriptor is
+     * not replaced.
+     *
+     * @param info      complete descriptor (without ignored classes)
+     * @param maxSize   maximum entries count or 0 for no limit
+     * @param maxWeight maximum total weight or 0 for no limit
+     * @param soft      true to reference descriptor with soft reference
+     * @return true if descriptor stored, false if class descriptor is already cached
+     */
+    boolean put(final GenericsInfo info, final int maxSize, final long maxWeight, final boolean soft) {
+        purgeCollected();
+        rememberLimits(maxSize, maxWeight);
+        final Class<?> type = info.getRootClass();
+        final Partition partition = partitions.get(type);
+        final Entry entry = new Entry(partition, type, type, HierarchyPruning.none(), soft, false);
+        final int infoWeight = entry.init(info);
+        final boolean res = partition.entries.putIfAbsent(type, entry) == null;
+        if (res) {
+            partition.weight.addAndGet(infoWeight);
+            if (maxSize > 0 || maxWeight > 0) {
+                evictIfRequired(maxSize, maxWeight);
+            }
+        } else {
+            entry.discard(info);
+        }
+        return res;
+    }
+
+    /**
+     * Frequency counters are not affected.
+     *
+     * @return cached complete descriptors (without ignored classes)
+     */
+    List<GenericsInfo> descriptors() {
+        final List<GenericsInfo> res = new ArrayList<>();
+        for (Partition partition : partitions.all()) {
+            for (Entry entry : partition.entries.values()) {
+                final GenericsInfo info = entry.key instanceof Class ? entry.current() : null;
+                if (info != null) {
+                    res.add(info);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Remove all cached descriptors.
+     */
+    void clear() {
+        for (Partition partition : partitions.all()) {
+            partition.clear();
+        }
+        templates.clear();
+    }
+
+    /**
+     * Remove all descriptors (and hierarchy templates) of classes, loaded by provided class loader.
+     *
+     * @param loader class loader (null for bootstrap loader)
+     * @return count of removed descriptors
+     */
+    int clear(final ClassLoader loader) {
+        final Partition partition = partitions.find(loader);
+        final int res = partition == null ? 0 : partition.clear();
+        templates.clear(loader);
+        return res;
+    }
+
+    /**
+     * @return current cache stats
+     */
+    GenericsInfoFactory.CacheStats stats() {
+        purgeCollected();
+        int size = 0;
+        long totalWeight = 0;
+        for (Partition partition : partitions.all()) {
+            size += partition.entries.size();
+            totalWeight += partition.weight.get();
+        }
+        return new GenericsInfoFactory.CacheStats(size, totalWeight, templates.size(),
+                hits.sum(), misses.sum(), evictions.sum(), collected.sum());
+    }
+
+    private void rememberLimits(final int maxSize, final long maxWeight) {
+        // avoid volatile writes when limits are not changed
+        if (this.maxSize != maxSize) {
+            this.maxSize = maxSize;
+        }
+        if (this.maxWeight != maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+    }
+
+    /**
+     * Pruned descriptor references pruning policy, which could reference classes of other class loaders (pruned
+     * classes, annotations or predicate). Such entry is stored in partition of the youngest class loader among all
+     * these classes, so it does not prevent unloading of any of them.
+     *
+     * @param type    root class
+     * @param pruning hierarchy pruning policy (may be empty)
+     * @return class of entry partition or null if classes of unrelated class loaders are used (can't be cached)
+     */
+    private static Class<?> owner(final Class<?> type, final HierarchyPruning pruning) {
+        if (pruning.isEmpty()) {
+            return type;
+        }
+        final List<Type> types = new ArrayList<>();
+        types.add(type);
+        Collections.addAll(types, pruning.getClasses());
+        types.addAll(pruning.getAnnotations());
+        if (pruning.getPredicate() != null) {
+            types.add(pruning.getPredicate().getClass());
+        }
+        return ClassLoaderPartitions.owner(types.toArray(new Type[0]));
+    }
+
+    private static Object key(final Class<?> type, final HierarchyPruning pruning) {
+        return pruning.isEmpty() ? type : new PruningKey(type, pruning);
+    }
+
+    @SuppressWarnings("PMD.LooseCoupling")
+    private GenericsInfo resolve(final Class<?> type, final boolean lazy, final HierarchyPruning pruning,
+                                 final List<Object> usedTemplates) {
+        GenericsInfo res = null;
+        if (pruning.isEmpty()) {
+            // precomputed at compile time (if available)
+            res = PrecomputedGenerics.load(type);
+            if (res == null && lazy) {
+                res = LazyHierarchy.create(type);
+            }
+            // compose from super types templates (when possible)
+            final Map<Class<?>, LinkedHashMap<String, Type>> types = res != null ? null
+                    : templates.resolve(type, GenericsResolutionUtils.resolveRawGenerics(type), usedTemplates);
+            if (types != null) {
+                res = new GenericsInfo(type, types);
+            }
+        } else {
+            // try to derive from complete descriptor (if cached)
+            final Entry complete = partitions.get(type).entries.get(type);
+            final GenericsInfo info = complete == null ? null : complete.peek();
+            if (info != null) {
+                res = GenericInfoUtils.limit(info, pruning);
+            }
+        }
+        return res == null ? GenericInfoUtils.create(type, pruning) : res;
+    }
+
+    private void evictIfRequired(final int maxSize, final long maxWeight) {
+        // only one thread performs eviction (others don't need to wait for it)
+        final List<Partition> all = partitions.all();
+        if (isOverLimit(all, maxSize, maxWeight, 0) && evictionLock.tryLock()) {
+            try {
+                if (!isOverLimit(all, maxSize, maxWeight, 0)) {
+                    return;
+                }
+                final List<Entry> candidates = new ArrayList<>();
+                for (Partition partition : all) {
+                    for (Entry entry : partition.entries.values()) {
+                        // entries in resolution could not be evicted
+                        if (entry.value != null) {
+                            candidates.add(entry);
+                        }
+                    }
+                }
+                Collections.sort(candidates, EVICTION_ORDER);
+                for (Entry entry : candidates) {
+                    if (!isOverLimit(all, maxSize, maxWeight, EVICTION_PERCENT)) {
+                        break;
+                    }
+                    if (remove(entry)) {
+                        evictions.increment();
+                        evictedSinceAging++;
+                    }
+                }
+                // aging: recently added entries must be able to compete with entries, popular long ago
+                if (evictedSinceAging >= size(all)) {
+                    for (Partition partition : all) {
+                        for (Entry entry : partition.entries.values()) {
+                            entry.frequency >>>= 1;
+                        }
+                    }
+                    evictedSinceAging = 0;
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private static boolean isOverLimit(final List<Partition> all, final int maxSize, final long maxWeight,
+                                       final int reservePercent) {
+        return maxSize > 0 && size(all) > maxSize - maxSize * reservePercent / 100
+                || maxWeight > 0 && weight(all) > maxWeight - maxWeight * reservePercent / 100;
+    }
+
+    private static int size(final List<Partition> all) {
+        int res = 0;
+        for (Partition partition : all) {
+            res += partition.entries.size();
+        }
+        return res;
+    }
+
+    private static long weight(final List<Partition> all) {
+        long res = 0;
+        for (Partition partition : all) {
+            res += partition.weight.get();
+        }
+        return res;
+    }
+
+    private static boolean remove(final Entry entry) {
+        final Partition partition = entry.partition;
+        final boolean removed = partition.entries.remove(entry.key, entry);
+        if (removed) {
+            final int entryWeight = entry.weight.getAndSet(REMOVED);
+            if (entryWeight > 0) {
+                partition.weight.addAndGet(-entryWeight);
+            }
+        }
+        return removed;
+    }
+
+    private void purgeCollected() {
+        Reference<? extends GenericsInfo> ref = collectedQueue.poll();
+        while (ref != null) {
+            final Entry entry = ((DescriptorReference) ref).entry;
+            // entry could be already re-computed (value replaced)
+            if (entry.value == ref && remove(entry)) {
+                collected.increment();
+            }
+            ref = collectedQueue.poll();
+        }
+    }
+
+    /**
+     * Cache entry, holding lazily computed descriptor. Computation lock is per entry, so only threads requesting
+     * the same class wait for each other. Resolved descriptor is read without locking. Entry listens for descriptor
+     * memoized data growth to keep entry weight actual.
+     */
+    private final class Entry implements GenericsInfo.WeightListener {
+        private final Partition partition;
+        private final Object key;
+        private final Class<?> type;
+        private final HierarchyPruning pruning;
+        private final boolean soft;
+        private final boolean lazy;
+        private final long order;
+        // descriptor weight, accounted in total weight (set after computation)
+        private final AtomicInteger weight = new AtomicInteger(UNKNOWN);
+        // either descriptor or soft reference to descriptor
+        private volatile Object value;
+        // hierarchy templates, used for descriptor composition (referenced to retain templates while entry is cached)
+        @SuppressWarnings("PMD.UnusedPrivateField")
+        private volatile List<Object> templates;
+        // approximate usage counter (lost concurrent updates are not important)
+        private int frequency;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        Entry(final Partition partition, final Object key, final Class<?> type, final HierarchyPruning pruning,
+              final boolean soft, final boolean lazy) {
+            this.partition = partition;
+            this.key = key;
+            this.type = type;
+            this.pruning = pruning;
+            this.soft = soft;
+            this.lazy = lazy;
+            this.order = DescriptorsCache.this.order.incrementAndGet();
+            // count creation as first usage
+            this.frequency = 1;
+        }
+
+        GenericsInfo current() {
+            final Object val = value;
+            return val instanceof DescriptorReference ? ((DescriptorReference) val).get() : (GenericsInfo) val;
+        }
+
+        GenericsInfo peek() {
+            final GenericsInfo res = current();
+            if (res != null && frequency < MAX_FREQUENCY) {
+                frequency++;
+            }
+            return res;
+        }
+
+        GenericsInfo get() {
+            GenericsInfo res = peek();
+            if (res == null) {
+                synchronized (this) {
+                    res = peek();
+                    if (res == null) {
+                        final GenericsMetrics metrics = ResolverMetrics.get();
+                        final long start = metrics == null ? 0 : System.nanoTime();
+                        final List<Object> used = new ArrayList<>();
+                        try {
+                            res = resolve(type, lazy, pruning, used);
+                        } catch (RuntimeException ex) {
+                            // do not keep failed entry: next call would try to resolve again
+                            remove(this);
+                            throw ex;
+                        }
+                        if (metrics != null) {
+                            metrics.descriptorComputed(type, res.size(), System.nanoTime() - start);
+                        }
+                        templates = used.isEmpty() ? null : used;
+                        store(res);
+                    }
+                }
+            }
+            return res;
+        }
+
+        /**
+         * Store resolved descriptor. Weight is accounted only if entry was not removed during computation
+         * (re-computed soft descriptor replaces weight of collected descriptor).
+         *
+         * @param info descriptor
+         */
+        void store(final GenericsInfo info) {
+            // descriptor is not yet published, so all memoized data growth would be notified
+            info.setWeightListener(this);
+            final int infoWeight = info.weight();
+            int current = weight.get();
+            while (current != REMOVED && !weight.compareAndSet(current, infoWeight)) {
+                current = weight.get();
+            }
+            if (current != REMOVED) {
+                partition.weight.addAndGet(infoWeight - Math.max(current, 0));
+            }
+            value = soft ? new DescriptorReference(info, this, collectedQueue) : info;
+        }
+
+        /**
+         * Initialize not yet published entry with already resolved descriptor (weight must be accounted after
+         * publication).
+         *
+         * @param info descriptor
+         * @return descriptor weight
+         */
+        int init(final GenericsInfo info) {
+            info.setWeightListener(this);
+            final int res = info.weight();
+            weight.set(res);
+            value = soft ? new DescriptorReference(info, this, collectedQueue) : info;
+            return res;
+        }
+
+        /**
+         * Called when initialized entry was not published.
+         *
+         * @param info entry descriptor
+         */
+        void discard(final GenericsInfo info) {
+            weight.set(REMOVED);
+            info.setWeightListener(null);
+        }
+
+        @Override
+        public void weightChanged(final int delta) {
+            int current;
+            do {
+                current = weight.get();
+                // not yet stored (would be counted on store) or removed
+                if (current < 0) {
+                    return;
+                }
+            } while (!weight.compareAndSet(current, current + delta));
+            partition.weight.addAndGet(delta);
+            final int size = maxSize;
+            final long total = maxWeight;
+            if (total > 0) {
+                evictIfRequired(size, total);
+            }
+        }
+    }
+
+    /**
+     * Entries of one class loader (root classes loader).
+     */
+    private static final class Partition {
+        // key is either root class (most common case) or root class with pruning policy
+        private final ConcurrentMap<Object, Entry> entries = new ConcurrentHashMap<>();
+        private final AtomicLong weight = new AtomicLong();
+
+        int clear() {
+            int res = 0;
+            for (Entry entry : entries.values()) {
+                if (remove(entry)) {
+                    res++;
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Cache key for descriptors, resolved with hierarchy pruning policy (policies with the same rules are equal).
+     */
+    private static final class PruningKey {
+        private final Class<?> type;
+        private final HierarchyPruning pruning;
+        private final int hash;
+
+        PruningKey(final Class<?> type, final HierarchyPruning pruning) {
+            this.type = type;
+            this.pruning = pruning;
+            this.hash = 31 * type.hashCode() + pruning.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PruningKey)) {
+                return false;
+            }
+            final PruningKey key = (PruningKey) o;
+            return hash == key.hash && type == key.type && pruning.equals(key.pruning);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Soft reference to descriptor, aware of cache entry.
+     */
+    private static final class DescriptorReference extends SoftReference<GenericsInfo> {
+        private final Entry entry;
+
+        DescriptorReference(final GenericsInfo referent,
+                            final Entry entry,
+                            final ReferenceQueue<? super GenericsInfo> queue) {
+            super(referent, queue);
+            this.entry = entry;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package ru.vyarus.java.generics.resolver.context;
 
 import ru.vyarus.java.generics.resolver.error.WrongGenericsContextException;
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics;
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics;
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
 import ru.vyarus.java.generics.resolver.util.GenericInfoUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
@@ -140,72 +143,93 @@ public class GenericsContext extends AbstractGenericsContext {
 
     @Override
     public GenericsContext type(final Class<?> type) {
-        return type == currentType ? this : new GenericsContext(genericsInfo, TypeUtils.wrapPrimitive(type), root);
+        if (type == currentType) {
+            return this;
+        }
+        // type contexts of not inlying context depend only on descriptor and so cached there
+        GenericsContext res = root == null ? genericsInfo.getTypeContext(type) : null;
+        if (res == null) {
+            res = new GenericsContext(genericsInfo, TypeUtils.wrapPrimitive(type), root);
+            if (root == null) {
+                res = genericsInfo.cacheTypeContext(res);
+            }
+        }
+        return res;
     }
 
     @Override
     public MethodGenericsContext method(final Method method) {
-        // no need for switch, just for more concrete error message
-        final GenericsContext context = switchContext(method.getDeclaringClass(),
-                String.format("Method '%s'", TypeToStringUtils.toStringMethod(method, PRINTABLE_GENERICS)));
-        return new MethodGenericsContext(context.genericsInfo, method, root);
+        // member contexts of not inlying context depend only on descriptor and so cached there
+        MethodGenericsContext res = root == null
+                ? (MethodGenericsContext) genericsInfo.getMemberContext(method) : null;
+        if (res == null) {
+            // no need for switch, just for more concrete error message
+            final GenericsContext context = switchContext4member(method);
+            res = new MethodGenericsContext(context.genericsInfo, method, root);
+            if (root == null) {
+                res = (MethodGenericsContext) genericsInfo.cacheMemberContext(method, res);
+            }
+        }
+        return res;
     }
 
     @Override
     public ConstructorGenericsContext constructor(final Constructor constructor) {
-        // no need for switch, just for more concrete error message
-        final GenericsContext context = switchContext(constructor.getDeclaringClass(),
-                String.format("Constructor '%s'",
-                        TypeToStringUtils.toStringConstructor(constructor, PRINTABLE_GENERICS)));
-        return new ConstructorGenericsContext(context.genericsInfo, constructor, root);
+        // member contexts of not inlying context depend only on descriptor and so cached there
+        ConstructorGenericsContext res = root == null
+                ? (ConstructorGenericsContext) genericsInfo.getMemberContext(constructor) : null;
+        if (res == null) {
+            // no need for switch, just for more concrete error message
+            final GenericsContext context = switchContext4member(constructor);
+            res = new ConstructorGenericsContext(context.genericsInfo, constructor, root);
+            if (root == null) {
+                res = (ConstructorGenericsContext) genericsInfo.cacheMemberContext(constructor, res);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Resolve all members of hierarchy types at once: declared fields types, declared methods signatures and
+     * bean properties types. Table is computed on first call and cached inside descriptor, so it is shared by all
+     * contexts of the same descriptor (and for inlying contexts too).
+     * <p>
+     * Use for bulk introspection instead of resolving each member separately
+     * (with {@link #resolveFieldType(Field)} or {@link #method(Method)}).
+     *
+     * @return resolved members table of current hierarchy
+     */
+    public MembersTable members() {
+        return genericsInfo.getMembersTable(this);
     }
 
     @Override
     public GenericsContext inlyingType(final Type type) {
         // check type compatibility
         final GenericsContext root = chooseContext(type);
-        // always wrap primitive because context may be build only for real class (it would require too much
-        // of additional checks to properly support primitive-based contexts; usually it could be easilly
-        // checked manually)
-        final Class target = TypeUtils.wrapPrimitive(root.resolveClass(type));
-        final GenericsInfo generics;
-
-        if (target.getTypeParameters().length > 0 || couldRequireKnownOuterGenerics(root, type)) {
-            // resolve class hierarchy in context (non cachable context)
-            // can't be primitive here
-            generics = GenericInfoUtils.create(root, type, genericsInfo.getIgnoredTypes());
-        } else {
-            // class without generics - use cachable context
-            generics = GenericsInfoFactory.create(target, genericsInfo.getIgnoredTypes());
-        }
-
-        return new GenericsContext(generics, target, root);
+        final GenericsInfo generics = inlyingDescriptor(root, type, null);
+        return new GenericsContext(generics, generics.getRootClass(), root);
     }
 
     @Override
     public GenericsContext inlyingTypeAs(final Type type, final Class<?> asType) {
         // check type compatibility
         final GenericsContext root = chooseContext(type);
-        // always wrap primitive because context may be build only for real class (it would require too much
-        // of additional checks to properly support primitive-based contexts; usually it could be easilly
-        // checked manually)
-        final Class target = TypeUtils.wrapPrimitive(root.resolveClass(type));
-        final GenericsInfo generics;
-        if (target.getTypeParameters().length > 0
-                || couldRequireKnownOuterGenerics(root, type) || couldRequireKnownOuterGenerics(root, asType)) {
-            // resolve class hierarchy in context and from higher type (non cachable context)
-            // can't be primitive
-            generics = GenericInfoUtils.create(root, type, asType, genericsInfo.getIgnoredTypes());
-        } else {
-            // class without generics - use cachable context
-            generics = GenericsInfoFactory.create(asType, genericsInfo.getIgnoredTypes());
-        }
-        return new GenericsContext(generics, asType, root);
+        return new GenericsContext(inlyingDescriptor(root, type, asType), asType, root);
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidDeeplyNestedIfStmts")
     public GenericsContext chooseContext(final Type type) {
+        return chooseContext(type, true);
+    }
+
+    @Override
+    public GenericsContext tryChooseContext(final Type type) {
+        return chooseContext(type, false);
+    }
+
+    @SuppressWarnings("PMD.AvoidDeeplyNestedIfStmts")
+    private GenericsContext chooseContext(final Type type, final boolean failOnWrongContext) {
         if (!(type instanceof Class)) {
             // find variable, incompatible with current context
             final TypeVariable var = GenericsUtils
@@ -234,6 +258,9 @@ public class GenericsContext extends AbstractGenericsContext {
                         return context;
                     }
                 }
+                if (!failOnWrongContext) {
+                    return null;
+                }
                 // can't switch - notify incompatible context
                 throw new WrongGenericsContextException(type, var, currentType, genericsInfo);
             }
@@ -282,6 +309,89 @@ public class GenericsContext extends AbstractGenericsContext {
         }
     }
 
+    /**
+     * Error message prefix is rendered only when member declaring type is not present in hierarchy (to avoid
+     * member rendering on each successful switch).
+     *
+     * @param member method or constructor
+     * @return correct context for member declaring type (may be current context instance)
+     * @throws IllegalArgumentException when context can't be switched
+     */
+    private GenericsContext switchContext4member(final Member member) {
+        final Class<?> target = member.getDeclaringClass();
+        if (genericsInfo.isComposingType(target)) {
+            return type(target);
+        }
+        final String prefix = member instanceof Method
+                ? String.format("Method '%s'", TypeToStringUtils.toStringMethod((Method) member, PRINTABLE_GENERICS))
+                : String.format("Constructor '%s'",
+                TypeToStringUtils.toStringConstructor((Constructor) member, PRINTABLE_GENERICS));
+        return switchContext(target, prefix);
+    }
+
+    /**
+     * Inlying descriptors are cached inside root descriptor (by context generics source, type and target type),
+     * so repeated navigation would not resolve hierarchy again.
+     *
+     * @param root   correct context for type resolution
+     * @param type   type to build inlying descriptor for
+     * @param asType target type or null
+     * @return inlying descriptor
+     */
+    private GenericsInfo inlyingDescriptor(final GenericsContext root, final Type type, final Class<?> asType) {
+        final GenericsInfo.InlyingKey key = GenericsInfo.InlyingKey.isCacheable(type)
+                ? new GenericsInfo.InlyingKey(root.getGenericsSource(), type, asType) : null;
+        GenericsInfo res = key == null ? null : genericsInfo.getInlyingDescriptor(key);
+        if (res == null) {
+            final GenericsMetrics metrics = ResolverMetrics.get();
+            final long start = metrics == null ? 0 : System.nanoTime();
+            res = asType == null ? buildInlyingDescriptor(root, type) : buildInlyingDescriptor(root, type, asType);
+            if (metrics != null) {
+                metrics.inlyingContextBuilt(res.getRootClass(), System.nanoTime() - start);
+            }
+            if (key != null) {
+                res = genericsInfo.cacheInlyingDescriptor(key, res);
+            }
+        }
+        return res;
+    }
+
+    private GenericsInfo buildInlyingDescriptor(final GenericsContext root, final Type type) {
+        // always wrap primitive because context may be build only for real class (it would require too much
+        // of additional checks to properly support primitive-based contexts; usually it could be easilly
+        // checked manually)
+        final Class target = TypeUtils.wrapPrimitive(root.resolveClass(type));
+        final GenericsInfo generics;
+
+        if (ClassMetadata.hasTypeParameters(target) || couldRequireKnownOuterGenerics(root, type)) {
+            // resolve class hierarchy in context (non cachable context)
+            // can't be primitive here
+            generics = GenericInfoUtils.create(root, type, genericsInfo.getPruning());
+        } else {
+            // class without generics - use cachable context
+            generics = GenericsInfoFactory.create(target, genericsInfo.getPruning());
+        }
+        return generics;
+    }
+
+    private GenericsInfo buildInlyingDescriptor(final GenericsContext root, final Type type, final Class<?> asType) {
+        // always wrap primitive because context may be build only for real class (it would require too much
+        // of additional checks to properly support primitive-based contexts; usually it could be easilly
+        // checked manually)
+        final Class target = TypeUtils.wrapPrimitive(root.resolveClass(type));
+        final GenericsInfo generics;
+        if (ClassMetadata.hasTypeParameters(target)
+                || couldRequireKnownOuterGenerics(root, type) || couldRequireKnownOuterGenerics(root, asType)) {
+            // resolve class hierarchy in context and from higher type (non cachable context)
+            // can't be primitive
+            generics = GenericInfoUtils.create(root, type, asType, genericsInfo.getPruning());
+        } else {
+            // class without generics - use cachable context
+            generics = GenericsInfoFactory.create(asType, genericsInfo.getPruning());
+        }
+        return generics;
+    }
+
     /**
      * Inner class could use outer class generics, and if outer class is known (in current hierarchy),
      * we can assume to use it's generics (correct for most cases, but may be corner cases).
@@ -296,6 +406,21 @@ public class GenericsContext extends AbstractGenericsContext {
         return outer != null && genericsInfo.getComposingTypes().contains(root.resolveClass(outer));
     }
 
+    /**
+     * Append root context info for inlying context root class.
+     *
+     * @param res  builder to append to
+     * @param type current hierarchy type
+     * @return provided builder
+     */
+    private StringBuilder appendRootContext(final StringBuilder res, final Class<?> type) {
+        if (root != null && type == genericsInfo.getRootClass()) {
+            TypeToStringUtils.appendWithGenerics(res.append("  resolved in context of "),
+                    rootContext().genericsInfo.getRootClass(), rootContext().genericsMapView());
+        }
+        return res;
+    }
+
     /**
      * Hierarchy writer with root context info (if available).
      */
@@ -306,30 +431,43 @@ public class GenericsContext extends AbstractGenericsContext {
                             final Class<?> owner,
                             final Map<String, Type> ownerGenerics,
                             final String shift) {
-            String res = super.write(type, generics, owner, ownerGenerics, shift);
-            if (root != null && type == genericsInfo.getRootClass()) {
-                res += String.format("  resolved in context of %s",
-                        TypeToStringUtils.toStringWithGenerics(rootContext().genericsInfo.getRootClass(),
-                                rootContext().genericsMap()));
-            }
-            return res;
+            final StringBuilder res = new StringBuilder(super.write(type, generics, owner, ownerGenerics, shift));
+            return appendRootContext(res, type).toString();
+        }
+    }
+
+    /**
+     * Hierarchy writer with root context info (if available), appending types directly into hierarchy string.
+     */
+    abstract class StreamingContextWriter extends GenericsInfo.DefaultStreamingTypeWriter {
+        @Override
+        public void write(final StringBuilder res,
+                          final Class<?> type,
+                          final Map<String, Type> generics,
+                          final Class<?> owner,
+                          final Map<String, Type> ownerGenerics,
+                          final String shift) {
+            super.write(res, type, generics, owner, ownerGenerics, shift);
+            appendRootContext(res, type);
         }
     }
 
     /**
      * Hierarchy writer with current type identification and root context info (if available).
      */
-    class TypeContextWriter extends RootContextAwareTypeWriter {
+    class TypeContextWriter extends StreamingContextWriter {
 
         @Override
-        public String write(final Class<?> type,
-                            final Map<String, Type> generics,
-                            final Class<?> owner,
-                            final Map<String, Type> ownerGenerics,
-                            final String shift) {
-            final String res = super.write(type, generics, owner, ownerGenerics, shift);
-            final String pointer = type == currentType ? CURRENT_POSITION_MARKER : "";
-            return res + pointer;
+        public void write(final StringBuilder res,
+                          final Class<?> type,
+                          final Map<String, Type> generics,
+                          final Class<?> owner,
+                          final Map<String, Type> ownerGenerics,
+                          final String shift) {
+            super.write(res, type, generics, owner, ownerGenerics, shift);
+            if (type == currentType) {
+                res.append(CURRENT_POSITION_MARKER);
+            }
         }
     }
 }
@@ -1,11 +1,27 @@
 package ru.vyarus.java.generics.resolver.context;
 
+import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
+import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
+import ru.vyarus.java.generics.resolver.util.ClassLoaderPartitions;
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.HierarchyPruning;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+import ru.vyarus.java.generics.resolver.util.type.instance.InstanceType;
 
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static ru.vyarus.java.generics.resolver.util.TypeToStringUtils.toStringWithGenerics;
 
@@ -17,11 +33,22 @@ import static ru.vyarus.java.generics.resolver.util.TypeToStringUtils.toStringWi
  * <p>
  * Maps also may hold outer type's generics (if type is inner class), because inner classes could access outer
  * generics ({@link GenericsContext} for separation logic).
+ * <p>
+ * Hierarchy is stored compactly: types array (root type first) with generics of each type in declaration order
+ * (plus types index for fast lookup). Map-based getters create maps from this data.
+ * <p>
+ * Complete descriptor could be lazy (see {@link GenericsInfoFactory#LAZY_PROPERTY}): hierarchy types are known,
+ * but type generics are resolved on first request (resolved generics are stored and shared between threads).
+ * <p>
+ * Descriptor also holds descriptors of inlying contexts, resolved in context of this descriptor (so repeated
+ * inlying context navigation would not resolve type hierarchy again), type, method (constructor) contexts and
+ * resolved members table ({@link MembersTable}). Memoized data is counted in descriptor weight (used by cache
+ * limits), so cache is notified about its growth.
  *
  * @author Vyacheslav Rusakov
  * @since 16.10.2014
  */
-@SuppressWarnings("PMD.LooseCoupling")
+@SuppressWarnings({"PMD.LooseCoupling", "PMD.AvoidUsingVolatile"})
 public class GenericsInfo {
 
     /**
@@ -29,21 +56,87 @@ public class GenericsInfo {
      */
     public static final String SHIFT_MARKER = "  ";
 
-    private static final TypeWriter DEFAULT_WRITER = new DefaultTypeWriter();
+    private static final TypeWriter DEFAULT_WRITER = new DefaultStreamingTypeWriter();
+    private static final String NEW_LINE = System.lineSeparator();
     private static final String EXTENDS_MARKER = "extends ";
     private static final String IMPLEMENTS_MARKER = "implements ";
+    private static final String[] NO_NAMES = new String[0];
+    private static final Type[] NO_GENERICS = new Type[0];
+    // protection from unlimited growth (e.g. when inlying contexts are built for dynamic types)
+    private static final int MAX_INLYING_DESCRIPTORS = 1024;
 
     private final Class<?> root;
-    // super interface type -> generic name -> generic type (either class or parametrized type or generic array)
-    private final Map<Class<?>, LinkedHashMap<String, Type>> types;
-    private final Class[] ignoredTypes;
+    // hierarchy types (root type is always first)
+    private final Class<?>[] types;
+    // generic names of each type (including outer class generics for inner types)
+    private final String[][] names;
+    // resolved generics of each type in names order (either class or parametrized type or generic array)
+    private final Type[][] generics;
+    // open addressing hash index: type hash -> type position + 1 (0 is empty slot)
+    private final int[] index;
+    private final HierarchyPruning pruning;
+    // outer class of each type (or null), used to search context by declaration type (lazy)
+    private volatile Class<?>[] outers;
+    // inlying descriptors, resolved in context of this descriptor
+    private final ConcurrentMap<InlyingKey, GenericsInfo> inlyingDescriptors = new ConcurrentHashMap<>();
+    // method and constructor contexts (only for not inlying contexts)
+    private final ConcurrentMap<Member, GenericsContext> memberContexts = new ConcurrentHashMap<>();
+    // type contexts (only for not inlying contexts) by type position
+    private final AtomicReferenceArray<GenericsContext> typeContexts;
+    // lazy generics resolution (null when all generics are resolved)
+    private final LazyHierarchy lazy;
+    // resolved members of all hierarchy types (lazy)
+    private final AtomicReference<MembersTable> members = new AtomicReference<>();
+    // weight of memoized data (inlying descriptors, contexts and members table)
+    private final AtomicInteger memosWeight = new AtomicInteger();
+    // notified about memoized data growth (cache entry or parent descriptor)
+    private volatile WeightListener weightListener;
 
     public GenericsInfo(final Class<?> root,
                         final Map<Class<?>, LinkedHashMap<String, Type>> types,
                         final Class... ignoredTypes) {
+        this(root, types, HierarchyPruning.ignore((Class<?>[]) ignoredTypes));
+    }
+
+    public GenericsInfo(final Class<?> root,
+                        final Map<Class<?>, LinkedHashMap<String, Type>> types,
+                        final HierarchyPruning pruning) {
+        this.root = root;
+        this.pruning = pruning;
+        final int size = types.size();
+        this.types = new Class<?>[size];
+        this.names = new String[size][];
+        this.generics = new Type[size][];
+        int pos = 0;
+        if (types.containsKey(root)) {
+            store(pos++, root, types.get(root));
+        }
+        for (Map.Entry<Class<?>, LinkedHashMap<String, Type>> entry : types.entrySet()) {
+            if (entry.getKey() != root) {
+                store(pos++, entry.getKey(), entry.getValue());
+            }
+        }
+        this.index = buildIndex(this.types);
+        this.typeContexts = new AtomicReferenceArray<>(size);
+        this.lazy = null;
+    }
+
+    /**
+     * Lazy descriptor: only hierarchy types are known, type generics are resolved on first request.
+     *
+     * @param root  root class
+     * @param types hierarchy types (root type first)
+     * @param lazy  generics resolver
+     */
+    GenericsInfo(final Class<?> root, final Class<?>[] types, final LazyHierarchy lazy) {
         this.root = root;
+        this.pruning = HierarchyPruning.none();
         this.types = types;
-        this.ignoredTypes = ignoredTypes;
+        this.names = new String[types.length][];
+        this.generics = new Type[types.length][];
+        this.index = buildIndex(types);
+        this.typeContexts = new AtomicReferenceArray<>(types.length);
+        this.lazy = lazy;
     }
 
     /**
@@ -59,32 +152,74 @@ public class GenericsInfo {
      * @throws IllegalArgumentException is requested class is not present in root class hierarchy
      */
     public Map<String, Type> getTypeGenerics(final Class<?> type) {
-        if (!types.containsKey(type)) {
+        final int pos = indexOf(type);
+        if (pos < 0) {
             throw new IllegalArgumentException(String.format("Type %s is not assignable from %s",
                     type.getName(), root.getName()));
         }
-        return new LinkedHashMap<>(types.get(type));
+        return toMap(pos);
+    }
+
+    /**
+     * Same as {@link #getTypeGenerics(Class)}, but without map copying.
+     *
+     * @param type class to get generics for
+     * @return unmodifiable map of resolved generics for class
+     * @throws IllegalArgumentException is requested class is not present in root class hierarchy
+     */
+    public Map<String, Type> getTypeGenericsView(final Class<?> type) {
+        final int pos = indexOf(type);
+        if (pos < 0) {
+            throw new IllegalArgumentException(String.format("Type %s is not assignable from %s",
+                    type.getName(), root.getName()));
+        }
+        resolve(pos);
+        return names[pos].length == 0 ? Collections.<String, Type>emptyMap()
+                : new GenericsView(names[pos], generics[pos]);
     }
 
     /**
      * @return list of all classes (and interfaces) of root class hierarchy
      */
     public Set<Class<?>> getComposingTypes() {
-        return new HashSet<>(types.keySet());
+        return new HashSet<>(Arrays.asList(types));
+    }
+
+    /**
+     * Faster alternative for {@code getComposingTypes().contains(type)}.
+     *
+     * @param type class to check
+     * @return true if class is present in root class hierarchy
+     */
+    public boolean isComposingType(final Class<?> type) {
+        return indexOf(type) >= 0;
     }
 
     /**
      * @return types ignored from analysis (all specified types to ignore)
+     * @see #getPruning() for complete pruning policy
      */
     public Class[] getIgnoredTypes() {
-        return Arrays.copyOf(ignoredTypes, ignoredTypes.length);
+        return pruning.getClasses();
+    }
+
+    /**
+     * @return hierarchy pruning policy, used for analysis (empty policy for complete descriptor)
+     */
+    public HierarchyPruning getPruning() {
+        return pruning;
     }
 
     /**
      * @return all known types in hierarchy with known generics
      */
     public Map<Class<?>, LinkedHashMap<String, Type>> getTypesMap() {
-        return new HashMap<>(types);
+        final Map<Class<?>, LinkedHashMap<String, Type>> res = new HashMap<>();
+        for (int i = 0; i < types.length; i++) {
+            resolve(i);
+            res.put(types[i], names[i].length == 0 ? EmptyGenericsMap.getInstance() : toMap(i));
+        }
+        return res;
     }
 
     /**
@@ -98,22 +233,18 @@ public class GenericsInfo {
      * @return required context class or null if impossible to resolve in current hierarchy
      */
     public Class<?> findContextByDeclarationType(final Class<?> declarationType) {
-        Class<?> res = null;
-        final Set<Class<?>> composingTypes = types.keySet();
-        if (composingTypes.contains(declarationType)) {
-            res = declarationType;
-        } else {
-            for (Class type : composingTypes) {
-                // try to find matching context by outer class (generic may belong to outer class
-                // for one of context classes)
-                final Class<?> outer = (Class) TypeUtils.getOuter(type);
-                if (declarationType.equals(outer)) {
-                    res = type;
-                    break;
-                }
+        if (indexOf(declarationType) >= 0) {
+            return declarationType;
+        }
+        // try to find matching context by outer class (generic may belong to outer class
+        // for one of context classes)
+        final Class<?>[] outerTypes = getOuters();
+        for (int i = 0; i < outerTypes.length; i++) {
+            if (declarationType.equals(outerTypes[i])) {
+                return types[i];
             }
         }
-        return res;
+        return null;
     }
 
     /**
@@ -133,9 +264,20 @@ public class GenericsInfo {
      * @return current hierarchy with resolved generics
      */
     public String toStringHierarchy(final TypeWriter typeWriter) {
-        final StringBuilder res = new StringBuilder(types.size() * 50);
+        return appendHierarchy(new StringBuilder(types.length * 50), typeWriter).toString();
+    }
+
+    /**
+     * Same as {@link #toStringHierarchy(TypeWriter)}, but appends hierarchy to provided builder. Use
+     * {@link StreamingTypeWriter} to avoid intermediate strings for each type.
+     *
+     * @param res        builder to append hierarchy to
+     * @param typeWriter custom type writer
+     * @return provided builder
+     */
+    public StringBuilder appendHierarchy(final StringBuilder res, final TypeWriter typeWriter) {
         writeHierarchy(root, "", "", res, typeWriter);
-        return res.toString();
+        return res;
     }
 
     private void writeHierarchy(final Class<?> type,
@@ -143,27 +285,453 @@ public class GenericsInfo {
                                 final String prefix,
                                 final StringBuilder res,
                                 final TypeWriter typeWriter) {
-        final LinkedHashMap<String, Type> generics = types.get(type);
+        final LinkedHashMap<String, Type> generics = toMap(indexOf(type));
         final Map<String, Type> ownerGenerics = GenericsUtils.extractOwnerGenerics(type, generics);
         final Map<String, Type> typeGenerics = GenericsUtils.extractTypeGenerics(type, generics);
         final Class<?> outer = (Class<?>) TypeUtils.getOuter(type);
-        res.append(String.format("%s%s%s%n",
-                shift, prefix.isEmpty() ? (type.isInterface() ? "interface " : "class ") : prefix,
-                typeWriter.write(type, typeGenerics, outer, ownerGenerics, shift)));
+        res.append(shift).append(prefix.isEmpty() ? (type.isInterface() ? "interface " : "class ") : prefix);
+        if (typeWriter instanceof StreamingTypeWriter) {
+            ((StreamingTypeWriter) typeWriter).write(res, type, typeGenerics, outer, ownerGenerics, shift);
+        } else {
+            res.append(typeWriter.write(type, typeGenerics, outer, ownerGenerics, shift));
+        }
+        res.append(NEW_LINE);
         final Class<?> superclass = type.getSuperclass();
         // not ignored (or not last)
-        if (types.containsKey(superclass)) {
+        if (indexOf(superclass) >= 0) {
             writeHierarchy(superclass, shift + SHIFT_MARKER, EXTENDS_MARKER, res, typeWriter);
         }
-        for (Class<?> iface : type.getInterfaces()) {
+        for (Class<?> iface : ClassMetadata.interfaces(type)) {
             // not ignored
-            if (types.containsKey(iface)) {
+            if (indexOf(iface) >= 0) {
                 writeHierarchy(iface, shift + SHIFT_MARKER,
                         type.isInterface() ? EXTENDS_MARKER : IMPLEMENTS_MARKER, res, typeWriter);
             }
         }
     }
 
+    /**
+     * @return hierarchy types count
+     */
+    int size() {
+        return types.length;
+    }
+
+    /**
+     * Descriptor weight is the number of hierarchy types plus the number of memoized elements: type and member
+     * contexts (each counts as 1), members table elements (fields, methods and properties) and weights of cached
+     * inlying descriptors. Weight grows as contexts are navigated (see {@link #setWeightListener(WeightListener)}).
+     *
+     * @return descriptor weight
+     */
+    int weight() {
+        return types.length + memosWeight.get();
+    }
+
+    /**
+     * Listener must be set before descriptor publication (e.g. before it is stored in cache) in order to count
+     * all memoized data.
+     *
+     * @param listener memoized data growth listener or null
+     */
+    void setWeightListener(final WeightListener listener) {
+        this.weightListener = listener;
+    }
+
+    /**
+     * @param pos type position
+     * @return hierarchy type (root type at position 0)
+     */
+    Class<?> typeAt(final int pos) {
+        return types[pos];
+    }
+
+    private void store(final int pos, final Class<?> type, final LinkedHashMap<String, Type> typeGenerics) {
+        types[pos] = type;
+        final int count = typeGenerics == null ? 0 : typeGenerics.size();
+        if (count == 0) {
+            names[pos] = NO_NAMES;
+            generics[pos] = NO_GENERICS;
+        } else {
+            names[pos] = typeGenerics.keySet().toArray(new String[count]);
+            generics[pos] = typeGenerics.values().toArray(new Type[count]);
+        }
+    }
+
+    /**
+     * Store lazily resolved type generics.
+     *
+     * @param pos          type position
+     * @param typeGenerics resolved generics
+     */
+    void storeResolved(final int pos, final LinkedHashMap<String, Type> typeGenerics) {
+        store(pos, types[pos], typeGenerics);
+    }
+
+    /**
+     * @param pos type position
+     * @return resolved type generics (type must be already resolved)
+     */
+    LinkedHashMap<String, Type> resolvedGenerics(final int pos) {
+        return toMap(pos);
+    }
+
+    private void resolve(final int pos) {
+        if (lazy != null && !lazy.isResolved(pos)) {
+            lazy.resolve(pos, this);
+        }
+    }
+
+    private LinkedHashMap<String, Type> toMap(final int pos) {
+        resolve(pos);
+        final String[] typeNames = names[pos];
+        final Type[] typeGenerics = generics[pos];
+        final LinkedHashMap<String, Type> res = new LinkedHashMap<>(Math.max(typeNames.length * 2, 2));
+        for (int i = 0; i < typeNames.length; i++) {
+            res.put(typeNames[i], typeGenerics[i]);
+        }
+        return res;
+    }
+
+    private int indexOf(final Class<?> type) {
+        if (type == null) {
+            return -1;
+        }
+        final int mask = index.length - 1;
+        int slot = spread(type.hashCode()) & mask;
+        int pos = index[slot];
+        while (pos != 0) {
+            if (types[pos - 1] == type) {
+                return pos - 1;
+            }
+            slot = (slot + 1) & mask;
+            pos = index[slot];
+        }
+        return -1;
+    }
+
+    private Class<?>[] getOuters() {
+        Class<?>[] res = outers;
+        if (res == null) {
+            // concurrent initialization is harmless
+            res = new Class<?>[types.length];
+            for (int i = 0; i < types.length; i++) {
+                res[i] = (Class<?>) TypeUtils.getOuter(types[i]);
+            }
+            outers = res;
+        }
+        return res;
+    }
+
+    private static int[] buildIndex(final Class<?>... types) {
+        // at most half full table
+        final int[] res = new int[Integer.highestOneBit(Math.max(types.length, 1) * 2) * 2];
+        final int mask = res.length - 1;
+        for (int i = 0; i < types.length; i++) {
+            int slot = spread(types[i].hashCode()) & mask;
+            while (res[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            res[slot] = i + 1;
+        }
+        return res;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @param key inlying context key
+     * @return cached inlying descriptor or null
+     */
+    GenericsInfo getInlyingDescriptor(final InlyingKey key) {
+        return inlyingDescriptors.get(key);
+    }
+
+    /**
+     * Cache inlying descriptor. If descriptor was already resolved in other thread, already cached instance is
+     * returned.
+     * <p>
+     * Inlying descriptor, resolved in context of this descriptor, is counted in this descriptor weight (including
+     * its further growth). Shared descriptor (already cached in descriptors cache and so counted there) is counted
+     * as simple reference.
+     * <p>
+     * Descriptor is not cached if inlying type references classes of child (or unrelated) class loader, relative
+     * to root class loader: otherwise descriptor (stored in root class loader partition) would prevent class loader
+     * unloading.
+     *
+     * @param key        inlying context key
+     * @param descriptor resolved inlying descriptor
+     * @return cached descriptor
+     */
+    GenericsInfo cacheInlyingDescriptor(final InlyingKey key, final GenericsInfo descriptor) {
+        if (inlyingDescriptors.size() >= MAX_INLYING_DESCRIPTORS || !isRootLoaderVisible(key, descriptor)) {
+            return descriptor;
+        }
+        // not shared descriptor is not yet published: listener would receive all further growth
+        final boolean owned = descriptor.weightListener == null;
+        if (owned) {
+            descriptor.setWeightListener(new WeightListener() {
+                @Override
+                public void weightChanged(final int delta) {
+                    memoized(delta);
+                }
+            });
+        }
+        final GenericsInfo res = inlyingDescriptors.putIfAbsent(key, descriptor);
+        if (res == null) {
+            memoized(owned ? descriptor.weight() : 1);
+            return descriptor;
+        }
+        if (owned) {
+            descriptor.setWeightListener(null);
+        }
+        return res;
+    }
+
+    /**
+     * @param key        inlying context key
+     * @param descriptor resolved inlying descriptor
+     * @return true if inlying type and descriptor root class are loaded by root class loader (or its parents)
+     */
+    private boolean isRootLoaderVisible(final InlyingKey key, final GenericsInfo descriptor) {
+        final Class<?> owner = ClassLoaderPartitions.owner(root, key.type, descriptor.getRootClass());
+        return owner != null && owner.getClassLoader() == root.getClassLoader();
+    }
+
+    /**
+     * @param type hierarchy type
+     * @return cached type context or null
+     */
+    GenericsContext getTypeContext(final Class<?> type) {
+        final int pos = indexOf(type);
+        return pos < 0 ? null : typeContexts.get(pos);
+    }
+
+    /**
+     * Cache type context. Contexts are immutable and so could be shared. If context was already created in other
+     * thread, already cached instance is returned.
+     *
+     * @param context type context (not inlying)
+     * @return cached context
+     */
+    GenericsContext cacheTypeContext(final GenericsContext context) {
+        final int pos = indexOf(context.currentClass());
+        if (pos < 0) {
+            return context;
+        }
+        if (typeContexts.compareAndSet(pos, null, context)) {
+            memoized(1);
+            return context;
+        }
+        return typeContexts.get(pos);
+    }
+
+    /**
+     * @param member method or constructor
+     * @return cached member context or null
+     */
+    GenericsContext getMemberContext(final Member member) {
+        return memberContexts.get(member);
+    }
+
+    /**
+     * Cache method or constructor context. Contexts are immutable and so could be shared. Cache size is limited
+     * by hierarchy members count (member context could be created only for member of hierarchy type).
+     * If context was already created in other thread, already cached instance is returned.
+     *
+     * @param member  method or constructor
+     * @param context member context (not inlying)
+     * @return cached context
+     */
+    GenericsContext cacheMemberContext(final Member member, final GenericsContext context) {
+        final GenericsContext res = memberContexts.putIfAbsent(member, context);
+        if (res == null) {
+            memoized(1);
+            return context;
+        }
+        return res;
+    }
+
+    /**
+     * Members table depends only on descriptor and so could be shared by all contexts. Concurrent computation is
+     * harmless (equal tables would be computed, but only one is stored).
+     *
+     * @param context any context of this descriptor
+     * @return resolved members table of hierarchy
+     */
+    MembersTable getMembersTable(final GenericsContext context) {
+        MembersTable res = members.get();
+        if (res == null) {
+            res = MembersTable.build(context);
+            if (members.compareAndSet(null, res)) {
+                memoized(res.size());
+            } else {
+                res = members.get();
+            }
+        }
+        return res;
+    }
+
+    private void memoized(final int weight) {
+        memosWeight.addAndGet(weight);
+        final WeightListener listener = weightListener;
+        if (listener != null) {
+            listener.weightChanged(weight);
+        }
+    }
+
+    /**
+     * Memoized data growth listener.
+     */
+    interface WeightListener {
+
+        /**
+         * @param delta descriptor weight increment
+         */
+        void weightChanged(int delta);
+    }
+
+    /**
+     * Inlying context descriptor key: inlying descriptor depends on generics declaration source of context
+     * (class, method or constructor), resolving type and (optional) target type.
+     */
+    static final class InlyingKey {
+        private final GenericDeclaration source;
+        private final Type type;
+        private final Class<?> asType;
+        private final int hash;
+
+        InlyingKey(final GenericDeclaration source, final Type type, final Class<?> asType) {
+            this.source = source;
+            this.type = type;
+            this.asType = asType;
+            this.hash = 31 * (31 * source.hashCode() + type.hashCode()) + (asType == null ? 0 : asType.hashCode());
+        }
+
+        /**
+         * Instance types are equal to usual types, but hold instances which must not be shared (and cached).
+         * Only types, created by library, could contain instance types.
+         *
+         * @param type type to check
+         * @return true if type could be used as key, false otherwise
+         */
+        static boolean isCacheable(final Type type) {
+            boolean res = !(type instanceof InstanceType);
+            // canonical types never contain instance types
+            final boolean deep = res && !TypesInterner.isCanonical(type);
+            if (deep && type instanceof ParameterizedTypeImpl) {
+                final ParameterizedTypeImpl param = (ParameterizedTypeImpl) type;
+                res = param.getOwnerType() == null || isCacheable(param.getOwnerType());
+                res = res && isCacheable(TypesInterner.arguments(param));
+            } else if (deep && type instanceof WildcardTypeImpl) {
+                final WildcardTypeImpl wildcard = (WildcardTypeImpl) type;
+                res = isCacheable(TypesInterner.upperBounds(wildcard))
+                        && isCacheable(TypesInterner.lowerBounds(wildcard));
+            } else if (deep && type instanceof GenericArrayTypeImpl) {
+                res = isCacheable(((GenericArrayTypeImpl) type).getGenericComponentType());
+            }
+            return res;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InlyingKey)) {
+                return false;
+            }
+            final InlyingKey key = (InlyingKey) o;
+            return hash == key.hash && asType == key.asType && source.equals(key.source) && type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static boolean isCacheable(final Type... types) {
+            for (Type type : types) {
+                if (!isCacheable(type)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Unmodifiable map view over type generics arrays.
+     */
+    private static final class GenericsView extends AbstractMap<String, Type> {
+        private final String[] names;
+        private final Type[] values;
+
+        GenericsView(final String[] names, final Type[] values) {
+            this.names = names;
+            this.values = values;
+        }
+
+        @Override
+        public Type get(final Object key) {
+            final int pos = indexOf(key);
+            return pos < 0 ? null : values[pos];
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public Set<Entry<String, Type>> entrySet() {
+            return new AbstractSet<Entry<String, Type>>() {
+                @Override
+                public Iterator<Entry<String, Type>> iterator() {
+                    return new Iterator<Entry<String, Type>>() {
+                        private int pos;
+
+                        @Override
+                        public boolean hasNext() {
+                            return pos < names.length;
+                        }
+
+                        @Override
+                        public Entry<String, Type> next() {
+                            if (pos >= names.length) {
+                                throw new NoSuchElementException();
+                            }
+                            final Entry<String, Type> res = new SimpleImmutableEntry<>(names[pos], values[pos]);
+                            pos++;
+                            return res;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+            };
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
     /**
      * Customization interface to control types hierarchy to string behaviour. Internally used to mark
      * current position inside hierarchy for actual context implementations.
@@ -193,6 +761,28 @@ public class GenericsInfo {
                      Class<?> owner, Map<String, Type> ownerGenerics, String shift);
     }
 
+    /**
+     * Type writer, appending type line directly into hierarchy string (without intermediate strings).
+     * When writer implements this interface, {@link #write(StringBuilder, Class, Map, Class, Map, String)} is used
+     * instead of {@link TypeWriter#write(Class, Map, Class, Map, String)}.
+     */
+    public interface StreamingTypeWriter extends TypeWriter {
+
+        /**
+         * Same as {@link TypeWriter#write(Class, Map, Class, Map, String)}, but appends type line into hierarchy
+         * string.
+         *
+         * @param res           hierarchy string builder
+         * @param type          current type
+         * @param generics      current type generics or empty map
+         * @param owner         owner type if current is inner class or null if not
+         * @param ownerGenerics owner generic if inner class
+         * @param shift         current left shift (space) to be able to insert multiple lines
+         */
+        void write(StringBuilder res, Class<?> type, Map<String, Type> generics,
+                   Class<?> owner, Map<String, Type> ownerGenerics, String shift);
+    }
+
     /**
      * Default hierarchy writer implementation.
      */
@@ -203,12 +793,59 @@ public class GenericsInfo {
                             final Class<?> owner,
                             final Map<String, Type> ownerGenerics,
                             final String shift) {
+            return appendType(new StringBuilder(), type, generics, owner, ownerGenerics).toString();
+        }
+    }
 
+    /**
+     * Default hierarchy writer, appending types directly into hierarchy string. Sub classes should customize
+     * {@link #write(StringBuilder, Class, Map, Class, Map, String)} (string method delegates to it).
+     */
+    public static class DefaultStreamingTypeWriter implements StreamingTypeWriter {
+        @Override
+        public String write(final Class<?> type,
+                            final Map<String, Type> generics,
+                            final Class<?> owner,
+                            final Map<String, Type> ownerGenerics,
+                            final String shift) {
+            final StringBuilder res = new StringBuilder();
+            write(res, type, generics, owner, ownerGenerics, shift);
+            return res.toString();
+        }
+
+        @Override
+        public void write(final StringBuilder res,
+                          final Class<?> type,
+                          final Map<String, Type> generics,
+                          final Class<?> owner,
+                          final Map<String, Type> ownerGenerics,
+                          final String shift) {
+            appendType(res, type, generics, owner, ownerGenerics);
+        }
+    }
+
+    /**
+     * Append type with generics (and owner type generics for inner class).
+     *
+     * @param res           builder to append type to
+     * @param type          current type
+     * @param generics      current type generics or empty map
+     * @param owner         owner type if current is inner class or null if not
+     * @param ownerGenerics owner generic if inner class
+     * @return provided builder
+     */
+    private static StringBuilder appendType(final StringBuilder res,
+                                            final Class<?> type,
+                                            final Map<String, Type> generics,
+                                            final Class<?> owner,
+                                            final Map<String, Type> ownerGenerics) {
+        if (owner == null) {
+            TypeToStringUtils.appendWithGenerics(res, type, generics);
+        } else {
             // will already include outer type, but without generics
-            final String res = toStringWithGenerics(type, generics);
-            return TypeToStringUtils.mergeOuterClassGenerics(
-                    owner != null ? toStringWithGenerics(owner, ownerGenerics) : null,
-                    res);
+            res.append(TypeToStringUtils.mergeOuterClassGenerics(toStringWithGenerics(owner, ownerGenerics),
+                    toStringWithGenerics(type, generics)));
         }
+        return res;
     }
 }
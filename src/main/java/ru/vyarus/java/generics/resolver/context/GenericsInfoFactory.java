@@ -1,21 +1,69 @@
 package ru.vyarus.java.generics.resolver.context;
 
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics;
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics;
 import ru.vyarus.java.generics.resolver.util.GenericInfoUtils;
+import ru.vyarus.java.generics.resolver.util.HierarchyPruning;
+import ru.vyarus.java.generics.resolver.util.TypeRelationsCache;
+import ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory;
 
-import java.util.ConcurrentModificationException;
-import java.util.Map;
-import java.util.WeakHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Analyze class hierarchy and produce object with resolved generics for each class. Resolved generics descriptors
  * are cached (for not inlying contexts).
  * <p>
- * Note: when ignore classes used, cache will not work: such descriptors are always resolved.
+ * Descriptors, resolved with ignore classes, are cached for each ignored classes set (classes order is not
+ * important). The same way, descriptors are cached for each hierarchy pruning policy (see {@link HierarchyPruning}).
+ * If complete descriptor (without ignored classes) is already cached, limited descriptor is derived
+ * from it (when possible) without hierarchy analysis.
+ * <p>
+ * Cache reads are lock-free. Each descriptor is computed exactly once: concurrent requests for the same class
+ * wait for the first computation, while different classes are resolved in parallel.
  * <p>
  * Cache may be disabled (e.g. when JRebel used) by using environment variable or system property e.g.:
  * {@code System.setProperty(GenericsInfoFactory.CACHE_PROPERTY, 'false')}.
  * Property value checked on cache write. To clear current cache state use static method.
+ * <p>
+ * By default, cache is not limited. Use {@link #CACHE_MAX_SIZE_PROPERTY} to limit cached descriptors count or
+ * {@link #CACHE_MAX_WEIGHT_PROPERTY} to limit total weight of cached descriptors (weight is the number of
+ * composing types in descriptor plus memoized contexts data). When limit is exceeded, least frequently used
+ * descriptors are evicted.
+ * With {@link #CACHE_SOFT_PROPERTY} descriptors are referenced softly and so could be collected under memory
+ * pressure. Limits are also checked on cache write. Use {@link #getCacheStats()} to check cache efficiency.
+ * <p>
+ * Cached descriptors are partitioned by class loader of root class, so cache does not prevent class loaders
+ * unloading (e.g. on web application redeploy). Use {@link #clearCache(ClassLoader)} to drop all descriptors of
+ * one class loader.
+ * <p>
+ * Use {@link #warmUp(Collection, Executor)} to resolve many classes in parallel (e.g. on application startup).
+ * Cached descriptors could be stored into binary snapshot with {@link #saveSnapshot(Path)} (e.g. at build time)
+ * and loaded on startup with {@link #loadSnapshot(Path, ClassLoader)}.
+ * <p>
+ * Generics, precomputed at compile time (see {@link ru.vyarus.java.generics.resolver.processor.PrecomputeGenerics}),
+ * are used before reflective hierarchy analysis.
+ * <p>
+ * With {@link #LAZY_PROPERTY} complete descriptors resolve type generics on demand (only types between root class
+ * and requested type are resolved).
+ * <p>
+ * Cache usage and descriptors computation are reported to installed metrics (see
+ * {@link ru.vyarus.java.generics.resolver.metrics.ResolverMetrics}).
  *
  * @author Vyacheslav Rusakov
  * @since 16.10.2014
@@ -28,60 +76,264 @@ public final class GenericsInfoFactory {
      */
     public static final String CACHE_PROPERTY = GenericsInfoFactory.class.getName() + ".cache";
 
-    private static final Map<Class<?>, GenericsInfo> CACHE = new WeakHashMap<>();
-    // lock will not affect performance for cached descriptors, just to make sure nothing was build two times
-    private static final ReentrantLock LOCK = new ReentrantLock();
+    /**
+     * System property or environment variable name to limit cached descriptors count.
+     * Value must be a positive number (0 means no limit).
+     */
+    public static final String CACHE_MAX_SIZE_PROPERTY = CACHE_PROPERTY + ".maxSize";
+
+    /**
+     * System property or environment variable name to limit total weight of cached descriptors. Descriptor weight
+     * is the number of types in resolved hierarchy ({@code GenericsInfo.getComposingTypes().size()}) plus
+     * the number of memoized elements: type, method and constructor contexts, members table elements (fields,
+     * methods and properties) and weights of cached inlying descriptors. Weight grows as descriptor contexts
+     * are used (limit is checked on each growth).
+     * Value must be a positive number (0 means no limit).
+     */
+    public static final String CACHE_MAX_WEIGHT_PROPERTY = CACHE_PROPERTY + ".maxWeight";
+
+    /**
+     * System property or environment variable name to enable soft references for cached descriptors.
+     * If value is 'true' - new descriptors could be collected by garbage collector under memory pressure.
+     */
+    public static final String CACHE_SOFT_PROPERTY = CACHE_PROPERTY + ".soft";
+
+    /**
+     * System property or environment variable name to enable lazy descriptors. If value is 'true' - generics of
+     * hierarchy types are resolved only when requested (e.g. with {@code context.type(SomeInterface.class)}).
+     * Useful for classes with wide hierarchies when only few types are actually used. Descriptors with ignored
+     * classes are always resolved completely.
+     */
+    public static final String LAZY_PROPERTY = GenericsInfoFactory.class.getName() + ".lazy";
+
+    private static final DescriptorsCache CACHE = new DescriptorsCache();
 
     private GenericsInfoFactory() {
     }
 
     /**
-     * Note: ignore classes switch off caching for resolved descriptor (and if completely resolved version
-     * contained in cache limited version will be composed one more time).
+     * Note: descriptors with ignore classes are cached separately for each ignored classes set.
      *
      * @param type          finder type to investigate
      * @param ignoreClasses list of classes to ignore during inspection (useful to avoid interface clashes)
      * @return descriptor for class hierarchy generics substitution
      */
     public static GenericsInfo create(final Class<?> type, final Class<?>... ignoreClasses) {
-        GenericsInfo descriptor = ignoreClasses.length > 0
-                ? GenericInfoUtils.create(type, ignoreClasses) : CACHE.get(type);
+        return create(type, HierarchyPruning.ignore(ignoreClasses));
+    }
+
+    /**
+     * Note: descriptors are cached separately for each pruning policy (policies with the same rules are equal).
+     *
+     * @param type    finder type to investigate
+     * @param pruning types to exclude from inspection (prune uninteresting hierarchy parts)
+     * @return descriptor for class hierarchy generics substitution
+     */
+    public static GenericsInfo create(final Class<?> type, final HierarchyPruning pruning) {
+        GenericsInfo descriptor = CACHE.get(type, pruning);
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        if (metrics != null) {
+            if (descriptor == null) {
+                metrics.cacheMiss(type);
+            } else {
+                metrics.cacheHit(type);
+            }
+        }
         if (descriptor == null) {
-            LOCK.lock();
-            try {
-                if (CACHE.get(type) != null) {
-                    // descriptor could be created while thread wait for lock
-                    descriptor = CACHE.get(type);
-                } else {
-                    descriptor = GenericInfoUtils.create(type);
-                    if (isCacheEnabled()) {
-                        // internal check
-                        if (CACHE.get(type) != null) {
-                            throw new ConcurrentModificationException("Descriptor already present in cache");
-                        }
-                        CACHE.put(type, descriptor);
+            descriptor = isCacheEnabled()
+                    ? CACHE.compute(type, pruning, readLimit(CACHE_MAX_SIZE_PROPERTY),
+                    readLimit(CACHE_MAX_WEIGHT_PROPERTY),
+                    Boolean.TRUE.toString().equals(readProperty(CACHE_SOFT_PROPERTY)), isLazy())
+                    : resolveDirectly(type, pruning);
+        }
+        return descriptor;
+    }
+
+    /**
+     * Shortcut for {@link #warmUp(Collection, Executor)} with {@link ForkJoinPool#commonPool()}.
+     *
+     * @param types classes to resolve
+     * @return resolution result for each class (in the same order)
+     */
+    public static List<Resolution> warmUp(final Collection<Class<?>> types) {
+        return warmUp(types, null);
+    }
+
+    /**
+     * Resolve descriptors for provided classes in parallel (fill cache). Shared super types hierarchies
+     * are analyzed only once (see hierarchy templates), concurrent requests for the same class wait for the
+     * first computation. Resolution errors do not stop other classes resolution: each class resolution
+     * result is returned separately.
+     * <p>
+     * Any executor could be used (including virtual threads executor, e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}). If executor rejects task, class is resolved in the
+     * calling thread. Method waits for all tasks completion. If calling thread is interrupted, not yet resolved
+     * classes are reported as failed with {@link InterruptedException} (and interrupted flag is preserved).
+     * <p>
+     * Waiting is performed with {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, so method could be
+     * safely called from fork-join pool task (e.g. parallel stream or {@code CompletableFuture} stage): pool
+     * activates spare thread instead of waiting blocked worker (avoiding pool starvation and deadlock).
+     * <p>
+     * Note: when cache is disabled, classes are just resolved (results are not cached).
+     *
+     * @param types    classes to resolve
+     * @param executor executor to use (null for {@link ForkJoinPool#commonPool()})
+     * @return resolution result for each class (in the same order)
+     */
+    public static List<Resolution> warmUp(final Collection<Class<?>> types, final Executor executor) {
+        final Executor exec = executor == null ? ForkJoinPool.commonPool() : executor;
+        final Class<?>[] classes = types.toArray(new Class<?>[0]);
+        final AtomicReferenceArray<Resolution> results = new AtomicReferenceArray<>(classes.length);
+        final CountDownLatch latch = new CountDownLatch(classes.length);
+        for (int i = 0; i < classes.length; i++) {
+            final int pos = i;
+            final Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        results.compareAndSet(pos, null, resolve(classes[pos]));
+                    } finally {
+                        latch.countDown();
                     }
                 }
-            } finally {
-                LOCK.unlock();
+            };
+            try {
+                exec.execute(task);
+            } catch (RejectedExecutionException ex) {
+                task.run();
+            }
+        }
+        try {
+            // compensated blocking when called from fork join pool worker (tasks could wait in the same pool)
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean block() throws InterruptedException {
+                    latch.await();
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return latch.getCount() == 0;
+                }
+            });
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            for (int i = 0; i < classes.length; i++) {
+                results.compareAndSet(i, null, new Resolution(classes[i], null, ex));
             }
         }
-        return descriptor;
+        final List<Resolution> res = new ArrayList<>(classes.length);
+        for (int i = 0; i < classes.length; i++) {
+            res.add(results.get(i));
+        }
+        return res;
     }
 
     /**
-     * Clears cached descriptors (already parsed).
+     * Write all cached complete descriptors (without ignored classes) into binary snapshot file (file is
+     * overwritten).
+     *
+     * @param file snapshot file
+     * @return count of written descriptors
+     * @throws IOException on write error
+     * @see #saveSnapshot(OutputStream)
+     */
+    public static int saveSnapshot(final Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            return saveSnapshot(out);
+        }
+    }
+
+    /**
+     * Write all cached complete descriptors (without ignored classes) into binary snapshot. Types are stored
+     * symbolically (by class names) together with classes signatures hashes (to detect changed classes on load).
+     * Descriptors containing types without symbolic representation (e.g. instance types) are skipped.
+     *
+     * @param out output stream (not closed)
+     * @return count of written descriptors
+     * @throws IOException on write error
+     * @see #loadSnapshot(ByteBuffer, ClassLoader)
+     */
+    public static int saveSnapshot(final OutputStream out) throws IOException {
+        return GenericsSnapshot.write(CACHE.descriptors(), out);
+    }
+
+    /**
+     * Load descriptors from snapshot file. File is memory mapped (read-only).
+     *
+     * @param file   snapshot file
+     * @param loader class loader to load stored classes (null for context class loader)
+     * @return count of descriptors put into cache
+     * @throws IOException if file could not be read or it's not a valid snapshot
+     * @see #loadSnapshot(ByteBuffer, ClassLoader)
+     */
+    public static int loadSnapshot(final Path file, final ClassLoader loader) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // mapping stays valid after channel close
+            return loadSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), loader);
+        }
+    }
+
+    /**
+     * Load descriptors from snapshot into cache. Stored descriptor is rejected if any of its classes could not be
+     * loaded (with provided class loader) or class generic signature (generics, super class or interfaces) is
+     * changed since snapshot creation. Already cached descriptors are not replaced. Cache limits are applied.
+     * <p>
+     * Note: when cache is disabled, nothing is loaded.
+     *
+     * @param buffer snapshot data (buffer position is not changed)
+     * @param loader class loader to load stored classes (null for context class loader)
+     * @return count of descriptors put into cache
+     * @throws IOException if data is not a valid snapshot
+     */
+    public static int loadSnapshot(final ByteBuffer buffer, final ClassLoader loader) throws IOException {
+        if (!isCacheEnabled()) {
+            return 0;
+        }
+        ClassLoader cl = loader == null ? Thread.currentThread().getContextClassLoader() : loader;
+        if (cl == null) {
+            cl = GenericsInfoFactory.class.getClassLoader();
+        }
+        final int maxSize = readLimit(CACHE_MAX_SIZE_PROPERTY);
+        final int maxWeight = readLimit(CACHE_MAX_WEIGHT_PROPERTY);
+        final boolean soft = Boolean.TRUE.toString().equals(readProperty(CACHE_SOFT_PROPERTY));
+        int res = 0;
+        for (GenericsInfo info : GenericsSnapshot.read(buffer, cl)) {
+            if (CACHE.put(info, maxSize, maxWeight, soft)) {
+                res++;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Clears cached descriptors (already parsed), interned types (see {@link TypesInterner}), types relations
+     * memo (see {@link TypeRelationsCache}) and common types (see {@link CommonTypeFactory}).
      * Cache could be completely disabled using system property or environment variable
      *
      * @see #CACHE_PROPERTY
      */
     public static void clearCache() {
-        LOCK.lock();
-        try {
-            CACHE.clear();
-        } finally {
-            LOCK.unlock();
-        }
+        CACHE.clear();
+        TypesInterner.clear();
+        TypeRelationsCache.clear();
+        CommonTypeFactory.clearCache();
+    }
+
+    /**
+     * Removes cached descriptors and hierarchy templates of classes, loaded by provided class loader (descriptors of
+     * child class loaders are not affected). Cached descriptors do not prevent class loader unloading, but explicit
+     * removal could be used to release memory immediately (e.g. on plugin unload). Interned types (see
+     * {@link TypesInterner}), types relations memo (see {@link TypeRelationsCache}) and common types (see
+     * {@link CommonTypeFactory}) are also partitioned by class loader (and so do not prevent its unloading);
+     * they are not affected (memos of other class loaders are preserved).
+     *
+     * @param loader class loader (null for bootstrap class loader)
+     * @return count of removed descriptors
+     */
+    public static int clearCache(final ClassLoader loader) {
+        return CACHE.clear(loader);
     }
 
     /**
@@ -99,4 +351,228 @@ public final class GenericsInfoFactory {
         return !no.equals(System.getenv(CACHE_PROPERTY))
                 && !no.equals(System.getProperty(CACHE_PROPERTY));
     }
+
+    /**
+     * Limit cached descriptors count. Limit is applied on next cache write.
+     *
+     * @param maxSize maximum cached descriptors count (0 to remove limit)
+     * @see #CACHE_MAX_SIZE_PROPERTY
+     */
+    public static void limitCacheSize(final int maxSize) {
+        System.setProperty(CACHE_MAX_SIZE_PROPERTY, String.valueOf(maxSize));
+    }
+
+    /**
+     * Limit total weight of cached descriptors. Limit is applied on next cache write.
+     *
+     * @param maxWeight maximum total weight (0 to remove limit)
+     * @see #CACHE_MAX_WEIGHT_PROPERTY
+     */
+    public static void limitCacheWeight(final int maxWeight) {
+        System.setProperty(CACHE_MAX_WEIGHT_PROPERTY, String.valueOf(maxWeight));
+    }
+
+    /**
+     * Enable soft references for new cached descriptors (already cached descriptors are not affected).
+     *
+     * @see #CACHE_SOFT_PROPERTY
+     */
+    public static void enableSoftCache() {
+        System.setProperty(CACHE_SOFT_PROPERTY, Boolean.TRUE.toString());
+    }
+
+    /**
+     * Enable lazy generics resolution for new descriptors (already resolved descriptors are not affected).
+     *
+     * @see #LAZY_PROPERTY
+     */
+    public static void enableLazyResolution() {
+        System.setProperty(LAZY_PROPERTY, Boolean.TRUE.toString());
+    }
+
+    /**
+     * Counters are collected from application start (not reset on {@link #clearCache()}).
+     *
+     * @return current cache state and usage counters
+     */
+    public static CacheStats getCacheStats() {
+        return CACHE.stats();
+    }
+
+    private static GenericsInfo resolveDirectly(final Class<?> type, final HierarchyPruning pruning) {
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        final long start = metrics == null ? 0 : System.nanoTime();
+        GenericsInfo res = null;
+        if (pruning.isEmpty()) {
+            res = PrecomputedGenerics.load(type);
+            if (res == null && isLazy()) {
+                res = LazyHierarchy.create(type);
+            }
+        }
+        if (res == null) {
+            res = GenericInfoUtils.create(type, pruning);
+        }
+        if (metrics != null) {
+            metrics.descriptorComputed(type, res.size(), System.nanoTime() - start);
+        }
+        return res;
+    }
+
+    private static boolean isLazy() {
+        return Boolean.TRUE.toString().equals(readProperty(LAZY_PROPERTY));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static Resolution resolve(final Class<?> type) {
+        try {
+            return new Resolution(type, create(type), null);
+        } catch (Throwable ex) {
+            return new Resolution(type, null, ex);
+        }
+    }
+
+    private static String readProperty(final String name) {
+        final String value = System.getProperty(name);
+        return value != null ? value : System.getenv(name);
+    }
+
+    private static int readLimit(final String name) {
+        final String value = readProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(String.format("Invalid %s value: '%s'", name, value), ex);
+        }
+    }
+
+    /**
+     * Descriptors cache state snapshot.
+     */
+    public static final class CacheStats {
+        private final int size;
+        private final long weight;
+        private final int templates;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long collected;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        CacheStats(final int size, final long weight, final int templates, final long hits,
+                   final long misses, final long evictions, final long collected) {
+            this.size = size;
+            this.weight = weight;
+            this.templates = templates;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.collected = collected;
+        }
+
+        /**
+         * @return cached descriptors count
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return total weight of cached descriptors (sum of composing types counts and memoized data)
+         */
+        public long getWeight() {
+            return weight;
+        }
+
+        /**
+         * @return count of hierarchy templates, retained by cached descriptors
+         */
+        public int getTemplates() {
+            return templates;
+        }
+
+        /**
+         * @return count of descriptors, obtained from cache
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return count of cache lookups without cached descriptor
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return count of descriptors, removed from cache due to size or weight limit
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * @return count of soft descriptors, collected by garbage collector
+         */
+        public long getCollected() {
+            return collected;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("size=%s, weight=%s, templates=%s, hits=%s, misses=%s, evictions=%s, collected=%s",
+                    size, weight, templates, hits, misses, evictions, collected);
+        }
+    }
+
+    /**
+     * Class resolution result (see {@link #warmUp(Collection, Executor)}).
+     */
+    public static final class Resolution {
+        private final Class<?> type;
+        private final GenericsInfo descriptor;
+        private final Throwable error;
+
+        Resolution(final Class<?> type, final GenericsInfo descriptor, final Throwable error) {
+            this.type = type;
+            this.descriptor = descriptor;
+            this.error = error;
+        }
+
+        /**
+         * @return resolved class
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return resolved descriptor or null if resolution failed
+         */
+        public GenericsInfo getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * @return resolution error or null if resolution succeed
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        /**
+         * @return true if class resolved successfully
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return (type == null ? "null" : type.getName()) + (isSuccess() ? ": resolved" : ": failed (" + error + ")");
+        }
+    }
 }
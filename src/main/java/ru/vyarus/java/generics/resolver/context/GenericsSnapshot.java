@@ -0,0 +1,435 @@
+package ru.vyarus.java.generics.resolver.context;
+
+import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
+import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
+import ru.vyarus.java.generics.resolver.util.TypeSignatureUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Binary snapshot of resolved generics descriptors (see {@link GenericsInfoFactory#saveSnapshot(OutputStream)}).
+ * Snapshot could be written at build time (or on application shutdown) and loaded on startup to avoid hierarchies
+ * analysis.
+ * <p>
+ * Types are stored symbolically: class names, class type variables (declaring class and variable name),
+ * parameterized types, wildcards and generic arrays. All names are stored once (strings table) and referenced by
+ * index. Each hierarchy class is stored with hash of its generic signature (type variables with bounds, generic super
+ * class and interfaces and outer class for inner classes): on load descriptor is rejected if any of its classes can't
+ * be loaded or class signature is changed.
+ * <p>
+ * Only complete descriptors (without ignored classes) are stored. Descriptors with types, not representable
+ * symbolically (e.g. instance types or method generics), are skipped.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings({"PMD.LooseCoupling", "PMD.GodClass"})
+final class GenericsSnapshot {
+
+    // "GSNP"
+    private static final int MAGIC = 0x47534E50;
+    private static final byte VERSION = 1;
+
+    private static final byte CLASS = 0;
+    private static final byte PARAMETERIZED = 1;
+    private static final byte WILDCARD = 2;
+    private static final byte ARRAY = 3;
+    private static final byte VARIABLE = 4;
+    private static final byte NULL = 5;
+
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_NEXT = 0x80;
+    private static final int VARINT_SHIFT = 7;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> type : Arrays.<Class<?>>asList(boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class, void.class)) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    private GenericsSnapshot() {
+    }
+
+    /**
+     * @param descriptors descriptors to write
+     * @param out         output stream (not closed)
+     * @return count of written descriptors
+     * @throws IOException on write error
+     */
+    static int write(final Collection<GenericsInfo> descriptors, final OutputStream out) throws IOException {
+        final Writer writer = new Writer();
+        int count = 0;
+        for (GenericsInfo info : descriptors) {
+            if (writer.write(info)) {
+                count++;
+            }
+        }
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        writeVarint(data, writer.strings.size());
+        for (String name : writer.strings.keySet()) {
+            final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            writeVarint(data, bytes.length);
+            data.write(bytes);
+        }
+        writeVarint(data, count);
+        writer.body.writeTo(data);
+        data.flush();
+        return count;
+    }
+
+    /**
+     * Stored descriptors are rejected if any hierarchy class could not be loaded or class signature is changed.
+     *
+     * @param buffer snapshot data (buffer position is not changed)
+     * @param loader class loader to load stored classes with
+     * @return loaded descriptors (only valid)
+     * @throws IOException if data is not a snapshot or corrupted
+     */
+    static List<GenericsInfo> read(final ByteBuffer buffer, final ClassLoader loader) throws IOException {
+        final ByteBuffer data = buffer.duplicate();
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new IOException("Not a generics snapshot");
+            }
+            final byte version = data.get();
+            if (version != VERSION) {
+                throw new IOException(String.format("Unsupported generics snapshot version %s (supported %s)",
+                        version, VERSION));
+            }
+            return new Reader(data, loader).read();
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            throw new IOException("Corrupted generics snapshot", ex);
+        }
+    }
+
+    /**
+     * @param type class
+     * @return class signature hash
+     * @see TypeSignatureUtils#toClassSignature(Class)
+     */
+    static long signature(final Class<?> type) {
+        return TypeSignatureUtils.hash(TypeSignatureUtils.toClassSignature(type));
+    }
+
+    private static void writeVarint(final OutputStream out, final int value) throws IOException {
+        int val = value;
+        while ((val & ~VARINT_MASK) != 0) {
+            out.write(val & VARINT_MASK | VARINT_NEXT);
+            val >>>= VARINT_SHIFT;
+        }
+        out.write(val);
+    }
+
+    private static int readVarint(final ByteBuffer buffer) {
+        int res = 0;
+        int shift = 0;
+        byte current;
+        do {
+            if (shift > Integer.SIZE) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+            current = buffer.get();
+            res |= (current & VARINT_MASK) << shift;
+            shift += VARINT_SHIFT;
+        } while ((current & VARINT_NEXT) != 0);
+        return res;
+    }
+
+    /**
+     * Each counted element takes at least one byte, so count could not be larger than remaining data (protection
+     * from huge allocations on corrupted data).
+     *
+     * @param buffer buffer
+     * @return elements count
+     */
+    private static int readCount(final ByteBuffer buffer) {
+        final int res = readVarint(buffer);
+        if (res < 0 || res > buffer.remaining()) {
+            throw new IllegalArgumentException("Malformed count " + res);
+        }
+        return res;
+    }
+
+    /**
+     * Encodes descriptors into body buffer, collecting strings table.
+     */
+    private static final class Writer {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        boolean write(final GenericsInfo info) throws IOException {
+            if (!info.getPruning().isEmpty()) {
+                return false;
+            }
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final DataOutputStream data = new DataOutputStream(out);
+            final int stringsCount = strings.size();
+            final Class<?> root = info.getRootClass();
+            final List<Class<?>> types = new ArrayList<>(info.getComposingTypes());
+            // root first (order of other types is not important)
+            types.remove(root);
+            types.add(0, root);
+            writeVarint(data, types.size());
+            for (Class<?> type : types) {
+                writeVarint(data, index(type.getName()));
+                data.writeLong(signature(type));
+                final Map<String, Type> generics = info.getTypeGenericsView(type);
+                writeVarint(data, generics.size());
+                for (Map.Entry<String, Type> entry : generics.entrySet()) {
+                    writeVarint(data, index(entry.getKey()));
+                    if (!writeType(data, entry.getValue())) {
+                        // not representable type: rollback strings, registered by this descriptor
+                        strings.keySet().retainAll(new ArrayList<>(strings.keySet()).subList(0, stringsCount));
+                        return false;
+                    }
+                }
+            }
+            out.writeTo(body);
+            return true;
+        }
+
+        @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CognitiveComplexity"})
+        private boolean writeType(final DataOutputStream out, final Type type) throws IOException {
+            boolean res = true;
+            if (type == null) {
+                out.writeByte(NULL);
+            } else if (type instanceof Class) {
+                out.writeByte(CLASS);
+                writeVarint(out, index(((Class) type).getName()));
+            } else if (type instanceof ParameterizedType) {
+                final ParameterizedType param = (ParameterizedType) type;
+                out.writeByte(PARAMETERIZED);
+                writeVarint(out, index(((Class) param.getRawType()).getName()));
+                res = writeType(out, param.getOwnerType())
+                        && writeTypes(out, TypesInterner.arguments(param));
+            } else if (type instanceof WildcardType) {
+                final WildcardType wildcard = (WildcardType) type;
+                out.writeByte(WILDCARD);
+                res = writeTypes(out, TypesInterner.upperBounds(wildcard))
+                        && writeTypes(out, TypesInterner.lowerBounds(wildcard));
+            } else if (type instanceof GenericArrayType) {
+                out.writeByte(ARRAY);
+                res = writeType(out, ((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof TypeVariable
+                    && ((TypeVariable) type).getGenericDeclaration() instanceof Class) {
+                final TypeVariable var = (TypeVariable) type;
+                out.writeByte(VARIABLE);
+                writeVarint(out, index(((Class) var.getGenericDeclaration()).getName()));
+                writeVarint(out, index(var.getName()));
+            } else {
+                // instance types, explicit variables, method variables
+                res = false;
+            }
+            return res;
+        }
+
+        @SuppressWarnings("PMD.UseVarargs")
+        private boolean writeTypes(final DataOutputStream out, final Type[] types) throws IOException {
+            writeVarint(out, types.length);
+            for (Type type : types) {
+                if (!writeType(out, type)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(final String name) {
+            Integer res = strings.get(name);
+            if (res == null) {
+                res = strings.size();
+                strings.put(name, res);
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Decodes descriptors. Each stored descriptor is always read completely, even if it would be rejected (to
+     * continue with the next one).
+     */
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final ClassLoader loader;
+        private final String[] strings;
+        // loaded classes by string index (resolved lazily)
+        private final Class<?>[] classes;
+        private final boolean[] missing;
+        private final Map<Class<?>, Boolean> validSignatures = new HashMap<>();
+        // current descriptor rejected
+        private boolean rejected;
+
+        Reader(final ByteBuffer buffer, final ClassLoader loader) {
+            this.buffer = buffer;
+            this.loader = loader;
+            this.strings = new String[readCount(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                final byte[] bytes = new byte[readCount(buffer)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            this.classes = new Class<?>[strings.length];
+            this.missing = new boolean[strings.length];
+        }
+
+        List<GenericsInfo> read() {
+            final int count = readCount(buffer);
+            final List<GenericsInfo> res = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final GenericsInfo info = readDescriptor();
+                if (info != null) {
+                    res.add(info);
+                }
+            }
+            return res;
+        }
+
+        private GenericsInfo readDescriptor() {
+            rejected = false;
+            final int size = readCount(buffer);
+            final Map<Class<?>, LinkedHashMap<String, Type>> types = new LinkedHashMap<>(size * 2);
+            Class<?> root = null;
+            for (int i = 0; i < size; i++) {
+                final Class<?> type = loadClass(readVarint(buffer));
+                final long hash = buffer.getLong();
+                if (type != null && !isSignatureValid(type, hash)) {
+                    rejected = true;
+                }
+                final int count = readCount(buffer);
+                final LinkedHashMap<String, Type> generics = count == 0
+                        ? EmptyGenericsMap.getInstance() : new LinkedHashMap<String, Type>(count * 2);
+                for (int j = 0; j < count; j++) {
+                    final String name = string(readVarint(buffer));
+                    generics.put(name, readType());
+                }
+                if (root == null) {
+                    root = type;
+                }
+                types.put(type, generics);
+            }
+            return rejected || root == null ? null : new GenericsInfo(root, types);
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private Type readType() {
+            final byte tag = buffer.get();
+            final Type res;
+            switch (tag) {
+                case NULL:
+                    res = null;
+                    break;
+                case CLASS:
+                    res = loadClass(readVarint(buffer));
+                    break;
+                case PARAMETERIZED:
+                    res = readParameterized();
+                    break;
+                case WILDCARD:
+                    final Type[] upper = readTypes();
+                    final Type[] lower = readTypes();
+                    res = rejected ? null : TypesInterner.intern(new WildcardTypeImpl(upper, lower));
+                    break;
+                case ARRAY:
+                    final Type component = readType();
+                    res = rejected ? null : TypesInterner.intern(new GenericArrayTypeImpl(component));
+                    break;
+                case VARIABLE:
+                    res = findVariable(loadClass(readVarint(buffer)), string(readVarint(buffer)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown type tag " + tag);
+            }
+            return res;
+        }
+
+        private Type readParameterized() {
+            final Class<?> raw = loadClass(readVarint(buffer));
+            final Type owner = readType();
+            final Type[] args = readTypes();
+            return rejected ? null : TypesInterner.intern(new ParameterizedTypeImpl(raw, args, owner));
+        }
+
+        private Type[] readTypes() {
+            final Type[] res = new Type[readCount(buffer)];
+            for (int i = 0; i < res.length; i++) {
+                res[i] = readType();
+            }
+            return res;
+        }
+
+        private TypeVariable<?> findVariable(final Class<?> type, final String name) {
+            if (type != null) {
+                for (TypeVariable<?> var : ClassMetadata.typeParameters(type)) {
+                    if (var.getName().equals(name)) {
+                        return var;
+                    }
+                }
+            }
+            rejected = true;
+            return null;
+        }
+
+        private String string(final int index) {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalArgumentException("Unknown string " + index);
+            }
+            return strings[index];
+        }
+
+        private Class<?> loadClass(final int index) {
+            final String name = string(index);
+            Class<?> res = classes[index];
+            if (res == null && !missing[index]) {
+                res = PRIMITIVES.get(name);
+                if (res == null) {
+                    try {
+                        res = Class.forName(name, false, loader);
+                    } catch (ClassNotFoundException | LinkageError ex) {
+                        missing[index] = true;
+                    }
+                }
+                classes[index] = res;
+            }
+            if (res == null) {
+                rejected = true;
+            }
+            return res;
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private boolean isSignatureValid(final Class<?> type, final long hash) {
+            Boolean res = validSignatures.get(type);
+            if (res == null) {
+                try {
+                    res = signature(type) == hash;
+                } catch (RuntimeException | LinkageError ex) {
+                    // broken generic signature (e.g. referenced class not available anymore)
+                    res = false;
+                }
+                validSignatures.put(type, res);
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package ru.vyarus.java.generics.resolver.context;
+
+import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
+import ru.vyarus.java.generics.resolver.util.ClassLoaderPartitions;
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.TypeVariableUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hierarchy templates for incremental root class hierarchy resolution, used by {@link DescriptorsCache}.
+ * <p>
+ * Template is a class hierarchy, resolved with class own generics preserved as variables (the same as
+ * {@link TypeVariableUtils#trackRootVariables(Class)}). Root class hierarchy is composed from templates of its
+ * direct super types (class and interfaces) by substituting actual parametrization (declared in root class) into
+ * template variables. Templates are built from templates of super types too, so each class hierarchy is analyzed
+ * only once and root class resolution depends only on root class declaration (not on entire hierarchy size).
+ * <p>
+ * Templates are not used when resolution result could differ from usual hierarchy analysis
+ * ({@link GenericsResolutionUtils#resolve(Class, LinkedHashMap, Class[])}): when the same interface appears in
+ * hierarchy with different generics (generics merge is required), for inner classes (outer class generics could be
+ * required) and for inner types with parameterized outer type (in generics). In all these cases usual
+ * resolution is performed.
+ * <p>
+ * Templates are referenced weakly: template is retained only by cached descriptors, composed from it (descriptor
+ * cache entry references templates of root class direct super types and each template references templates of its
+ * direct super types). So templates are collected together with evicted (or softly collected) descriptors and
+ * total templates count is bounded by cache limits (could not exceed total weight of cached descriptors).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings({"PMD.LooseCoupling", "PMD.AvoidUsingVolatile"})
+final class HierarchyTemplates {
+
+    private static final String GROOVY_OBJECT = "GroovyObject";
+    // type contains variables
+    private static final int VARIABLES = 1;
+    // type could not be substituted
+    private static final int UNSUPPORTED = 2;
+
+    // template is computed once even when requested concurrently (e.g. during parallel warm up);
+    // templates are stored in partition of class loader of template class (to not prevent class loader unloading)
+    private final ClassLoaderPartitions<ConcurrentMap<Class<?>, Slot>> templates =
+            new ClassLoaderPartitions<>(new ClassLoaderPartitions.Factory<ConcurrentMap<Class<?>, Slot>>() {
+                @Override
+                public ConcurrentMap<Class<?>, Slot> create(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            });
+    private final ReferenceQueue<Template> collectedQueue = new ReferenceQueue<>();
+
+    /**
+     * Resolve root class hierarchy from super types templates. Used templates must be referenced while resolved
+     * descriptor is cached (otherwise templates could be collected).
+     *
+     * @param type         root class
+     * @param rootGenerics root class generics
+     * @param used         collector for used templates
+     * @return resolved generics for all types in class hierarchy or null if templates can't be used
+     */
+    Map<Class<?>, LinkedHashMap<String, Type>> resolve(final Class<?> type,
+                                                       final LinkedHashMap<String, Type> rootGenerics,
+                                                       final List<Object> used) {
+        purgeCollected();
+        try {
+            return compose(type, rootGenerics, used);
+        } catch (RuntimeException ex) {
+            // resolution errors are reported by usual hierarchy analysis
+            return null;
+        }
+    }
+
+    /**
+     * @return count of retained templates (including markers of not supported classes)
+     */
+    int size() {
+        purgeCollected();
+        int res = 0;
+        for (ConcurrentMap<Class<?>, Slot> partition : templates.all()) {
+            res += partition.size();
+        }
+        return res;
+    }
+
+    /**
+     * Remove all templates.
+     */
+    void clear() {
+        for (ConcurrentMap<Class<?>, Slot> partition : templates.all()) {
+            partition.clear();
+        }
+    }
+
+    /**
+     * Remove templates of classes, loaded by provided class loader.
+     *
+     * @param loader class loader (null for bootstrap loader)
+     */
+    void clear(final ClassLoader loader) {
+        final ConcurrentMap<Class<?>, Slot> partition = templates.find(loader);
+        if (partition != null) {
+            partition.clear();
+        }
+    }
+
+    /**
+     * Compose class hierarchy from direct super types templates. Direct super types are resolved
+     * exactly the same way as in usual hierarchy analysis.
+     *
+     * @param type     class to resolve hierarchy of
+     * @param generics class generics (actual or variables)
+     * @param used     collector for used templates
+     * @return resolved hierarchy or null if templates could not be used
+     */
+    private Map<Class<?>, LinkedHashMap<String, Type>> compose(final Class<?> type,
+                                                               final LinkedHashMap<String, Type> generics,
+                                                               final List<Object> used) {
+        final Map<Class<?>, LinkedHashMap<String, Type>> res = new LinkedHashMap<>();
+        res.put(type, generics);
+        // interfaces first (same order as in usual analysis)
+        for (Type iface : ClassMetadata.genericInterfaces(type)) {
+            final Class<?> ifaceType = GenericsUtils.resolveClassIgnoringVariables(iface);
+            final LinkedHashMap<String, Type> ifaceGenerics;
+            if (iface instanceof ParameterizedType) {
+                ifaceGenerics = GenericsResolutionUtils.resolveGenerics(iface, generics);
+            } else if (ClassMetadata.hasTypeParameters(ifaceType)) {
+                ifaceGenerics = GenericsResolutionUtils.resolveRawGenerics(ifaceType);
+            } else if (GROOVY_OBJECT.equals(ifaceType.getSimpleName())) {
+                // groovy specific interface is not included into hierarchy
+                continue;
+            } else {
+                ifaceGenerics = EmptyGenericsMap.getInstance();
+            }
+            if (!apply(res, ifaceType, ifaceGenerics, used)) {
+                return null;
+            }
+        }
+        final Class<?> superclass = type.getSuperclass();
+        if (superclass != null && superclass != Object.class) {
+            final LinkedHashMap<String, Type> superGenerics;
+            if (!type.isInterface() && ClassMetadata.genericSuperclass(type) instanceof ParameterizedType) {
+                superGenerics = GenericsResolutionUtils.resolveGenerics(
+                        ClassMetadata.genericSuperclass(type), generics);
+            } else if (ClassMetadata.hasTypeParameters(superclass)) {
+                superGenerics = GenericsResolutionUtils.resolveRawGenerics(superclass);
+            } else {
+                superGenerics = EmptyGenericsMap.getInstance();
+            }
+            if (!apply(res, superclass, superGenerics, used)) {
+                return null;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Substitute super type generics into its template and add resolved types into hierarchy.
+     *
+     * @param hierarchy already resolved types
+     * @param type      direct super type
+     * @param generics  super type generics
+     * @param used      collector for used templates
+     * @return false if templates could not be used
+     */
+    private boolean apply(final Map<Class<?>, LinkedHashMap<String, Type>> hierarchy,
+                          final Class<?> type,
+                          final LinkedHashMap<String, Type> generics,
+                          final List<Object> used) {
+        // inner class could require outer generics, known only in context of resolution
+        if (TypeUtils.isInner(type)) {
+            return false;
+        }
+        final Template template = getTemplate(type);
+        // not supported marker is also retained to avoid repeated template computation
+        used.add(template);
+        if (!template.isSupported()) {
+            return false;
+        }
+        for (int i = 0; i < template.types.length; i++) {
+            final Class<?> target = template.types[i];
+            final LinkedHashMap<String, Type> targetGenerics = target == type ? generics
+                    : template.resolve(i, generics);
+            final LinkedHashMap<String, Type> known = hierarchy.get(target);
+            if (known == null) {
+                hierarchy.put(target, targetGenerics);
+            } else if (!known.equals(targetGenerics)) {
+                // same type appears in hierarchy with different generics: merge required
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Template getTemplate(final Class<?> type) {
+        final ConcurrentMap<Class<?>, Slot> partition = templates.get(type);
+        Slot slot = partition.get(type);
+        if (slot == null) {
+            final Slot created = new Slot(partition, type);
+            slot = partition.putIfAbsent(type, created);
+            if (slot == null) {
+                slot = created;
+            }
+        }
+        return slot.get();
+    }
+
+    private Template buildTemplate(final Class<?> type) {
+        final List<? extends TypeVariable<?>> vars = ClassMetadata.typeParameters(type);
+        final LinkedHashMap<String, Type> generics;
+        if (vars.isEmpty()) {
+            generics = EmptyGenericsMap.getInstance();
+        } else {
+            generics = new LinkedHashMap<>();
+            for (TypeVariable var : vars) {
+                generics.put(var.getName(), new ExplicitTypeVariable(var));
+            }
+        }
+        final List<Object> supers = new ArrayList<>();
+        Template res = null;
+        try {
+            final Map<Class<?>, LinkedHashMap<String, Type>> hierarchy = compose(type, generics, supers);
+            if (hierarchy != null) {
+                res = Template.create(hierarchy, supers);
+            }
+        } catch (RuntimeException ex) {
+            // hierarchy could not be resolved with variables
+            res = null;
+        }
+        // marker instance is created for each class (to be collected together with class template users)
+        return res == null ? new Template(0, supers) : res;
+    }
+
+    private void purgeCollected() {
+        Reference<? extends Template> ref = collectedQueue.poll();
+        while (ref != null) {
+            final Slot slot = ((TemplateReference) ref).slot;
+            // slot could be already re-computed
+            if (slot.ref == ref) {
+                slot.partition.remove(slot.type, slot);
+            }
+            ref = collectedQueue.poll();
+        }
+    }
+
+    /**
+     * Detects variables (substitution required) and parameterized outer types: such types are resolved relative
+     * to hosting type generics, so the result would not be the same after substitution.
+     *
+     * @param type type to check
+     * @return type flags ({@link #VARIABLES} and {@link #UNSUPPORTED})
+     */
+    private static int scan(final Type type) {
+        int res = 0;
+        if (type instanceof ExplicitTypeVariable || type instanceof TypeVariable) {
+            res = VARIABLES;
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType param = (ParameterizedType) type;
+            if (param.getOwnerType() instanceof ParameterizedType) {
+                res = UNSUPPORTED;
+            }
+            for (Type arg : TypesInterner.arguments(param)) {
+                res |= scan(arg);
+            }
+        } else if (type instanceof GenericArrayType) {
+            res = scan(((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            final WildcardType wildcard = (WildcardType) type;
+            for (Type bound : TypesInterner.upperBounds(wildcard)) {
+                res |= scan(bound);
+            }
+            for (Type bound : TypesInterner.lowerBounds(wildcard)) {
+                res |= scan(bound);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Template holder: template is computed once (concurrent requests wait for computation) and referenced weakly
+     * (collected template is computed again on next request).
+     */
+    private final class Slot {
+        private final ConcurrentMap<Class<?>, Slot> partition;
+        private final Class<?> type;
+        private volatile TemplateReference ref;
+
+        Slot(final ConcurrentMap<Class<?>, Slot> partition, final Class<?> type) {
+            this.partition = partition;
+            this.type = type;
+        }
+
+        Template get() {
+            TemplateReference current = ref;
+            Template res = current == null ? null : current.get();
+            if (res == null) {
+                // no computeIfAbsent because of recursive templates computation; super type templates are computed
+                // under their own slot locks and, as hierarchy can't contain cycles, waiting threads can't block
+                // each other
+                synchronized (this) {
+                    current = ref;
+                    res = current == null ? null : current.get();
+                    if (res == null) {
+                        res = buildTemplate(type);
+                        ref = new TemplateReference(res, this, collectedQueue);
+                    }
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Weak reference to template, aware of template slot.
+     */
+    private static final class TemplateReference extends WeakReference<Template> {
+        private final Slot slot;
+
+        TemplateReference(final Template referent, final Slot slot, final ReferenceQueue<? super Template> queue) {
+            super(referent, queue);
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * Class hierarchy with class own generics preserved as variables. Template without types is a marker of class,
+     * which hierarchy could not be resolved with templates.
+     */
+    private static final class Template {
+        private final Class<?>[] types;
+        private final LinkedHashMap<String, Type>[] generics;
+        // true if type generics contain variables (substitution required)
+        private final boolean[] variables;
+        // direct super types templates (referenced to retain them while template is used)
+        @SuppressWarnings("PMD.UnusedPrivateField")
+        private final Object[] supers;
+
+        @SuppressWarnings("unchecked")
+        Template(final int size, final List<Object> supers) {
+            this.types = new Class<?>[size];
+            this.generics = new LinkedHashMap[size];
+            this.variables = new boolean[size];
+            this.supers = supers.toArray();
+        }
+
+        /**
+         * @return false if class hierarchy could not be resolved with templates
+         */
+        boolean isSupported() {
+            return types.length > 0;
+        }
+
+        /**
+         * @param hierarchy class hierarchy with class own generics preserved
+         * @param supers    direct super types templates
+         * @return template or null if hierarchy could not be used as template
+         */
+        static Template create(final Map<Class<?>, LinkedHashMap<String, Type>> hierarchy,
+                               final List<Object> supers) {
+            final Template res = new Template(hierarchy.size(), supers);
+            int i = 0;
+            for (Map.Entry<Class<?>, LinkedHashMap<String, Type>> entry : hierarchy.entrySet()) {
+                res.types[i] = entry.getKey();
+                res.generics[i] = entry.getValue();
+                int flags = 0;
+                for (Type type : entry.getValue().values()) {
+                    flags |= scan(type);
+                }
+                if ((flags & UNSUPPORTED) > 0) {
+                    return null;
+                }
+                res.variables[i] = flags > 0;
+                i++;
+            }
+            return res;
+        }
+
+        /**
+         * @param pos    type position
+         * @param values template variables values (template root type generics)
+         * @return type generics with substituted variables
+         */
+        LinkedHashMap<String, Type> resolve(final int pos, final Map<String, Type> values) {
+            final LinkedHashMap<String, Type> template = generics[pos];
+            final LinkedHashMap<String, Type> res;
+            if (template instanceof EmptyGenericsMap) {
+                res = template;
+            } else if (variables[pos]) {
+                res = new LinkedHashMap<>();
+                for (Map.Entry<String, Type> entry : template.entrySet()) {
+                    res.put(entry.getKey(), TypeVariableUtils.resolveAllTypeVariables(entry.getValue(), values));
+                }
+            } else {
+                // resolved maps could be modified so template map can't be used directly
+                res = new LinkedHashMap<>(template);
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package ru.vyarus.java.generics.resolver.context;
+
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Lazy generics resolution for complete descriptor (without ignored classes). Hierarchy types are collected
+ * immediately (the same types as in usual resolution), but type generics are resolved only when requested: type
+ * generics are computed from generics of types directly referencing it (sub class or implementing class), so only
+ * types between root and requested type are resolved.
+ * <p>
+ * If type is referenced multiple times in hierarchy (interface implemented in different places) with different
+ * parametrization (or generics computation fails), complete hierarchy is resolved with
+ * {@link GenericsResolutionUtils#resolve(Class, Class[])} (to produce exactly the same result as eager resolution,
+ * including resolution errors).
+ * <p>
+ * Resolved generics are stored in descriptor, so computed parts are shared between all threads. Resolution is
+ * synchronized on descriptor level, already resolved types are read without locking.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings("PMD.LooseCoupling")
+final class LazyHierarchy {
+
+    private static final String GROOVY_OBJECT = "GroovyObject";
+    // marks super class reference
+    private static final int SUPERCLASS = -1;
+
+    private final Class<?> root;
+    private final Class<?>[] types;
+    // positions of types, referencing type (sub class or class, implementing interface)
+    private final int[][] hosts;
+    // referencing slot: interface index in host generic interfaces or SUPERCLASS
+    private final int[][] slots;
+    // 1 when type generics resolved
+    private final AtomicIntegerArray resolved;
+
+    private LazyHierarchy(final Class<?> root, final Class<?>[] types, final int[][] hosts, final int[][] slots) {
+        this.root = root;
+        this.types = types;
+        this.hosts = hosts;
+        this.slots = slots;
+        this.resolved = new AtomicIntegerArray(types.length);
+    }
+
+    /**
+     * Collects hierarchy types and creates descriptor with only root generics resolved.
+     *
+     * @param type root class
+     * @return lazy descriptor
+     */
+    static GenericsInfo create(final Class<?> type) {
+        final Map<Class<?>, Integer> positions = new IdentityHashMap<>();
+        final List<Class<?>> types = new ArrayList<>();
+        final List<List<int[]>> refs = new ArrayList<>();
+        register(type, positions, types, refs);
+        collect(type, positions, types, refs);
+
+        final int size = types.size();
+        final int[][] hosts = new int[size][];
+        final int[][] slots = new int[size][];
+        for (int i = 0; i < size; i++) {
+            final List<int[]> typeRefs = refs.get(i);
+            hosts[i] = new int[typeRefs.size()];
+            slots[i] = new int[typeRefs.size()];
+            for (int j = 0; j < typeRefs.size(); j++) {
+                hosts[i][j] = typeRefs.get(j)[0];
+                slots[i][j] = typeRefs.get(j)[1];
+            }
+        }
+        final Class<?>[] hierarchy = types.toArray(new Class<?>[0]);
+        final LazyHierarchy lazy = new LazyHierarchy(type, hierarchy, hosts, slots);
+        final GenericsInfo res = new GenericsInfo(type, hierarchy, lazy);
+        res.storeResolved(0, GenericsResolutionUtils.resolveRawGenerics(type));
+        lazy.resolved.set(0, 1);
+        return res;
+    }
+
+    /**
+     * @param pos type position
+     * @return true if type generics are already resolved
+     */
+    boolean isResolved(final int pos) {
+        return resolved.get(pos) == 1;
+    }
+
+    /**
+     * Resolve type generics (together with all types between root and resolved type) and store them
+     * into descriptor.
+     *
+     * @param pos  type position
+     * @param info descriptor
+     * @throws ru.vyarus.java.generics.resolver.error.GenericsResolutionException if hierarchy can't be resolved
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    synchronized void resolve(final int pos, final GenericsInfo info) {
+        if (isResolved(pos)) {
+            return;
+        }
+        final LinkedHashMap<String, Type> generics;
+        try {
+            generics = compute(pos, info);
+        } catch (RuntimeException ex) {
+            // let usual resolution fail with the complete error
+            resolveAll(info);
+            return;
+        }
+        if (generics == null) {
+            resolveAll(info);
+        } else {
+            info.storeResolved(pos, generics);
+            resolved.set(pos, 1);
+        }
+    }
+
+    /**
+     * @param pos  type position
+     * @param info descriptor
+     * @return type generics or null if type referenced with different generics
+     */
+    private LinkedHashMap<String, Type> compute(final int pos, final GenericsInfo info) {
+        LinkedHashMap<String, Type> res = null;
+        for (int i = 0; i < hosts[pos].length; i++) {
+            final int host = hosts[pos][i];
+            resolve(host, info);
+            if (isResolved(pos)) {
+                // complete hierarchy resolved
+                return info.resolvedGenerics(pos);
+            }
+            final LinkedHashMap<String, Type> generics = slots[pos][i] == SUPERCLASS
+                    ? resolveSuperclass(types[host], info.resolvedGenerics(host))
+                    : resolveInterface(ClassMetadata.genericInterfaces(types[host]).get(slots[pos][i]),
+                    info.resolvedGenerics(host));
+            if (res != null && !res.equals(generics)) {
+                return null;
+            }
+            res = generics;
+        }
+        return res;
+    }
+
+    private void resolveAll(final GenericsInfo info) {
+        final Map<Class<?>, LinkedHashMap<String, Type>> generics = GenericsResolutionUtils.resolve(root);
+        for (int i = 0; i < types.length; i++) {
+            if (!isResolved(i)) {
+                info.storeResolved(i, generics.get(types[i]));
+                resolved.set(i, 1);
+            }
+        }
+    }
+
+    private static LinkedHashMap<String, Type> resolveSuperclass(final Class<?> type,
+                                                                 final LinkedHashMap<String, Type> generics) {
+        final Class<?> parent = type.getSuperclass();
+        LinkedHashMap<String, Type> res = null;
+        if (ClassMetadata.genericSuperclass(type) instanceof ParameterizedType) {
+            res = GenericsResolutionUtils.resolveGenerics(ClassMetadata.genericSuperclass(type), generics);
+        } else if (ClassMetadata.hasTypeParameters(parent)) {
+            res = GenericsResolutionUtils.resolveRawGenerics(parent);
+        }
+        return GenericsResolutionUtils.fillOuterGenerics(parent,
+                res == null ? EmptyGenericsMap.getInstance() : res,
+                Collections.<Class<?>, LinkedHashMap<String, Type>>emptyMap());
+    }
+
+    private static LinkedHashMap<String, Type> resolveInterface(final Type iface,
+                                                                final LinkedHashMap<String, Type> generics) {
+        final LinkedHashMap<String, Type> res;
+        if (iface instanceof ParameterizedType) {
+            res = GenericsResolutionUtils.resolveGenerics(iface, generics);
+        } else if (ClassMetadata.hasTypeParameters((Class) iface)) {
+            res = GenericsResolutionUtils.resolveRawGenerics((Class) iface);
+        } else {
+            res = EmptyGenericsMap.getInstance();
+        }
+        return res;
+    }
+
+    /**
+     * Collect hierarchy types the same way as {@link GenericsResolutionUtils#resolve(Class, Class[])} does.
+     *
+     * @param type      current type
+     * @param positions type positions
+     * @param types     collected types
+     * @param refs      type references (host position, slot)
+     */
+    private static void collect(final Class<?> type,
+                                final Map<Class<?>, Integer> positions,
+                                final List<Class<?>> types,
+                                final List<List<int[]>> refs) {
+        final int host = positions.get(type);
+        final List<Class<?>> ifaces = ClassMetadata.interfaces(type);
+        for (int i = 0; i < ifaces.size(); i++) {
+            final Class<?> iface = ifaces.get(i);
+            // avoid groovy specific interface (all groovy objects implements it)
+            if (ClassMetadata.hasTypeParameters(iface) || !GROOVY_OBJECT.equals(iface.getSimpleName())) {
+                final boolean known = positions.containsKey(iface);
+                refs.get(register(iface, positions, types, refs)).add(new int[]{host, i});
+                if (!known) {
+                    collect(iface, positions, types, refs);
+                }
+            }
+        }
+        final Class<?> parent = type.getSuperclass();
+        if (parent != null && parent != Object.class) {
+            refs.get(register(parent, positions, types, refs)).add(new int[]{host, SUPERCLASS});
+            collect(parent, positions, types, refs);
+        }
+    }
+
+    private static int register(final Class<?> type,
+                                final Map<Class<?>, Integer> positions,
+                                final List<Class<?>> types,
+                                final List<List<int[]>> refs) {
+        Integer res = positions.get(type);
+        if (res == null) {
+            res = types.size();
+            positions.put(type, res);
+            types.add(type);
+            refs.add(new ArrayList<int[]>(1));
+        }
+        return res;
+    }
+}
@@ -0,0 +1,276 @@
+package ru.vyarus.java.generics.resolver.context;
+
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Immutable table of resolved member types of all classes in hierarchy: declared fields, declared methods
+ * (return and parameter types) and bean properties. Table is built in one pass (each member is resolved directly
+ * in context of its declaring type, without context selection) and cached inside {@link GenericsInfo}, so all
+ * contexts of the same descriptor share it. Useful for frameworks introspecting all class members (mappers,
+ * DI containers) instead of resolving each member separately:
+ * <pre>{@code MembersTable table = GenericsResolver.resolve(Some.class).members();
+ * Type type = table.getFieldType(field);
+ * Type prop = table.getPropertyType("name");}</pre>
+ * <p>
+ * Synthetic members (and bridge methods) are not included. Method generics are resolved as upper bounds
+ * (the same as in {@link MethodGenericsContext}). Primitive types are returned as is.
+ * <p>
+ * Bean properties are recognized by public (not static) methods of root class (including inherited, see
+ * {@link Class#getMethods()}): getter ({@code getName()} or {@code isName()} for primitive boolean) or setter
+ * ({@code setName(value)}). Property type is getter return type (or setter parameter type if there is no getter),
+ * resolved in context of getter declaring type. Only effective (overriding) methods are used: when both class and
+ * interface declare accessor, class method wins.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class MembersTable {
+
+    private static final String GET = "get";
+    private static final String IS = "is";
+    private static final String SET = "set";
+
+    private final Class<?> root;
+    private final Map<Field, Type> fields;
+    private final Map<Method, MethodSignature> methods;
+    private final Map<String, Type> properties;
+
+    private MembersTable(final Class<?> root,
+                         final Map<Field, Type> fields,
+                         final Map<Method, MethodSignature> methods,
+                         final Map<String, Type> properties) {
+        this.root = root;
+        this.fields = Collections.unmodifiableMap(fields);
+        this.methods = Collections.unmodifiableMap(methods);
+        this.properties = Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * @return root class of hierarchy
+     */
+    public Class<?> getRootClass() {
+        return root;
+    }
+
+    /**
+     * @return resolved types of all declared fields of hierarchy types (in hierarchy order)
+     */
+    public Map<Field, Type> getFields() {
+        return fields;
+    }
+
+    /**
+     * @param field field declared in any hierarchy type
+     * @return resolved field type or null if field is not declared in hierarchy
+     * @see AbstractGenericsContext#resolveFieldType(Field)
+     */
+    public Type getFieldType(final Field field) {
+        return fields.get(field);
+    }
+
+    /**
+     * @return resolved signatures of all declared methods of hierarchy types (in hierarchy order)
+     */
+    public Map<Method, MethodSignature> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @param method method declared in any hierarchy type
+     * @return resolved method signature or null if method is not declared in hierarchy
+     * @see MethodGenericsContext#resolveReturnType()
+     * @see MethodGenericsContext#resolveParametersTypes()
+     */
+    public MethodSignature getMethod(final Method method) {
+        return methods.get(method);
+    }
+
+    /**
+     * @return resolved bean properties types (property name - type)
+     */
+    public Map<String, Type> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @param name property name
+     * @return resolved property type or null if no such property
+     */
+    public Type getPropertyType(final String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * @return total count of resolved fields, methods and properties
+     */
+    public int size() {
+        return fields.size() + methods.size() + properties.size();
+    }
+
+    @Override
+    public String toString() {
+        return "members of " + TypeToStringUtils.toStringType(root) + ": fields=" + fields.size()
+                + " methods=" + methods.size() + " properties=" + properties.size();
+    }
+
+    /**
+     * Resolve members of all hierarchy types.
+     *
+     * @param context any context of descriptor
+     * @return resolved members table
+     */
+    static MembersTable build(final GenericsContext context) {
+        final GenericsInfo info = context.getGenericsInfo();
+        final Map<Field, Type> fields = new LinkedHashMap<>();
+        final Map<Method, MethodSignature> methods = new LinkedHashMap<>();
+        for (int i = 0; i < info.size(); i++) {
+            final GenericsContext type = context.type(info.typeAt(i));
+            final Map<String, Type> generics = type.contextGenerics();
+            for (Field field : type.currentClass().getDeclaredFields()) {
+                if (!field.isSynthetic()) {
+                    fields.put(field, GenericsUtils.resolveTypeVariables(field.getGenericType(), generics));
+                }
+            }
+            for (Method method : type.currentClass().getDeclaredMethods()) {
+                if (!method.isSynthetic()) {
+                    // only generified methods require method context
+                    final Map<String, Type> methodGenerics = method.getTypeParameters().length == 0
+                            ? generics : type.method(method).contextGenerics();
+                    methods.put(method, new MethodSignature(method,
+                            GenericsUtils.resolveTypeVariables(method.getGenericReturnType(), methodGenerics),
+                            GenericsUtils.resolveTypeVariables(method.getGenericParameterTypes(), methodGenerics)));
+                }
+            }
+        }
+        return new MembersTable(info.getRootClass(), fields, methods, findProperties(info.getRootClass(), methods));
+    }
+
+    private static Map<String, Type> findProperties(final Class<?> root,
+                                                    final Map<Method, MethodSignature> methods) {
+        final Map<String, MethodSignature> getters = new LinkedHashMap<>();
+        final Map<String, MethodSignature> setters = new LinkedHashMap<>();
+        // public methods without overridden super types methods
+        for (Method method : root.getMethods()) {
+            // bridge methods and methods of types, not present in hierarchy, are not in table
+            final MethodSignature signature = methods.get(method);
+            if (signature != null && !Modifier.isStatic(method.getModifiers())) {
+                registerAccessor(signature, getters, setters);
+            }
+        }
+        final Map<String, Type> res = new LinkedHashMap<>();
+        for (Map.Entry<String, MethodSignature> entry : getters.entrySet()) {
+            res.put(entry.getKey(), entry.getValue().getReturnType());
+        }
+        // setter type used only when there is no getter
+        for (Map.Entry<String, MethodSignature> entry : setters.entrySet()) {
+            if (!res.containsKey(entry.getKey())) {
+                res.put(entry.getKey(), entry.getValue().getParameterTypes().get(0));
+            }
+        }
+        return res;
+    }
+
+    private static void registerAccessor(final MethodSignature signature,
+                                         final Map<String, MethodSignature> getters,
+                                         final Map<String, MethodSignature> setters) {
+        final String name = signature.getMethod().getName();
+        final Class<?> returnType = signature.getMethod().getReturnType();
+        final int params = signature.getParameterTypes().size();
+        if (params == 0 && name.length() > GET.length() && name.startsWith(GET) && returnType != void.class) {
+            register(getters, name.substring(GET.length()), signature);
+        } else if (params == 0 && name.length() > IS.length() && name.startsWith(IS) && returnType == boolean.class) {
+            register(getters, name.substring(IS.length()), signature);
+        } else if (params == 1 && name.length() > SET.length() && name.startsWith(SET)) {
+            register(setters, name.substring(SET.length()), signature);
+        }
+    }
+
+    private static void register(final Map<String, MethodSignature> accessors, final String name,
+                                 final MethodSignature signature) {
+        final String property = decapitalize(name);
+        final MethodSignature current = accessors.get(property);
+        // class and interface methods with different return types or overloaded setters
+        if (current == null || isMoreSpecific(signature.getMethod(), current.getMethod())) {
+            accessors.put(property, signature);
+        }
+    }
+
+    /**
+     * @param method  candidate method
+     * @param current already registered method with the same property name
+     * @return true if candidate method is declared in class, while current is interface method, or in sub type
+     * of current method declaring type
+     */
+    private static boolean isMoreSpecific(final Method method, final Method current) {
+        final Class<?> type = method.getDeclaringClass();
+        final Class<?> currentType = current.getDeclaringClass();
+        return type != currentType
+                && (currentType.isInterface() && !type.isInterface() || currentType.isAssignableFrom(type));
+    }
+
+    /**
+     * Same rules as in {@code java.beans.Introspector.decapitalize}: "FooBar" become "fooBar", but "URL" stays
+     * "URL".
+     *
+     * @param name name part after accessor prefix
+     * @return property name
+     */
+    private static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Resolved method signature.
+     */
+    public static final class MethodSignature {
+        private final Method method;
+        private final Type returnType;
+        private final List<Type> parameterTypes;
+
+        MethodSignature(final Method method, final Type returnType, final Type... parameterTypes) {
+            this.method = method;
+            this.returnType = returnType;
+            this.parameterTypes = parameterTypes.length == 0
+                    ? Collections.<Type>emptyList() : Collections.unmodifiableList(Arrays.asList(parameterTypes));
+        }
+
+        /**
+         * @return method
+         */
+        public Method getMethod() {
+            return method;
+        }
+
+        /**
+         * @return resolved method return type (may be primitive or void)
+         */
+        public Type getReturnType() {
+            return returnType;
+        }
+
+        /**
+         * @return resolved method parameters types or empty list
+         */
+        public List<Type> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        @Override
+        public String toString() {
+            return TypeToStringUtils.toStringType(returnType) + " " + method.getName() + "("
+                    + TypeToStringUtils.toStringTypes(parameterTypes.toArray(new Type[0]),
+                    EmptyGenericsMap.getInstance()) + ")";
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package ru.vyarus.java.generics.resolver.context;
+
+import ru.vyarus.java.generics.resolver.processor.PrecomputeGenerics;
+import ru.vyarus.java.generics.resolver.util.TypeSignatureUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loads hierarchy generics, precomputed at compile time by
+ * {@link ru.vyarus.java.generics.resolver.processor.GenericsMetadataProcessor}. Metadata is searched only for classes
+ * (or classes in packages) annotated with {@link PrecomputeGenerics}. Metadata is ignored if any hierarchy class
+ * signature is changed after metadata generation.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings("PMD.LooseCoupling")
+final class PrecomputedGenerics {
+
+    private PrecomputedGenerics() {
+    }
+
+    /**
+     * @param type root class
+     * @return descriptor, created from precomputed metadata or null if metadata not available (or stale)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    static GenericsInfo load(final Class<?> type) {
+        if (!isMarked(type)) {
+            return null;
+        }
+        try {
+            final ClassLoader loader = type.getClassLoader();
+            final Class<?> metadata = Class.forName(type.getName() + PrecomputeGenerics.METADATA_SUFFIX,
+                    true, loader);
+            final String[] names = (String[]) metadata.getField(PrecomputeGenerics.TYPES_FIELD).get(null);
+            final long[] signatures = (long[]) metadata.getField(PrecomputeGenerics.SIGNATURES_FIELD).get(null);
+            final String[][] generics = (String[][]) metadata.getField(PrecomputeGenerics.GENERICS_FIELD).get(null);
+            if (names.length == 0 || !type.getName().equals(names[0])) {
+                return null;
+            }
+            final Map<Class<?>, LinkedHashMap<String, Type>> types = new LinkedHashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                final Class<?> cls = i == 0 ? type : Class.forName(names[i], false, loader);
+                if (TypeSignatureUtils.hash(TypeSignatureUtils.toClassSignature(cls)) != signatures[i]) {
+                    // stale metadata
+                    return null;
+                }
+                types.put(cls, toMap(generics[i], loader));
+            }
+            return new GenericsInfo(type, types);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            // no metadata or it's not compatible: resolve with reflection
+            return null;
+        }
+    }
+
+    private static boolean isMarked(final Class<?> type) {
+        final Package pkg = type.getPackage();
+        return type.isAnnotationPresent(PrecomputeGenerics.class)
+                || pkg != null && pkg.isAnnotationPresent(PrecomputeGenerics.class);
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static LinkedHashMap<String, Type> toMap(final String[] generics, final ClassLoader loader)
+            throws ClassNotFoundException {
+        if (generics.length == 0) {
+            return EmptyGenericsMap.getInstance();
+        }
+        final LinkedHashMap<String, Type> res = new LinkedHashMap<>(generics.length);
+        for (int i = 0; i < generics.length; i += 2) {
+            res.put(generics[i], TypeSignatureUtils.parse(generics[i + 1], loader));
+        }
+        return res;
+    }
+}
@@ -11,11 +11,17 @@ import java.lang.reflect.Type;
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.java.generics.resolver.util.type.TypeFactory#array(Type) for simplified construction
+ * @see TypesInterner for canonical instances
  * @since 15.12.2014
  */
 public class GenericArrayTypeImpl implements GenericArrayType {
 
     private final Type componentType;
+    // interner pool for canonical instance (see TypesInterner)
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    Object canonical;
+    // cached string of canonical instance
+    private String string;
 
     @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
     public GenericArrayTypeImpl(final Type componentType) {
@@ -33,7 +39,10 @@ public class GenericArrayTypeImpl implements GenericArrayType {
     @Override
     public boolean equals(final Object o) {
         boolean res = this == o;
-        if (!res && o instanceof GenericArrayType) {
+        // different canonical instances of the same pool are never equal
+        if (!res && o instanceof GenericArrayType
+                && (canonical == null || !(o instanceof GenericArrayTypeImpl)
+                || ((GenericArrayTypeImpl) o).canonical != canonical)) {
             final Type thatComponentType = ((GenericArrayType) o).getGenericComponentType();
             res = componentType.equals(thatComponentType);
         }
@@ -47,6 +56,14 @@ public class GenericArrayTypeImpl implements GenericArrayType {
 
     @Override
     public String toString() {
-        return TypeToStringUtils.toStringType(this);
+        String res = string;
+        if (res == null) {
+            res = TypeToStringUtils.toStringType(this);
+            // only canonical instance contain immutable types (instance types could change)
+            if (canonical != null) {
+                string = res;
+            }
+        }
+        return res;
     }
 }
@@ -13,6 +13,7 @@ import java.util.Arrays;
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.java.generics.resolver.util.type.TypeFactory#param(Class, Type...) for simplified construction
  * @see ru.vyarus.java.generics.resolver.util.type.TypeFactory#param(Class, Type[], Type) for simplified construction
+ * @see TypesInterner for canonical instances
  * @since 15.12.2014
  */
 public class ParameterizedTypeImpl implements ParameterizedType {
@@ -20,6 +21,13 @@ public class ParameterizedTypeImpl implements ParameterizedType {
     private final Type rawType;
     private final Type[] actualArguments;
     private final Type ownerType;
+    // interner pool for canonical instance (see TypesInterner)
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    Object canonical;
+    // cached hash of canonical instance
+    private int hash;
+    // cached string of canonical instance
+    private String string;
 
     @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
     public ParameterizedTypeImpl(final Type rawType, final Type... actualArguments) {
@@ -41,6 +49,16 @@ public class ParameterizedTypeImpl implements ParameterizedType {
         return Arrays.copyOf(actualArguments, actualArguments.length);
     }
 
+    /**
+     * Internal arguments array access (without copy). Must not be modified.
+     *
+     * @return type arguments
+     * @see TypesInterner#arguments(ParameterizedType)
+     */
+    Type[] arguments() {
+        return actualArguments;
+    }
+
     @Override
     public Type getRawType() {
         return rawType;
@@ -54,9 +72,12 @@ public class ParameterizedTypeImpl implements ParameterizedType {
     @Override
     public boolean equals(final Object o) {
         boolean res = this == o;
-        if (!res && o instanceof ParameterizedType) {
+        // different canonical instances of the same pool are never equal
+        if (!res && o instanceof ParameterizedType
+                && (canonical == null || !(o instanceof ParameterizedTypeImpl)
+                || ((ParameterizedTypeImpl) o).canonical != canonical)) {
             final ParameterizedType that = (ParameterizedType) o;
-            final Type[] thatActualArguments = that.getActualTypeArguments();
+            final Type[] thatActualArguments = TypesInterner.arguments(that);
             final Type thatOwnerType = that.getOwnerType();
             final Type thatRawType = that.getRawType();
 
@@ -69,14 +90,29 @@ public class ParameterizedTypeImpl implements ParameterizedType {
 
     @Override
     public int hashCode() {
-        int result = rawType.hashCode();
-        result = 31 * result + Arrays.hashCode(actualArguments);
-        result = 31 * result + (ownerType != null ? ownerType.hashCode() : 0);
+        int result = hash;
+        if (result == 0) {
+            result = rawType.hashCode();
+            result = 31 * result + Arrays.hashCode(actualArguments);
+            result = 31 * result + (ownerType != null ? ownerType.hashCode() : 0);
+            // only canonical instance contain immutable types (instance types could change)
+            if (canonical != null) {
+                hash = result;
+            }
+        }
         return result;
     }
 
     @Override
     public String toString() {
-        return TypeToStringUtils.toStringType(this);
+        String res = string;
+        if (res == null) {
+            res = TypeToStringUtils.toStringType(this);
+            // only canonical instance contain immutable types (instance types could change)
+            if (canonical != null) {
+                string = res;
+            }
+        }
+        return res;
     }
 }
@@ -0,0 +1,295 @@
+package ru.vyarus.java.generics.resolver.context.container;
+
+import ru.vyarus.java.generics.resolver.util.ClassLoaderPartitions;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interner for resolved types: structurally equal {@link ParameterizedTypeImpl}, {@link WildcardTypeImpl} and
+ * {@link GenericArrayTypeImpl} instances are replaced with one canonical instance. Canonical instance caches its
+ * hash and equality between two canonical instances is an identity check (so maps keyed by types become cheaper).
+ * <p>
+ * Only types composed of classes, type variables and other canonical types are interned: types containing
+ * {@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType} (or any other foreign type
+ * implementation) are returned as is (instance types are mutable and hold user objects).
+ * <p>
+ * Interned types are held strongly, so the pool is bounded: when it grows above {@link #MAX_SIZE} it is dropped and
+ * started from scratch (previously interned types remain valid, just not shared anymore). Pool is also cleared with
+ * {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory#clearCache()}.
+ * <p>
+ * There is a separate pool for each class loader (see {@link ClassLoaderPartitions}): type is interned in pool of
+ * the youngest class loader of its classes (so equal types are always interned in the same pool). Pool does not
+ * prevent class loader unloading. Types, composed of classes of unrelated class loaders, are not interned.
+ * <p>
+ * Also provides read-only access to internal arrays of container types (without array copy, performed by
+ * standard reflection api methods). Returned arrays must never be modified.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings("PMD.AvoidUsingVolatile")
+public final class TypesInterner {
+
+    /**
+     * Maximum count of interned types (in one class loader pool).
+     */
+    public static final int MAX_SIZE = 10_000;
+
+    private static final ClassLoaderPartitions<Partition> POOLS = new ClassLoaderPartitions<>(
+            new ClassLoaderPartitions.Factory<Partition>() {
+                @Override
+                public Partition create(final Class<?> type) {
+                    return new Partition(type);
+                }
+            });
+
+    private TypesInterner() {
+    }
+
+    /**
+     * Type components are interned too. Not supported types (and types with not supported components) are
+     * returned as is.
+     *
+     * @param type type to intern
+     * @param <T>  type class
+     * @return canonical type instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> T intern(final T type) {
+        final Pool canonical = canonical(type);
+        if (canonical != null && canonical.isActual()) {
+            return type;
+        }
+        final T candidate = (T) withCanonicalComponents(type);
+        final Class<?> owner = candidate == null ? null : ClassLoaderPartitions.owner(candidate);
+        if (owner == null) {
+            return type;
+        }
+        final Partition partition = POOLS.get(owner);
+        final Pool current = partition.pool;
+        T res = (T) current.types.putIfAbsent(candidate, candidate);
+        if (res == null) {
+            res = candidate;
+            markCanonical(candidate, current);
+            if (current.types.size() > MAX_SIZE) {
+                // old canonical instances remain correct: identity checks are performed only within one pool
+                partition.pool = new Pool(partition);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param type type to check
+     * @return true if type is a canonical instance
+     */
+    public static boolean isCanonical(final Type type) {
+        return canonical(type) != null;
+    }
+
+    /**
+     * @param type canonical type
+     * @return class of class loader, which pool holds canonical type, or null if type is not canonical
+     */
+    public static Class<?> owner(final Type type) {
+        final Pool canonical = canonical(type);
+        return canonical == null ? null : canonical.partition.owner;
+    }
+
+    /**
+     * @return count of currently interned types (in all pools)
+     */
+    public static int size() {
+        int res = 0;
+        for (Partition partition : POOLS.all()) {
+            res += partition.pool.types.size();
+        }
+        return res;
+    }
+
+    /**
+     * Drop all interned types.
+     */
+    public static void clear() {
+        for (Partition partition : POOLS.all()) {
+            partition.pool = new Pool(partition);
+        }
+    }
+
+    /**
+     * Returned array must not be modified!
+     *
+     * @param type parameterized type
+     * @return type arguments (internal array for {@link ParameterizedTypeImpl})
+     */
+    public static Type[] arguments(final ParameterizedType type) {
+        return type instanceof ParameterizedTypeImpl ? ((ParameterizedTypeImpl) type).arguments()
+                : type.getActualTypeArguments();
+    }
+
+    /**
+     * Returned array must not be modified!
+     *
+     * @param type wildcard type
+     * @return upper bounds (internal array for {@link WildcardTypeImpl})
+     */
+    public static Type[] upperBounds(final WildcardType type) {
+        return type instanceof WildcardTypeImpl ? ((WildcardTypeImpl) type).upper()
+                : type.getUpperBounds();
+    }
+
+    /**
+     * Returned array must not be modified!
+     *
+     * @param type wildcard type
+     * @return lower bounds (internal array for {@link WildcardTypeImpl})
+     */
+    public static Type[] lowerBounds(final WildcardType type) {
+        return type instanceof WildcardTypeImpl ? ((WildcardTypeImpl) type).lower()
+                : type.getLowerBounds();
+    }
+
+    private static Pool canonical(final Type type) {
+        final Object res;
+        if (type instanceof ParameterizedTypeImpl) {
+            res = ((ParameterizedTypeImpl) type).canonical;
+        } else if (type instanceof WildcardTypeImpl) {
+            res = ((WildcardTypeImpl) type).canonical;
+        } else if (type instanceof GenericArrayTypeImpl) {
+            res = ((GenericArrayTypeImpl) type).canonical;
+        } else {
+            res = null;
+        }
+        return (Pool) res;
+    }
+
+    private static void markCanonical(final Type type, final Pool owner) {
+        if (type instanceof ParameterizedTypeImpl) {
+            ((ParameterizedTypeImpl) type).canonical = owner;
+        } else if (type instanceof WildcardTypeImpl) {
+            ((WildcardTypeImpl) type).canonical = owner;
+        } else {
+            ((GenericArrayTypeImpl) type).canonical = owner;
+        }
+    }
+
+    /**
+     * Only exact container classes are interned (subclasses could have different semantic). All components must be
+     * immutable (otherwise cached hash would be incorrect).
+     *
+     * @param type type to check
+     * @return type with interned components (could be the same instance) or null if type can't be interned
+     */
+    private static Type withCanonicalComponents(final Type type) {
+        final Class<?> cls = type.getClass();
+        Type res = null;
+        if (cls == ParameterizedTypeImpl.class) {
+            res = internComponents((ParameterizedTypeImpl) type);
+        } else if (cls == WildcardTypeImpl.class) {
+            final WildcardTypeImpl wildcard = (WildcardTypeImpl) type;
+            final Type[] upper = internAll(wildcard.upper());
+            final Type[] lower = internAll(wildcard.lower());
+            if (upper != null && lower != null) {
+                res = upper == wildcard.upper() && lower == wildcard.lower()
+                        ? type : new WildcardTypeImpl(upper, lower);
+            }
+        } else if (cls == GenericArrayTypeImpl.class) {
+            final Type component = ((GenericArrayTypeImpl) type).getGenericComponentType();
+            final Type canonicalComponent = internComponent(component);
+            if (canonicalComponent != null) {
+                res = canonicalComponent == component ? type : new GenericArrayTypeImpl(canonicalComponent);
+            }
+        }
+        return res;
+    }
+
+    private static Type internComponents(final ParameterizedTypeImpl type) {
+        final Type owner = type.getOwnerType() == null ? null : internComponent(type.getOwnerType());
+        final Type[] args = internAll(type.arguments());
+        Type res = null;
+        if ((owner != null || type.getOwnerType() == null) && args != null) {
+            res = owner == type.getOwnerType() && args == type.arguments()
+                    ? type : new ParameterizedTypeImpl(type.getRawType(), args, owner);
+        }
+        return res;
+    }
+
+    /**
+     * @param type type component
+     * @return canonical component or null if component could not be interned
+     */
+    private static Type internComponent(final Type type) {
+        Type res = type;
+        if (!(type instanceof Class || type instanceof TypeVariable || type instanceof ExplicitTypeVariable
+                || canonical(type) != null)) {
+            res = intern(type);
+            if (!isCanonical(res)) {
+                // mutable or unknown type
+                res = null;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param types type components
+     * @return the same array if all components are canonical, array with canonical components or null if some
+     * component could not be interned
+     */
+    @SuppressWarnings({"PMD.UseVarargs", "PMD.ReturnEmptyCollectionRatherThanNull"})
+    private static Type[] internAll(final Type[] types) {
+        Type[] res = types;
+        for (int i = 0; i < types.length; i++) {
+            final Type type = internComponent(types[i]);
+            if (type == null) {
+                return null;
+            }
+            if (type != types[i]) {
+                if (res == types) {
+                    res = Arrays.copyOf(types, types.length);
+                }
+                res[i] = type;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Interned types of one class loader.
+     */
+    private static final class Partition {
+        // class of partition class loader
+        private final Class<?> owner;
+        private volatile Pool pool = new Pool(this);
+
+        Partition(final Class<?> owner) {
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Interned types. Each pool is a separate identity scope: two different canonical instances of the same pool
+     * are never equal.
+     */
+    private static final class Pool {
+        private final Partition partition;
+        private final ConcurrentMap<Type, Type> types = new ConcurrentHashMap<>();
+
+        Pool(final Partition partition) {
+            this.partition = partition;
+        }
+
+        /**
+         * @return true if pool was not dropped
+         */
+        boolean isActual() {
+            return partition.pool == this;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Collections;
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.java.generics.resolver.util.type.TypeFactory#upper(Type...) for simplified construction
  * @see ru.vyarus.java.generics.resolver.util.type.TypeFactory#lower(Type)  for simplified construction
+ * @see TypesInterner for canonical instances
  * @since 15.12.2014
  */
 public class WildcardTypeImpl implements WildcardType {
@@ -29,6 +30,13 @@ public class WildcardTypeImpl implements WildcardType {
     private final Type[] upperBounds;
     // ? super T
     private final Type[] lowerBounds;
+    // interner pool for canonical instance (see TypesInterner)
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    Object canonical;
+    // cached hash of canonical instance
+    private int hash;
+    // cached string of canonical instance
+    private String string;
 
     @SuppressWarnings("PMD.UseVarargs")
     public WildcardTypeImpl(final Type[] upperBounds, final Type[] lowerBounds) {
@@ -58,13 +66,36 @@ public class WildcardTypeImpl implements WildcardType {
         return Arrays.copyOf(upperBounds, upperBounds.length);
     }
 
+    /**
+     * Internal upper bounds array access (without copy). Must not be modified.
+     *
+     * @return upper bounds
+     * @see TypesInterner#upperBounds(WildcardType)
+     */
+    Type[] upper() {
+        return upperBounds;
+    }
+
+    /**
+     * Internal lower bounds array access (without copy). Must not be modified.
+     *
+     * @return lower bounds
+     * @see TypesInterner#lowerBounds(WildcardType)
+     */
+    Type[] lower() {
+        return lowerBounds;
+    }
+
     @Override
     public boolean equals(final Object o) {
         boolean res = this == o;
-        if (!res && o instanceof WildcardType) {
+        // different canonical instances of the same pool are never equal
+        if (!res && o instanceof WildcardType
+                && (canonical == null || !(o instanceof WildcardTypeImpl)
+                || ((WildcardTypeImpl) o).canonical != canonical)) {
             final WildcardType that = (WildcardType) o;
-            final Type[] thatLowerBounds = that.getLowerBounds();
-            final Type[] thatUpperBounds = that.getUpperBounds();
+            final Type[] thatLowerBounds = TypesInterner.lowerBounds(that);
+            final Type[] thatUpperBounds = TypesInterner.upperBounds(that);
 
             res = Arrays.equals(lowerBounds, thatLowerBounds) && Arrays.equals(upperBounds, thatUpperBounds);
         }
@@ -73,14 +104,29 @@ public class WildcardTypeImpl implements WildcardType {
 
     @Override
     public int hashCode() {
-        int result = Arrays.hashCode(upperBounds);
-        result = 31 * result + Arrays.hashCode(lowerBounds);
+        int result = hash;
+        if (result == 0) {
+            result = Arrays.hashCode(upperBounds);
+            result = 31 * result + Arrays.hashCode(lowerBounds);
+            // only canonical instance contain immutable types (instance types could change)
+            if (canonical != null) {
+                hash = result;
+            }
+        }
         return result;
     }
 
     @Override
     public String toString() {
-        return TypeToStringUtils.toStringType(this, Collections.<String, Type>emptyMap());
+        String res = string;
+        if (res == null) {
+            res = TypeToStringUtils.toStringType(this, Collections.<String, Type>emptyMap());
+            // only canonical instance contain immutable types (instance types could change)
+            if (canonical != null) {
+                string = res;
+            }
+        }
+        return res;
     }
 
     /**
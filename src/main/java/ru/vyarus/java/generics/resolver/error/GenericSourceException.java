@@ -25,6 +25,15 @@ public abstract class GenericSourceException extends GenericsException {
         super(message, cause);
     }
 
+    /**
+     * Constructor for exceptions with computed message (see {@link #formatMessage()}).
+     *
+     * @param cause cause exception (may be null)
+     */
+    protected GenericSourceException(final Throwable cause) {
+        super(cause);
+    }
+
     /**
      * @return generic name
      */
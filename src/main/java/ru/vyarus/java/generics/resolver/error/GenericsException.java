@@ -3,17 +3,91 @@ package ru.vyarus.java.generics.resolver.error;
 /**
  * Base class for generic-related exceptions. May be used to intercept all generic analysis related exceptions
  * ({@code catch(GenericRelatedException ex)}).
+ * <p>
+ * In lightweight mode ({@link #LIGHTWEIGHT_PROPERTY}) exceptions do not capture stack trace and library exceptions
+ * format message only when it is requested (cheap failures when exceptions are used for types probing).
  *
  * @author Vyacheslav Rusakov
  * @since 13.05.2018
  */
+@SuppressWarnings("PMD.AvoidUsingVolatile")
 public abstract class GenericsException extends RuntimeException {
 
+    /**
+     * System property or environment variable name to enable lightweight exceptions (without stack trace and with
+     * lazy message). If value is 'true' - lightweight mode enabled. Value is read once, use
+     * {@link #setLightweight(boolean)} to change mode at runtime.
+     */
+    public static final String LIGHTWEIGHT_PROPERTY = GenericsException.class.getName() + ".lightweight";
+
+    private static volatile boolean lightweight = Boolean.TRUE.toString().equals(
+            System.getProperty(LIGHTWEIGHT_PROPERTY, System.getenv(LIGHTWEIGHT_PROPERTY)));
+
+    // message, formatted on first access (in lightweight mode)
+    private volatile String message;
+
     public GenericsException(final String message) {
-        super(message);
+        this(message, null);
     }
 
     public GenericsException(final String message, final Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, !lightweight);
+        this.message = message;
+    }
+
+    /**
+     * Constructor for exceptions with computed message: message is formatted with {@link #formatMessage()}, which
+     * must be called with {@link #initMessage()} at the end of subclass constructor.
+     *
+     * @param cause cause exception (may be null)
+     */
+    protected GenericsException(final Throwable cause) {
+        super(null, cause, true, !lightweight);
+    }
+
+    /**
+     * @return true if lightweight exceptions enabled
+     */
+    public static boolean isLightweight() {
+        return lightweight;
+    }
+
+    /**
+     * Enable or disable lightweight exceptions (affects only new exceptions).
+     *
+     * @param enabled true to enable lightweight exceptions
+     * @see #LIGHTWEIGHT_PROPERTY
+     */
+    public static void setLightweight(final boolean enabled) {
+        lightweight = enabled;
+    }
+
+    @Override
+    public String getMessage() {
+        String res = message;
+        if (res == null) {
+            // concurrent formatting is harmless
+            res = formatMessage();
+            message = res;
+        }
+        return res;
+    }
+
+    /**
+     * Used only by exceptions, created with {@link #GenericsException(Throwable)} constructor.
+     *
+     * @return formatted exception message
+     */
+    protected String formatMessage() {
+        return null;
+    }
+
+    /**
+     * Format message immediately, unless lightweight mode enabled.
+     */
+    protected final void initMessage() {
+        if (!lightweight && message == null) {
+            message = formatMessage();
+        }
     }
 }
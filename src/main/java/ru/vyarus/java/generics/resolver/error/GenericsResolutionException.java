@@ -29,12 +29,11 @@ public class GenericsResolutionException extends GenericsException {
                                        final LinkedHashMap<String, Type> rootGenerics,
                                        final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
                                        final Exception ex) {
-        super(String.format("Failed to analyze hierarchy for %s%s",
-                TypeToStringUtils.toStringWithGenerics(type, rootGenerics),
-                formatKnownGenerics(type, knownGenerics)), ex);
+        super(ex);
         this.type = type;
         this.rootGenerics = rootGenerics;
         this.knownGenerics = knownGenerics;
+        initMessage();
     }
 
     /**
@@ -58,6 +57,13 @@ public class GenericsResolutionException extends GenericsException {
         return knownGenerics;
     }
 
+    @Override
+    protected String formatMessage() {
+        return String.format("Failed to analyze hierarchy for %s%s",
+                TypeToStringUtils.toStringWithGenerics(type, rootGenerics),
+                formatKnownGenerics(type, knownGenerics));
+    }
+
     private static String formatKnownGenerics(final Class<?> type,
                                               final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics) {
         if (knownGenerics.isEmpty()) {
@@ -22,12 +22,11 @@ public class GenericsTrackingException extends GenericsException {
                                      final Class<?> knownType,
                                      final LinkedHashMap<String, Type> knownTypeGenerics,
                                      final Exception ex) {
-        super(String.format("Failed to track generics of %s from sub type %s",
-                TypeToStringUtils.toStringWithNamedGenerics(type),
-                TypeToStringUtils.toStringWithGenerics(knownType, knownTypeGenerics)), ex);
+        super(ex);
         this.type = type;
         this.knownType = knownType;
         this.knownTypeGenerics = knownTypeGenerics;
+        initMessage();
     }
 
     /**
@@ -50,4 +49,11 @@ public class GenericsTrackingException extends GenericsException {
     public LinkedHashMap<String, Type> getKnownTypeGenerics() {
         return knownTypeGenerics;
     }
+
+    @Override
+    protected String formatMessage() {
+        return String.format("Failed to track generics of %s from sub type %s",
+                TypeToStringUtils.toStringWithNamedGenerics(type),
+                TypeToStringUtils.toStringWithGenerics(knownType, knownTypeGenerics));
+    }
 }
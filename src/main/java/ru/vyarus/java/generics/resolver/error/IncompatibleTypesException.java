@@ -13,6 +13,7 @@ import java.lang.reflect.Type;
  * @since 13.05.2018
  */
 public class IncompatibleTypesException extends GenericsException {
+    private final String template;
     private final Type first;
     private final Type second;
 
@@ -30,9 +31,11 @@ public class IncompatibleTypesException extends GenericsException {
      * @param second  second type
      */
     public IncompatibleTypesException(final String message, final Type first, final Type second) {
-        super(formatMessage(message, first, second));
+        super((Throwable) null);
+        this.template = message;
         this.first = first;
         this.second = second;
+        initMessage();
     }
 
     /**
@@ -49,11 +52,10 @@ public class IncompatibleTypesException extends GenericsException {
         return second;
     }
 
+    @Override
     @SuppressWarnings("PMD.LooseCoupling")
-    private static String formatMessage(final String message,
-                                        final Type first,
-                                        final Type second) {
-        final String msg = message == null ? "Incompatible types: %s and %s" : message;
+    protected String formatMessage() {
+        final String msg = template == null ? "Incompatible types: %s and %s" : template;
         final PrintableGenericsMap generics = new PrintableGenericsMap();
         return String.format(msg, TypeToStringUtils.toStringType(first, generics),
                 TypeToStringUtils.toStringType(second, generics));
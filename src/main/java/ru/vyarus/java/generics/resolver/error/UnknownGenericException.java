@@ -43,12 +43,11 @@ public class UnknownGenericException extends GenericSourceException {
     private UnknownGenericException(final Class<?> contextType,
                                     final String genericName, final GenericDeclaration genericSource,
                                     final Throwable cause) {
-        super(String.format("Generic '%s'%s is not declared %s",
-                genericName, formatSource(genericSource),
-                contextType == null ? "" : "on type " + contextType.getName()), cause);
+        super(cause);
         this.contextType = contextType;
         this.genericName = genericName;
         this.genericSource = genericSource;
+        initMessage();
     }
 
     @Override
@@ -66,6 +65,13 @@ public class UnknownGenericException extends GenericSourceException {
         return contextType;
     }
 
+    @Override
+    protected String formatMessage() {
+        return String.format("Generic '%s'%s is not declared %s",
+                genericName, formatSource(genericSource),
+                contextType == null ? "" : "on type " + contextType.getName());
+    }
+
     /**
      * Throw more specific exception.
      *
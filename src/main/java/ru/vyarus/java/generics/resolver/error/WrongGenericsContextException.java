@@ -8,7 +8,6 @@ import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.map.PrintableGenericsMap;
 
 import java.lang.reflect.*;
-import java.util.Arrays;
 
 /**
  * Thrown to indicate generics not resolvable under current context class (because generics could use the same names
@@ -32,19 +31,16 @@ public class WrongGenericsContextException extends GenericSourceException {
     private final Type type;
     private final TypeVariable variable;
     private final Class<?> context;
+    private final GenericsInfo info;
 
     public WrongGenericsContextException(final Type type, final TypeVariable variable,
                                          final Class<?> context, final GenericsInfo info) {
-        super(String.format(
-                "Type %s contains generic '%s'%s and can't be resolved in context of current class %s. %s",
-                TypeToStringUtils.toStringType(type, PRINTABLE_GENERICS),
-                variable.getName(),
-                formatSource(variable.getGenericDeclaration()),
-                TypeToStringUtils.toStringType(context),
-                formatCompatibility(variable, info)));
+        super((Throwable) null);
         this.type = type;
         this.variable = variable;
         this.context = context;
+        this.info = info;
+        initMessage();
     }
 
     /**
@@ -69,6 +65,17 @@ public class WrongGenericsContextException extends GenericSourceException {
         return context;
     }
 
+    @Override
+    protected String formatMessage() {
+        return String.format(
+                "Type %s contains generic '%s'%s and can't be resolved in context of current class %s. %s",
+                TypeToStringUtils.toStringType(type, PRINTABLE_GENERICS),
+                variable.getName(),
+                formatSource(variable.getGenericDeclaration()),
+                TypeToStringUtils.toStringType(context),
+                formatCompatibility(variable, info));
+    }
+
     private static String formatCompatibility(final TypeVariable variable, final GenericsInfo info) {
         final Class<?> genericTarget = GenericsUtils.getDeclarationClass(variable);
         if (genericTarget == null) {
@@ -96,7 +103,7 @@ public class WrongGenericsContextException extends GenericSourceException {
             res = "Switch context to handle generic properly: " + nav;
         } else {
             // type can't be resolved in current hierarchy
-            if (Arrays.asList(info.getIgnoredTypes()).contains(genericTarget)) {
+            if (info.getPruning().isPruned(genericTarget)) {
                 // type ignored
                 res = String.format("Generic declaration type %s is ignored in current context hierarchy:%n%s",
                         TypeToStringUtils.toStringType(genericTarget), info.toString());
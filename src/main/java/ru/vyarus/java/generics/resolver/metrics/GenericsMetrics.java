@@ -0,0 +1,112 @@
+package ru.vyarus.java.generics.resolver.metrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * Metrics SPI: receives notifications about descriptors cache usage, hierarchy resolutions, inlying contexts
+ * building and types operations. Register implementation with {@link ResolverMetrics#install(GenericsMetrics)}.
+ * When nothing installed (default), library does not even measure time.
+ * <p>
+ * Methods are called synchronously from resolution threads (often concurrently), so implementation must be
+ * thread safe and fast. Time is provided in nanoseconds.
+ * <p>
+ * {@link SimpleGenericsMetrics} could be used as ready to use implementation.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public interface GenericsMetrics {
+
+    /**
+     * Descriptor obtained from cache ({@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory}).
+     *
+     * @param type root class
+     */
+    void cacheHit(Class<?> type);
+
+    /**
+     * Descriptor not found in cache (would be computed or obtained from concurrent computation).
+     *
+     * @param type root class
+     */
+    void cacheMiss(Class<?> type);
+
+    /**
+     * Descriptor computed by {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory} (cached or not).
+     * Descriptor could be loaded from precomputed metadata, composed from cached hierarchy templates or
+     * resolved with reflection.
+     *
+     * @param type  root class
+     * @param size  hierarchy types count
+     * @param nanos computation time
+     */
+    void descriptorComputed(Class<?> type, int size, long nanos);
+
+    /**
+     * Class hierarchy analyzed with reflection
+     * ({@link ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils#resolve(Class, Class[])}).
+     *
+     * @param type  root class
+     * @param depth longest path from root class to hierarchy leaf (1 for class without super types)
+     * @param width hierarchy types count (including root class)
+     * @param nanos analysis time
+     */
+    void hierarchyResolved(Class<?> type, int depth, int width, long nanos);
+
+    /**
+     * Inlying context descriptor built (not found in root descriptor cache).
+     *
+     * @param type  inlying context class
+     * @param nanos building time
+     */
+    void inlyingContextBuilt(Class<?> type, long nanos);
+
+    /**
+     * Types relation computed with {@link ru.vyarus.java.generics.resolver.util.TypeUtils} (equal types
+     * shortcuts are not counted).
+     *
+     * @param relation checked relation
+     * @param nanos    check time (including relations memo lookup)
+     */
+    void typesRelationChecked(Relation relation, long nanos);
+
+    /**
+     * Types walked with {@link ru.vyarus.java.generics.resolver.util.walk.TypesWalker} (used by all types
+     * relation checks).
+     *
+     * @param one   first type
+     * @param two   second type
+     * @param nanos walk time
+     */
+    void typesWalked(Type one, Type two, long nanos);
+
+    /**
+     * Common type computed with {@link ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory}.
+     *
+     * @param nanos computation time (including cache lookup)
+     */
+    void commonTypeBuilt(long nanos);
+
+    /**
+     * Types relations, checked by {@link ru.vyarus.java.generics.resolver.util.TypeUtils}.
+     */
+    enum Relation {
+        /**
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isAssignable(java.lang.reflect.Type,
+         * java.lang.reflect.Type)}.
+         */
+        ASSIGNABLE,
+        /**
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isCompatible(java.lang.reflect.Type,
+         * java.lang.reflect.Type)}.
+         */
+        COMPATIBLE,
+        /**
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isMoreSpecific(java.lang.reflect.Type,
+         * java.lang.reflect.Type)} and
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isMoreSpecificOrEqual(java.lang.reflect.Type,
+         * java.lang.reflect.Type)}.
+         */
+        MORE_SPECIFIC
+    }
+}
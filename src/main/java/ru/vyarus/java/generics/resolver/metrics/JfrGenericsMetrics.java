@@ -0,0 +1,371 @@
+package ru.vyarus.java.generics.resolver.metrics;
+
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics implementation, emitting Java Flight Recorder events:
+ * <ul>
+ * <li>{@link #HIERARCHY_EVENT} - reflective hierarchy analysis (root class, hierarchy types count, depth and
+ * analysis time)</li>
+ * <li>{@link #INLYING_EVENT} - inlying context descriptor building (context class and building time)</li>
+ * <li>{@link #CACHE_MISS_EVENT} - descriptors cache miss (root class)</li>
+ * <li>{@link #SLOW_WALK_EVENT} - types walk (used by types relation checks), which took longer than configured
+ * threshold (walked types and walk time)</li>
+ * </ul>
+ * Events are emitted only during active recording with enabled event. Events are registered dynamically (with
+ * {@code jdk.jfr.EventFactory}) through reflection, so library does not depend on JFR API and still works on java 8.
+ * When JFR is not available, metrics are not created at all (see {@link #create(GenericsMetrics, long)}).
+ * <p>
+ * Event time fields are provided as separate fields (because time is measured by the library): JFR event duration
+ * is always 0.
+ * <p>
+ * Other metrics could be used together with JFR events (all notifications are delegated).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ * @see ResolverMetrics#enableJfr()
+ */
+public final class JfrGenericsMetrics implements GenericsMetrics {
+
+    /**
+     * Default slow types walk threshold.
+     */
+    public static final long DEFAULT_SLOW_WALK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Hierarchy resolution event name.
+     */
+    public static final String HIERARCHY_EVENT = "ru.vyarus.generics.HierarchyResolution";
+    /**
+     * Inlying context creation event name.
+     */
+    public static final String INLYING_EVENT = "ru.vyarus.generics.InlyingContext";
+    /**
+     * Descriptors cache miss event name.
+     */
+    public static final String CACHE_MISS_EVENT = "ru.vyarus.generics.CacheMiss";
+    /**
+     * Slow types walk event name.
+     */
+    public static final String SLOW_WALK_EVENT = "ru.vyarus.generics.SlowTypesWalk";
+
+    private static final String CATEGORY = "Generics Resolver";
+    private static final String ROOT_CLASS = "rootClass";
+    private static final String ROOT_CLASS_LABEL = "Root Class";
+
+    // events are registered once (shared by all instances)
+    private static JfrEvent[] events;
+
+    private final GenericsMetrics delegate;
+    private final long slowWalkNanos;
+    private final JfrEvent hierarchy;
+    private final JfrEvent inlying;
+    private final JfrEvent cacheMiss;
+    private final JfrEvent slowWalk;
+
+    private JfrGenericsMetrics(final GenericsMetrics delegate,
+                               final long slowWalkNanos,
+                               final JfrEvent... registered) {
+        this.delegate = delegate;
+        this.slowWalkNanos = slowWalkNanos;
+        this.hierarchy = registered[0];
+        this.inlying = registered[1];
+        this.cacheMiss = registered[2];
+        this.slowWalk = registered[3];
+    }
+
+    /**
+     * @return true if JFR is available in current JVM
+     */
+    public static boolean isAvailable() {
+        return Jfr.AVAILABLE;
+    }
+
+    /**
+     * Create JFR metrics. When JFR is not available, provided delegate is returned (so nothing is measured
+     * when delegate is null).
+     *
+     * @param delegate      other metrics (may be null)
+     * @param slowWalkNanos minimal types walk time to emit slow walk event
+     * @return JFR metrics or delegate when JFR is not available
+     */
+    public static GenericsMetrics create(final GenericsMetrics delegate, final long slowWalkNanos) {
+        if (!isAvailable()) {
+            return delegate;
+        }
+        final JfrEvent[] registered = registerEvents();
+        return registered == null ? delegate : new JfrGenericsMetrics(delegate, slowWalkNanos, registered);
+    }
+
+    /**
+     * @return metrics, wrapped by JFR metrics (may be null)
+     */
+    public GenericsMetrics getDelegate() {
+        return delegate;
+    }
+
+    private static synchronized JfrEvent[] registerEvents() {
+        if (events == null) {
+            try {
+                events = new JfrEvent[]{
+                        new JfrEvent(HIERARCHY_EVENT, "Generics Hierarchy Resolution",
+                                "Reflective class hierarchy generics analysis",
+                                new JfrField(Class.class, ROOT_CLASS, ROOT_CLASS_LABEL, false),
+                                new JfrField(int.class, "types", "Types Count", false),
+                                new JfrField(int.class, "depth", "Hierarchy Depth", false),
+                                new JfrField(long.class, "resolutionTime", "Resolution Time", true)),
+                        new JfrEvent(INLYING_EVENT, "Generics Inlying Context",
+                                "Inlying context descriptor creation",
+                                new JfrField(Class.class, "contextClass", "Context Class", false),
+                                new JfrField(long.class, "buildTime", "Build Time", true)),
+                        new JfrEvent(CACHE_MISS_EVENT, "Generics Cache Miss",
+                                "Generics descriptor not found in cache",
+                                new JfrField(Class.class, ROOT_CLASS, ROOT_CLASS_LABEL, false)),
+                        new JfrEvent(SLOW_WALK_EVENT, "Slow Generics Types Walk",
+                                "Types walk (relation check), which took longer than threshold",
+                                new JfrField(String.class, "firstType", "First Type", false),
+                                new JfrField(String.class, "secondType", "Second Type", false),
+                                new JfrField(long.class, "walkTime", "Walk Time", true))};
+            } catch (IllegalStateException ex) {
+                // events registration failed (e.g. restricted by security manager): next call would try again
+                return null;
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public void cacheHit(final Class<?> type) {
+        if (delegate != null) {
+            delegate.cacheHit(type);
+        }
+    }
+
+    @Override
+    public void cacheMiss(final Class<?> type) {
+        if (delegate != null) {
+            delegate.cacheMiss(type);
+        }
+        if (cacheMiss.isEnabled()) {
+            cacheMiss.commit(type);
+        }
+    }
+
+    @Override
+    public void descriptorComputed(final Class<?> type, final int size, final long nanos) {
+        if (delegate != null) {
+            delegate.descriptorComputed(type, size, nanos);
+        }
+    }
+
+    @Override
+    public void hierarchyResolved(final Class<?> type, final int depth, final int width, final long nanos) {
+        if (delegate != null) {
+            delegate.hierarchyResolved(type, depth, width, nanos);
+        }
+        if (hierarchy.isEnabled()) {
+            hierarchy.commit(type, width, depth, nanos);
+        }
+    }
+
+    @Override
+    public void inlyingContextBuilt(final Class<?> type, final long nanos) {
+        if (delegate != null) {
+            delegate.inlyingContextBuilt(type, nanos);
+        }
+        if (inlying.isEnabled()) {
+            inlying.commit(type, nanos);
+        }
+    }
+
+    @Override
+    public void typesRelationChecked(final Relation relation, final long nanos) {
+        if (delegate != null) {
+            delegate.typesRelationChecked(relation, nanos);
+        }
+    }
+
+    @Override
+    public void typesWalked(final Type one, final Type two, final long nanos) {
+        if (delegate != null) {
+            delegate.typesWalked(one, two, nanos);
+        }
+        if (nanos >= slowWalkNanos && slowWalk.isEnabled()) {
+            slowWalk.commit(TypeToStringUtils.toStringTypeIgnoringVariables(one),
+                    TypeToStringUtils.toStringTypeIgnoringVariables(two), nanos);
+        }
+    }
+
+    @Override
+    public void commonTypeBuilt(final long nanos) {
+        if (delegate != null) {
+            delegate.commonTypeBuilt(nanos);
+        }
+    }
+
+    /**
+     * Reflective access to JFR api (jdk.jfr module might be absent).
+     */
+    @SuppressWarnings({"unchecked", "PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+    private static final class Jfr {
+        static final boolean AVAILABLE;
+        static final Method CREATE_FACTORY;
+        static final Method NEW_EVENT;
+        static final Method EVENT_TYPE;
+        static final Method IS_ENABLED;
+        static final Method SET;
+        static final Method COMMIT;
+        static final Constructor<?> ANNOTATION;
+        static final Constructor<?> FIELD;
+        static final Class<? extends Annotation> NAME;
+        static final Class<? extends Annotation> LABEL;
+        static final Class<? extends Annotation> DESCRIPTION;
+        static final Class<? extends Annotation> CATEGORY;
+        static final Class<? extends Annotation> TIMESPAN;
+
+        static {
+            boolean available = false;
+            Method createFactory = null;
+            Method newEvent = null;
+            Method eventType = null;
+            Method isEnabled = null;
+            Method set = null;
+            Method commit = null;
+            Constructor<?> annotation = null;
+            Constructor<?> field = null;
+            Class<? extends Annotation> name = null;
+            Class<? extends Annotation> label = null;
+            Class<? extends Annotation> description = null;
+            Class<? extends Annotation> category = null;
+            Class<? extends Annotation> timespan = null;
+            try {
+                final Class<?> factory = Class.forName("jdk.jfr.EventFactory");
+                final Class<?> event = Class.forName("jdk.jfr.Event");
+                final Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+                createFactory = factory.getMethod("create", List.class, List.class);
+                newEvent = factory.getMethod("newEvent");
+                eventType = factory.getMethod("getEventType");
+                isEnabled = Class.forName("jdk.jfr.EventType").getMethod("isEnabled");
+                set = event.getMethod("set", int.class, Object.class);
+                commit = event.getMethod("commit");
+                annotation = annotationElement.getConstructor(Class.class, Object.class);
+                field = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class,
+                        List.class);
+                name = (Class<? extends Annotation>) Class.forName("jdk.jfr.Name");
+                label = (Class<? extends Annotation>) Class.forName("jdk.jfr.Label");
+                description = (Class<? extends Annotation>) Class.forName("jdk.jfr.Description");
+                category = (Class<? extends Annotation>) Class.forName("jdk.jfr.Category");
+                timespan = (Class<? extends Annotation>) Class.forName("jdk.jfr.Timespan");
+                available = (Boolean) Class.forName("jdk.jfr.FlightRecorder").getMethod("isAvailable")
+                        .invoke(null);
+            } catch (Throwable ex) {
+                // jfr not available
+                available = false;
+            }
+            AVAILABLE = available;
+            CREATE_FACTORY = createFactory;
+            NEW_EVENT = newEvent;
+            EVENT_TYPE = eventType;
+            IS_ENABLED = isEnabled;
+            SET = set;
+            COMMIT = commit;
+            ANNOTATION = annotation;
+            FIELD = field;
+            NAME = name;
+            LABEL = label;
+            DESCRIPTION = description;
+            CATEGORY = category;
+            TIMESPAN = timespan;
+        }
+
+        private Jfr() {
+        }
+    }
+
+    /**
+     * Event field declaration.
+     */
+    private static final class JfrField {
+        private final Class<?> type;
+        private final String name;
+        private final String label;
+        private final boolean timespan;
+
+        JfrField(final Class<?> type, final String name, final String label, final boolean timespan) {
+            this.type = type;
+            this.name = name;
+            this.label = label;
+            this.timespan = timespan;
+        }
+    }
+
+    /**
+     * Dynamically registered event type.
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingGenericException", "checkstyle:IllegalCatch"})
+    private static final class JfrEvent {
+        private final Object factory;
+        private final Object eventType;
+
+        JfrEvent(final String name, final String label, final String description, final JfrField... fields) {
+            try {
+                final List<Object> annotations = Arrays.asList(
+                        Jfr.ANNOTATION.newInstance(Jfr.NAME, name),
+                        Jfr.ANNOTATION.newInstance(Jfr.LABEL, label),
+                        Jfr.ANNOTATION.newInstance(Jfr.DESCRIPTION, description),
+                        Jfr.ANNOTATION.newInstance(Jfr.CATEGORY, new String[]{CATEGORY}));
+                final List<Object> values = new ArrayList<>(fields.length);
+                for (JfrField field : fields) {
+                    final List<Object> fieldAnnotations = new ArrayList<>(2);
+                    fieldAnnotations.add(Jfr.ANNOTATION.newInstance(Jfr.LABEL, field.label));
+                    if (field.timespan) {
+                        fieldAnnotations.add(Jfr.ANNOTATION.newInstance(Jfr.TIMESPAN, "NANOSECONDS"));
+                    }
+                    values.add(Jfr.FIELD.newInstance(field.type, field.name,
+                            Collections.unmodifiableList(fieldAnnotations)));
+                }
+                this.factory = Jfr.CREATE_FACTORY.invoke(null, annotations, values);
+                this.eventType = Jfr.EVENT_TYPE.invoke(factory);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                throw new IllegalStateException("Failed to register JFR event " + name, ex);
+            }
+        }
+
+        /**
+         * @return true if event is enabled in any active recording
+         */
+        boolean isEnabled() {
+            try {
+                return (Boolean) Jfr.IS_ENABLED.invoke(eventType);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                return false;
+            }
+        }
+
+        /**
+         * @param values event field values (in declaration order)
+         */
+        void commit(final Object... values) {
+            try {
+                final Object event = Jfr.NEW_EVENT.invoke(factory);
+                for (int i = 0; i < values.length; i++) {
+                    Jfr.SET.invoke(event, i, values[i]);
+                }
+                Jfr.COMMIT.invoke(event);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                // events are not critical
+            }
+        }
+    }
+}
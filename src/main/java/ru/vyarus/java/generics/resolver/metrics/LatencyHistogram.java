@@ -0,0 +1,156 @@
+package ru.vyarus.java.generics.resolver.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power of two buckets: bucket {@code i} counts values in range
+ * {@code [2^i, 2^(i+1))} (bucket 0 also counts 0). Precision is enough to see latency order (e.g. 1-2 microseconds)
+ * and recording costs a few atomic increments.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Buckets count (enough for any positive long value).
+     */
+    public static final int BUCKETS = Long.SIZE - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param nanos recorded value (negative values are counted as 0)
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        total.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Reset recorded values (concurrently recorded values could be partially preserved).
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    /**
+     * Snapshot is not atomic: values, recorded during snapshot creation, could be partially counted.
+     *
+     * @return current histogram state
+     */
+    public Snapshot snapshot() {
+        final long[] values = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            values[i] = buckets.get(i);
+        }
+        return new Snapshot(values, count.sum(), total.sum(), max.get());
+    }
+
+    private static int bucket(final long value) {
+        return value == 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Histogram state snapshot.
+     */
+    public static final class Snapshot {
+        private static final double PERCENT = 100.0;
+
+        private final long[] buckets;
+        private final long count;
+        private final long total;
+        private final long max;
+
+        Snapshot(final long[] buckets, final long count, final long total, final long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        /**
+         * @return recorded values count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return sum of recorded values
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * @return maximum recorded value
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * @return average value (0 when nothing recorded)
+         */
+        public long getMean() {
+            return count == 0 ? 0 : total / count;
+        }
+
+        /**
+         * Percentile is approximate: it's an upper bound of the bucket, containing percentile (but not
+         * greater than maximum recorded value).
+         *
+         * @param percentile percentile (e.g. 99 or 99.9)
+         * @return approximate percentile value (0 when nothing recorded)
+         */
+        public long getPercentile(final double percentile) {
+            long recorded = 0;
+            for (long bucket : buckets) {
+                recorded += bucket;
+            }
+            if (recorded == 0) {
+                return 0;
+            }
+            final long threshold = Math.max(1, (long) Math.ceil(recorded * percentile / PERCENT));
+            long passed = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                passed += buckets[i];
+                if (passed >= threshold) {
+                    return Math.min(max, (1L << (i + 1)) - 1);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * @param bucket bucket index
+         * @return values count in bucket (values in range {@code [2^bucket, 2^(bucket+1))})
+         */
+        public long getBucket(final int bucket) {
+            return buckets[bucket];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%s, mean=%s, p50=%s, p99=%s, max=%s",
+                    count, getMean(), getPercentile(50), getPercentile(99), max);
+        }
+    }
+}
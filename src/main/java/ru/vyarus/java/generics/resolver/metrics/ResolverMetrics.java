@@ -0,0 +1,93 @@
+package ru.vyarus.java.generics.resolver.metrics;
+
+/**
+ * Registry of active {@link GenericsMetrics} implementation. Only one implementation could be installed
+ * (wrap multiple implementations, if required).
+ * <p>
+ * By default, nothing is installed and instrumented code does not measure anything:
+ * <pre>{@code final GenericsMetrics metrics = ResolverMetrics.get();
+ * final long start = metrics == null ? 0 : System.nanoTime();
+ * ...
+ * if (metrics != null) {
+ *     metrics.commonTypeBuilt(System.nanoTime() - start);
+ * }}</pre>
+ * <p>
+ * Java Flight Recorder events (see {@link JfrGenericsMetrics}) could be enabled with system property or
+ * environment variable {@link #JFR_PROPERTY} or with {@link #enableJfr()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings("PMD.AvoidUsingVolatile")
+public final class ResolverMetrics {
+
+    /**
+     * System property or environment variable name to enable JFR events. If value is 'true' - JFR events are
+     * enabled on startup (when JFR is available).
+     */
+    public static final String JFR_PROPERTY = ResolverMetrics.class.getName() + ".jfr";
+
+    private static volatile GenericsMetrics metrics = Boolean.TRUE.toString().equals(
+            System.getProperty(JFR_PROPERTY, System.getenv(JFR_PROPERTY)))
+            ? JfrGenericsMetrics.create(null, JfrGenericsMetrics.DEFAULT_SLOW_WALK_NANOS) : null;
+
+    private ResolverMetrics() {
+    }
+
+    /**
+     * Install metrics implementation (replaces currently installed).
+     *
+     * @param metrics metrics implementation (null to disable metrics)
+     */
+    public static void install(final GenericsMetrics metrics) {
+        ResolverMetrics.metrics = metrics;
+    }
+
+    /**
+     * Enable JFR events together with currently installed metrics (if any). Note that JFR events would be
+     * disabled if other metrics would be installed after this call.
+     *
+     * @return true if JFR events enabled, false if JFR is not available
+     * @see JfrGenericsMetrics
+     */
+    public static boolean enableJfr() {
+        return enableJfr(JfrGenericsMetrics.DEFAULT_SLOW_WALK_NANOS);
+    }
+
+    /**
+     * Same as {@link #enableJfr()}, but with custom slow types walk event threshold.
+     *
+     * @param slowWalkNanos minimal types walk time to emit slow walk event
+     * @return true if JFR events enabled, false if JFR is not available
+     */
+    public static synchronized boolean enableJfr(final long slowWalkNanos) {
+        GenericsMetrics current = metrics;
+        if (current instanceof JfrGenericsMetrics) {
+            current = ((JfrGenericsMetrics) current).getDelegate();
+        }
+        final GenericsMetrics res = JfrGenericsMetrics.create(current, slowWalkNanos);
+        install(res);
+        return res instanceof JfrGenericsMetrics;
+    }
+
+    /**
+     * Disable metrics.
+     */
+    public static void uninstall() {
+        install(null);
+    }
+
+    /**
+     * @return true if metrics implementation installed
+     */
+    public static boolean isEnabled() {
+        return metrics != null;
+    }
+
+    /**
+     * @return installed metrics implementation or null
+     */
+    public static GenericsMetrics get() {
+        return metrics;
+    }
+}
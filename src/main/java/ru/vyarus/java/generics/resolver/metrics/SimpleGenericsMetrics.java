@@ -0,0 +1,332 @@
+package ru.vyarus.java.generics.resolver.metrics;
+
+import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simple metrics implementation: lock-free counters and latency histograms (see {@link LatencyHistogram}).
+ * Use {@link #snapshot()} to read current values.
+ * <pre>{@code SimpleGenericsMetrics metrics = new SimpleGenericsMetrics();
+ * ResolverMetrics.install(metrics);
+ * ...
+ * System.out.println(metrics.snapshot());
+ * }</pre>
+ * <p>
+ * Computation time is also aggregated per class (descriptor and inlying contexts building) in order to find
+ * the most expensive classes. Tracked classes count is limited (new classes are not tracked after limit). Note that
+ * tracked classes are referenced strongly (call {@link #reset()} or uninstall metrics to release them).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class SimpleGenericsMetrics implements GenericsMetrics {
+
+    /**
+     * Default tracked classes limit.
+     */
+    public static final int DEFAULT_MAX_TYPES = 1000;
+
+    private final int maxTypes;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LatencyHistogram descriptors = new LatencyHistogram();
+    private final LatencyHistogram hierarchies = new LatencyHistogram();
+    private final LatencyHistogram inlyingContexts = new LatencyHistogram();
+    private final LatencyHistogram commonTypes = new LatencyHistogram();
+    private final LatencyHistogram walks = new LatencyHistogram();
+    private final Map<Relation, LatencyHistogram> relations = new EnumMap<>(Relation.class);
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final AtomicInteger maxWidth = new AtomicInteger();
+    private final ConcurrentMap<Class<?>, LongAdder> types = new ConcurrentHashMap<>();
+
+    /**
+     * Create metrics with {@link #DEFAULT_MAX_TYPES} tracked classes limit.
+     */
+    public SimpleGenericsMetrics() {
+        this(DEFAULT_MAX_TYPES);
+    }
+
+    /**
+     * @param maxTypes tracked classes limit (0 to disable per class tracking)
+     */
+    public SimpleGenericsMetrics(final int maxTypes) {
+        this.maxTypes = Math.max(0, maxTypes);
+        for (Relation relation : Relation.values()) {
+            relations.put(relation, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public void cacheHit(final Class<?> type) {
+        cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss(final Class<?> type) {
+        cacheMisses.increment();
+    }
+
+    @Override
+    public void descriptorComputed(final Class<?> type, final int size, final long nanos) {
+        descriptors.record(nanos);
+        trackType(type, nanos);
+    }
+
+    @Override
+    public void hierarchyResolved(final Class<?> type, final int depth, final int width, final long nanos) {
+        hierarchies.record(nanos);
+        updateMax(maxDepth, depth);
+        updateMax(maxWidth, width);
+    }
+
+    @Override
+    public void inlyingContextBuilt(final Class<?> type, final long nanos) {
+        inlyingContexts.record(nanos);
+        trackType(type, nanos);
+    }
+
+    @Override
+    public void typesRelationChecked(final Relation relation, final long nanos) {
+        relations.get(relation).record(nanos);
+    }
+
+    @Override
+    public void typesWalked(final Type one, final Type two, final long nanos) {
+        walks.record(nanos);
+    }
+
+    @Override
+    public void commonTypeBuilt(final long nanos) {
+        commonTypes.record(nanos);
+    }
+
+    /**
+     * Snapshot is not atomic: values, recorded during snapshot creation, could be partially counted.
+     *
+     * @return current metrics state
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Reset all counters and release tracked classes.
+     */
+    public void reset() {
+        cacheHits.reset();
+        cacheMisses.reset();
+        descriptors.reset();
+        hierarchies.reset();
+        inlyingContexts.reset();
+        commonTypes.reset();
+        walks.reset();
+        for (LatencyHistogram histogram : relations.values()) {
+            histogram.reset();
+        }
+        maxDepth.set(0);
+        maxWidth.set(0);
+        types.clear();
+    }
+
+    private void trackType(final Class<?> type, final long nanos) {
+        LongAdder time = types.get(type);
+        if (time == null && types.size() < maxTypes) {
+            final LongAdder created = new LongAdder();
+            time = types.putIfAbsent(type, created);
+            if (time == null) {
+                time = created;
+            }
+        }
+        if (time != null) {
+            time.add(nanos);
+        }
+    }
+
+    private static void updateMax(final AtomicInteger max, final int value) {
+        int current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Metrics state snapshot.
+     */
+    public static final class Snapshot {
+        private final long cacheHits;
+        private final long cacheMisses;
+        private final LatencyHistogram.Snapshot descriptors;
+        private final LatencyHistogram.Snapshot hierarchies;
+        private final LatencyHistogram.Snapshot inlyingContexts;
+        private final LatencyHistogram.Snapshot commonTypes;
+        private final LatencyHistogram.Snapshot walks;
+        private final Map<Relation, LatencyHistogram.Snapshot> relations = new EnumMap<>(Relation.class);
+        private final int maxDepth;
+        private final int maxWidth;
+        private final Map<Class<?>, Long> types;
+
+        Snapshot(final SimpleGenericsMetrics metrics) {
+            this.cacheHits = metrics.cacheHits.sum();
+            this.cacheMisses = metrics.cacheMisses.sum();
+            this.descriptors = metrics.descriptors.snapshot();
+            this.hierarchies = metrics.hierarchies.snapshot();
+            this.inlyingContexts = metrics.inlyingContexts.snapshot();
+            this.commonTypes = metrics.commonTypes.snapshot();
+            this.walks = metrics.walks.snapshot();
+            for (Map.Entry<Relation, LatencyHistogram> entry : metrics.relations.entrySet()) {
+                relations.put(entry.getKey(), entry.getValue().snapshot());
+            }
+            this.maxDepth = metrics.maxDepth.get();
+            this.maxWidth = metrics.maxWidth.get();
+            this.types = sortByTime(metrics.types);
+        }
+
+        /**
+         * @return count of descriptors, obtained from cache
+         */
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        /**
+         * @return count of cache lookups without cached descriptor
+         */
+        public long getCacheMisses() {
+            return cacheMisses;
+        }
+
+        /**
+         * @return cache hits ratio (0 when cache was not used)
+         */
+        public double getCacheHitRatio() {
+            final long lookups = cacheHits + cacheMisses;
+            return lookups == 0 ? 0 : (double) cacheHits / lookups;
+        }
+
+        /**
+         * @return descriptors computation times
+         */
+        public LatencyHistogram.Snapshot getDescriptors() {
+            return descriptors;
+        }
+
+        /**
+         * @return reflective hierarchy analysis times
+         */
+        public LatencyHistogram.Snapshot getHierarchies() {
+            return hierarchies;
+        }
+
+        /**
+         * @return inlying contexts building times
+         */
+        public LatencyHistogram.Snapshot getInlyingContexts() {
+            return inlyingContexts;
+        }
+
+        /**
+         * @return common types computation times
+         */
+        public LatencyHistogram.Snapshot getCommonTypes() {
+            return commonTypes;
+        }
+
+        /**
+         * @return types walks times
+         */
+        public LatencyHistogram.Snapshot getWalks() {
+            return walks;
+        }
+
+        /**
+         * @param relation types relation
+         * @return relation checks times
+         */
+        public LatencyHistogram.Snapshot getRelations(final Relation relation) {
+            return relations.get(relation);
+        }
+
+        /**
+         * @return maximum depth of analyzed hierarchies
+         */
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+
+        /**
+         * @return maximum types count of analyzed hierarchies
+         */
+        public int getMaxWidth() {
+            return maxWidth;
+        }
+
+        /**
+         * @return total computation time (nanoseconds) of tracked classes (the most expensive classes first)
+         */
+        public Map<Class<?>, Long> getTypeTimes() {
+            return types;
+        }
+
+        /**
+         * @param count maximum classes count
+         * @return the most expensive classes (the most expensive first)
+         */
+        public List<Class<?>> getSlowestTypes(final int count) {
+            final List<Class<?>> res = new ArrayList<>(Math.min(count, types.size()));
+            for (Class<?> type : types.keySet()) {
+                if (res.size() >= count) {
+                    break;
+                }
+                res.add(type);
+            }
+            return res;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder res = new StringBuilder(256)
+                    .append("cache: hits=").append(cacheHits).append(", misses=").append(cacheMisses)
+                    .append("\ndescriptors: ").append(descriptors)
+                    .append("\nhierarchies: ").append(hierarchies)
+                    .append(", maxDepth=").append(maxDepth).append(", maxWidth=").append(maxWidth)
+                    .append("\ninlying contexts: ").append(inlyingContexts)
+                    .append("\ncommon types: ").append(commonTypes)
+                    .append("\ntypes walks: ").append(walks);
+            for (Map.Entry<Relation, LatencyHistogram.Snapshot> entry : relations.entrySet()) {
+                res.append('\n').append(entry.getKey().name().toLowerCase(Locale.ENGLISH)).append(": ").append(entry.getValue());
+            }
+            return res.toString();
+        }
+
+        private static Map<Class<?>, Long> sortByTime(final Map<Class<?>, LongAdder> types) {
+            final List<Map.Entry<Class<?>, Long>> entries = new ArrayList<>(types.size());
+            for (Map.Entry<Class<?>, LongAdder> entry : types.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<Class<?>, Long>(
+                        entry.getKey(), entry.getValue().sum()));
+            }
+            Collections.sort(entries, new Comparator<Map.Entry<Class<?>, Long>>() {
+                @Override
+                public int compare(final Map.Entry<Class<?>, Long> o1, final Map.Entry<Class<?>, Long> o2) {
+                    return Long.compare(o2.getValue(), o1.getValue());
+                }
+            });
+            final Map<Class<?>, Long> res = new LinkedHashMap<>(entries.size());
+            for (Map.Entry<Class<?>, Long> entry : entries) {
+                res.put(entry.getKey(), entry.getValue());
+            }
+            return Collections.unmodifiableMap(res);
+        }
+    }
+}
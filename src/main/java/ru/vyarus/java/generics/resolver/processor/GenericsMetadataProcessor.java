@@ -0,0 +1,150 @@
+package ru.vyarus.java.generics.resolver.processor;
+
+import ru.vyarus.java.generics.resolver.util.TypeSignatureUtils;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor, precomputing hierarchy generics for classes annotated with {@link PrecomputeGenerics}
+ * (or all classes in annotated package). For each class generates metadata class
+ * ({@code <class name>$$GenericsMetadata}) in the same package, used by
+ * {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory} instead of reflective hierarchy analysis.
+ * <p>
+ * Processor is not registered automatically (to not affect compilation of all projects using library). Enable it
+ * explicitly: {@code javac -processor ru.vyarus.java.generics.resolver.processor.GenericsMetadataProcessor} (or
+ * with build tool annotation processors configuration).
+ * <p>
+ * Hierarchies, which can't be resolved at compile time (inner classes, generics with multiple bounds, interfaces
+ * with different parametrization in hierarchy), are skipped (with compilation note) and would be resolved
+ * at runtime.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SupportedAnnotationTypes("ru.vyarus.java.generics.resolver.processor.PrecomputeGenerics")
+public class GenericsMetadataProcessor extends AbstractProcessor {
+
+    private static final int UNICODE_ESCAPE = 0x7F;
+
+    // classes, already processed in current compilation
+    private final Set<String> processed = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(PrecomputeGenerics.class)) {
+            if (element.getKind() == ElementKind.PACKAGE) {
+                for (Element type : ((PackageElement) element).getEnclosedElements()) {
+                    if (type instanceof TypeElement) {
+                        processAll((TypeElement) type);
+                    }
+                }
+            } else {
+                process((TypeElement) element, true);
+            }
+        }
+        return false;
+    }
+
+    private void processAll(final TypeElement type) {
+        process(type, false);
+        for (Element nested : type.getEnclosedElements()) {
+            if (nested instanceof TypeElement) {
+                processAll((TypeElement) nested);
+            }
+        }
+    }
+
+    private void process(final TypeElement type, final boolean explicit) {
+        final MirrorHierarchy hierarchy = new MirrorHierarchy(processingEnv);
+        final String name = hierarchy.binaryName(type);
+        if (!processed.add(name)) {
+            return;
+        }
+        try {
+            final Map<TypeElement, LinkedHashMap<String, TypeMirror>> types = hierarchy.resolve(type);
+            write(type, name, types, hierarchy);
+        } catch (MirrorHierarchy.UnsupportedHierarchyException ex) {
+            // classes from annotated package are skipped silently
+            if (explicit) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, String.format(
+                        "Generics of %s can't be precomputed (will be resolved at runtime): %s",
+                        name, ex.getMessage()), type);
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write generics metadata for " + name + ": " + ex.getMessage(), type);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:MultipleStringLiterals")
+    private void write(final TypeElement type,
+                       final String name,
+                       final Map<TypeElement, LinkedHashMap<String, TypeMirror>> types,
+                       final MirrorHierarchy hierarchy) throws IOException {
+        final String metadata = name + PrecomputeGenerics.METADATA_SUFFIX;
+        final int dot = metadata.lastIndexOf('.');
+        final StringBuilder names = new StringBuilder();
+        final StringBuilder signatures = new StringBuilder();
+        final StringBuilder generics = new StringBuilder();
+        for (Map.Entry<TypeElement, LinkedHashMap<String, TypeMirror>> entry : types.entrySet()) {
+            names.append("\n            ").append(quote(hierarchy.binaryName(entry.getKey()))).append(',');
+            signatures.append("\n            0x").append(Long.toHexString(
+                    TypeSignatureUtils.hash(hierarchy.toClassSignature(entry.getKey())))).append("L,");
+            generics.append("\n            {");
+            for (Map.Entry<String, TypeMirror> generic : entry.getValue().entrySet()) {
+                generics.append(quote(generic.getKey())).append(", ")
+                        .append(quote(hierarchy.toSignature(generic.getValue()))).append(", ");
+            }
+            generics.append("},");
+        }
+        try (Writer out = processingEnv.getFiler().createSourceFile(metadata, type).openWriter()) {
+            if (dot > 0) {
+                out.write("package " + metadata.substring(0, dot) + ";\n\n");
+            }
+            final String simpleName = metadata.substring(dot + 1);
+            out.write("/**\n * Precomputed hierarchy generics of " + name + ".\n"
+                    + " * Generated by " + GenericsMetadataProcessor.class.getName() + " (do not edit).\n */\n");
+            out.write("public final class " + simpleName + " {\n\n");
+            out.write("    public static final String[] " + PrecomputeGenerics.TYPES_FIELD + " = {"
+                    + names + "\n    };\n\n");
+            out.write("    public static final long[] " + PrecomputeGenerics.SIGNATURES_FIELD + " = {"
+                    + signatures + "\n    };\n\n");
+            out.write("    public static final String[][] " + PrecomputeGenerics.GENERICS_FIELD + " = {"
+                    + generics + "\n    };\n\n");
+            out.write("    private " + simpleName + "() {\n    }\n}\n");
+        }
+    }
+
+    private static String quote(final String value) {
+        final StringBuilder res = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            if (ch > UNICODE_ESCAPE) {
+                res.append(String.format("\\u%04x", (int) ch));
+            } else {
+                res.append(ch);
+            }
+        }
+        return res.append('"').toString();
+    }
+}
@@ -0,0 +1,365 @@
+package ru.vyarus.java.generics.resolver.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile-time class hierarchy generics resolution (on language model). Mirrors reflective resolution in
+ * {@link ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils}: root class generics are resolved by upper
+ * bound, generics of raw super types are also resolved by upper bound, super types generics are resolved by
+ * substitution of known generics.
+ * <p>
+ * Only "simple" hierarchies are supported, for other cases (inner classes, generics with multiple bounds,
+ * interface appearing with different parametrization) {@link UnsupportedHierarchyException} is thrown and
+ * hierarchy is resolved at runtime with reflection.
+ * <p>
+ * Also renders types and classes signatures exactly as
+ * {@link ru.vyarus.java.generics.resolver.util.TypeSignatureUtils} does it for reflection types.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings("PMD.LooseCoupling")
+class MirrorHierarchy {
+
+    private static final String GROOVY_OBJECT = "GroovyObject";
+
+    private final Types types;
+    private final Elements elements;
+
+    MirrorHierarchy(final ProcessingEnvironment env) {
+        this.types = env.getTypeUtils();
+        this.elements = env.getElementUtils();
+    }
+
+    /**
+     * @param root root class
+     * @return resolved generics of all hierarchy types (root first)
+     * @throws UnsupportedHierarchyException if hierarchy can't be resolved at compile time
+     */
+    Map<TypeElement, LinkedHashMap<String, TypeMirror>> resolve(final TypeElement root) {
+        checkSupported(root);
+        final Map<TypeElement, LinkedHashMap<String, TypeMirror>> res = new LinkedHashMap<>();
+        res.put(root, rawGenerics(root));
+        analyzeType(res, root);
+        return res;
+    }
+
+    /**
+     * @param type type
+     * @return type signature (see {@link ru.vyarus.java.generics.resolver.util.TypeSignatureUtils#toSignature(
+     *java.lang.reflect.Type)})
+     */
+    String toSignature(final TypeMirror type) {
+        final StringBuilder res = new StringBuilder();
+        render(type, res);
+        return res.toString();
+    }
+
+    /**
+     * @param type class
+     * @return class signature (see {@link ru.vyarus.java.generics.resolver.util.TypeSignatureUtils
+     * #toClassSignature(Class)})
+     */
+    String toClassSignature(final TypeElement type) {
+        final StringBuilder res = new StringBuilder(binaryName(type)).append('<');
+        final List<? extends TypeParameterElement> params = type.getTypeParameters();
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) {
+                res.append(',');
+            }
+            res.append(params.get(i).getSimpleName()).append(':');
+            renderAll(params.get(i).getBounds(), '&', res);
+        }
+        res.append(">:");
+        render(type.getSuperclass(), res);
+        res.append(':');
+        renderAll(type.getInterfaces(), ',', res);
+        return res.toString();
+    }
+
+    /**
+     * @param type class
+     * @return binary class name (as {@link Class#getName()})
+     */
+    String binaryName(final TypeElement type) {
+        return elements.getBinaryName(type).toString();
+    }
+
+    private void analyzeType(final Map<TypeElement, LinkedHashMap<String, TypeMirror>> res,
+                             final TypeElement type) {
+        TypeElement current = type;
+        while (true) {
+            for (TypeMirror iface : current.getInterfaces()) {
+                analyzeInterface(res, (DeclaredType) iface, current);
+            }
+            final TypeMirror parent = current.getSuperclass();
+            if (parent.getKind() != TypeKind.DECLARED || isObject(parent)) {
+                break;
+            }
+            final TypeElement next = element(parent);
+            res.put(next, generics((DeclaredType) parent, res.get(current)));
+            current = next;
+        }
+    }
+
+    private void analyzeInterface(final Map<TypeElement, LinkedHashMap<String, TypeMirror>> res,
+                                  final DeclaredType iface,
+                                  final TypeElement host) {
+        final TypeElement type = element(iface);
+        final LinkedHashMap<String, TypeMirror> generics = generics(iface, res.get(host));
+        if (res.containsKey(type) && !same(res.get(type), generics)) {
+            // runtime resolution merges generics
+            throw new UnsupportedHierarchyException(String.format(
+                    "interface %s appears multiple times with different parametrization", binaryName(type)));
+        }
+        // avoid groovy specific interface (same as runtime resolution)
+        if (!generics.isEmpty() || !GROOVY_OBJECT.equals(type.getSimpleName().toString())) {
+            res.put(type, generics);
+        }
+        analyzeType(res, type);
+    }
+
+    private LinkedHashMap<String, TypeMirror> generics(final DeclaredType type,
+                                                       final Map<String, TypeMirror> hostGenerics) {
+        final TypeElement element = element(type);
+        checkSupported(element);
+        final List<? extends TypeParameterElement> params = element.getTypeParameters();
+        final List<? extends TypeMirror> args = type.getTypeArguments();
+        final LinkedHashMap<String, TypeMirror> res;
+        if (args.isEmpty()) {
+            // not parameterized or raw type (resolved by upper bounds)
+            res = rawGenerics(element);
+        } else {
+            res = new LinkedHashMap<>();
+            for (int i = 0; i < params.size(); i++) {
+                res.put(params.get(i).getSimpleName().toString(), substitute(args.get(i), hostGenerics));
+            }
+        }
+        return res;
+    }
+
+    private LinkedHashMap<String, TypeMirror> rawGenerics(final TypeElement type) {
+        final LinkedHashMap<String, TypeMirror> res = new LinkedHashMap<>();
+        for (TypeParameterElement param : type.getTypeParameters()) {
+            final String name = param.getSimpleName().toString();
+            final List<? extends TypeMirror> bounds = param.getBounds();
+            if (bounds.size() > 1) {
+                // resolved at runtime as impossible wildcard (? extends A & B)
+                throw new UnsupportedHierarchyException("generic " + name + " declares multiple bounds");
+            }
+            TypeMirror resolved;
+            try {
+                resolved = substitute(bounds.get(0), res);
+            } catch (UnknownVariableException ex) {
+                if (!ex.name.equals(name)) {
+                    // reversed declaration order (<A extends List<B>, B>)
+                    throw new UnsupportedHierarchyException("generic " + name + " depends on generic " + ex.name);
+                }
+                // direct cycle (T extends Comparable<T>) resolved to raw bound class
+                resolved = types.erasure(bounds.get(0));
+            }
+            res.put(name, resolved);
+        }
+        return res;
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CyclomaticComplexity"})
+    private TypeMirror substitute(final TypeMirror type, final Map<String, TypeMirror> generics) {
+        final TypeMirror res;
+        switch (type.getKind()) {
+            case DECLARED:
+                final DeclaredType declared = (DeclaredType) type;
+                final TypeMirror outer = declared.getEnclosingType();
+                if (outer.getKind() == TypeKind.DECLARED && !((DeclaredType) outer).getTypeArguments().isEmpty()) {
+                    throw new UnsupportedHierarchyException("type with parameterized owner " + type);
+                }
+                final List<? extends TypeMirror> args = declared.getTypeArguments();
+                final TypeMirror[] resolved = new TypeMirror[args.size()];
+                for (int i = 0; i < resolved.length; i++) {
+                    resolved[i] = substitute(args.get(i), generics);
+                }
+                res = resolved.length == 0 ? type : types.getDeclaredType(element(type), resolved);
+                break;
+            case ARRAY:
+                res = types.getArrayType(notWildcard(substitute(((ArrayType) type).getComponentType(), generics)));
+                break;
+            case WILDCARD:
+                res = substituteWildcard((WildcardType) type, generics);
+                break;
+            case TYPEVAR:
+                final String name = ((TypeVariable) type).asElement().getSimpleName().toString();
+                if (!generics.containsKey(name)) {
+                    throw new UnknownVariableException(name);
+                }
+                res = generics.get(name);
+                break;
+            case ERROR:
+            case INTERSECTION:
+            case UNION:
+                throw new UnsupportedHierarchyException("unsupported type " + type);
+            default:
+                // primitives
+                res = type;
+        }
+        return res;
+    }
+
+    /**
+     * Wildcards are flattened the same way as in
+     * {@link ru.vyarus.java.generics.resolver.util.GenericsUtils#resolveTypeVariables(java.lang.reflect.Type, Map)}:
+     * {@code ? extends Something} to {@code Something}, {@code ?} and {@code ? super Object} to {@code Object}.
+     *
+     * @param wildcard wildcard
+     * @param generics known generics
+     * @return resolved type
+     */
+    private TypeMirror substituteWildcard(final WildcardType wildcard, final Map<String, TypeMirror> generics) {
+        final TypeMirror upper = wildcard.getExtendsBound();
+        final TypeMirror lower = wildcard.getSuperBound();
+        final TypeMirror res;
+        if (lower != null) {
+            final TypeMirror bound = notWildcard(substitute(lower, generics));
+            res = isObject(bound) ? bound : types.getWildcardType(null, bound);
+        } else {
+            res = upper == null ? elements.getTypeElement(Object.class.getName()).asType()
+                    : substitute(upper, generics);
+        }
+        return res;
+    }
+
+    private TypeMirror notWildcard(final TypeMirror type) {
+        if (type.getKind() == TypeKind.WILDCARD) {
+            // runtime resolution could repackage such types
+            throw new UnsupportedHierarchyException("wildcard inside wildcard or array " + type);
+        }
+        return type;
+    }
+
+    private boolean same(final Map<String, TypeMirror> one, final Map<String, TypeMirror> two) {
+        boolean res = one.keySet().equals(two.keySet());
+        if (res) {
+            for (Map.Entry<String, TypeMirror> entry : one.entrySet()) {
+                if (!types.isSameType(entry.getValue(), two.get(entry.getKey()))) {
+                    res = false;
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    private void checkSupported(final TypeElement type) {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL
+                && (type.getNestingKind() != NestingKind.MEMBER || isInner(type))) {
+            // outer class generics are also stored for inner classes
+            throw new UnsupportedHierarchyException("inner class " + binaryName(type));
+        }
+    }
+
+    private boolean isInner(final TypeElement type) {
+        final Element outer = type.getEnclosingElement();
+        return !type.getModifiers().contains(Modifier.STATIC)
+                && type.getKind() == ElementKind.CLASS && outer.getKind() != ElementKind.INTERFACE
+                && outer.getKind() != ElementKind.ANNOTATION_TYPE;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private void render(final TypeMirror type, final StringBuilder res) {
+        switch (type.getKind()) {
+            case DECLARED:
+                res.append(binaryName(element(type)));
+                final List<? extends TypeMirror> args = ((DeclaredType) type).getTypeArguments();
+                if (!args.isEmpty()) {
+                    res.append('<');
+                    renderAll(args, ',', res);
+                    res.append('>');
+                }
+                break;
+            case ARRAY:
+                render(((ArrayType) type).getComponentType(), res);
+                res.append("[]");
+                break;
+            case WILDCARD:
+                final WildcardType wildcard = (WildcardType) type;
+                res.append('?');
+                if (wildcard.getExtendsBound() != null && !isObject(wildcard.getExtendsBound())) {
+                    res.append(" extends ");
+                    render(wildcard.getExtendsBound(), res);
+                }
+                if (wildcard.getSuperBound() != null) {
+                    res.append(" super ");
+                    render(wildcard.getSuperBound(), res);
+                }
+                break;
+            case TYPEVAR:
+                res.append(((TypeVariable) type).asElement().getSimpleName());
+                break;
+            case NONE:
+                // no super class
+                break;
+            default:
+                // primitives
+                res.append(type);
+        }
+    }
+
+    private void renderAll(final List<? extends TypeMirror> types, final char separator, final StringBuilder res) {
+        for (int i = 0; i < types.size(); i++) {
+            if (i > 0) {
+                res.append(separator);
+            }
+            render(types.get(i), res);
+        }
+    }
+
+    private boolean isObject(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && Object.class.getName().equals(element(type).getQualifiedName().toString());
+    }
+
+    private TypeElement element(final TypeMirror type) {
+        return (TypeElement) types.asElement(type);
+    }
+
+    /**
+     * Hierarchy can't be resolved at compile time.
+     */
+    static class UnsupportedHierarchyException extends RuntimeException {
+        private static final long serialVersionUID = 1;
+
+        UnsupportedHierarchyException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Variable is not yet resolved (generics declaration dependency).
+     */
+    private static class UnknownVariableException extends RuntimeException {
+        private static final long serialVersionUID = 1;
+
+        private final String name;
+
+        UnknownVariableException(final String name) {
+            super(name);
+            this.name = name;
+        }
+    }
+}
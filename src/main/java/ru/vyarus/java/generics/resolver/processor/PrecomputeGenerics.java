@@ -0,0 +1,48 @@
+package ru.vyarus.java.generics.resolver.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks class (or all classes in package, when used on package) for compile-time generics precomputation with
+ * {@link GenericsMetadataProcessor}. For each marked class processor generates metadata class
+ * ({@code <class name>$$GenericsMetadata}) with resolved hierarchy generics, which is used by
+ * {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory} instead of reflective hierarchy analysis.
+ * <p>
+ * Metadata holds signature checksum of each hierarchy class: stale metadata (class declaration changed after
+ * compilation, e.g. library upgrade) is ignored and hierarchy is resolved with reflection.
+ * <p>
+ * Annotation is required at runtime to avoid metadata lookup for not marked classes.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.PACKAGE})
+public @interface PrecomputeGenerics {
+
+    /**
+     * Generated metadata class name suffix.
+     */
+    String METADATA_SUFFIX = "$$GenericsMetadata";
+
+    /**
+     * Metadata field with hierarchy class names ({@code String[]}, root class first).
+     */
+    String TYPES_FIELD = "TYPES";
+
+    /**
+     * Metadata field with signature checksums of hierarchy classes ({@code long[]}, in types order).
+     */
+    String SIGNATURES_FIELD = "SIGNATURES";
+
+    /**
+     * Metadata field with resolved generics of hierarchy classes ({@code String[][]}, in types order): generic
+     * name and type signature pairs (see {@link ru.vyarus.java.generics.resolver.util.TypeSignatureUtils}).
+     */
+    String GENERICS_FIELD = "GENERICS";
+}
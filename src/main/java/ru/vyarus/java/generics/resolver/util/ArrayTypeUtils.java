@@ -1,11 +1,10 @@
 package ru.vyarus.java.generics.resolver.util;
 
 import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
 
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Utilities for working with array types.
@@ -15,21 +14,6 @@ import java.util.Map;
  */
 public final class ArrayTypeUtils {
 
-    private static final String ARRAY_TYPE_SIMPLE_PREFIX = "[";
-    private static final String ARRAY_TYPE_OBJECT_PREFIX = "[L";
-
-    @SuppressWarnings({"checkstyle:Indentation", "PMD.DoubleBraceInitialization", "PMD.UseDiamondOperator"})
-    private static final Map<Class, String> PRIMITIVE_ARRAY_LETTER = new HashMap<Class, String>() {{
-        put(byte.class, "B");
-        put(char.class, "C");
-        put(double.class, "D");
-        put(float.class, "F");
-        put(int.class, "I");
-        put(long.class, "J");
-        put(short.class, "S");
-        put(boolean.class, "Z");
-    }};
-
     private ArrayTypeUtils() {
     }
 
@@ -81,17 +65,9 @@ public final class ArrayTypeUtils {
     @SuppressWarnings("unchecked")
     public static <T> Class<T[]> toArrayClass(final Class<T> type) {
         try {
-            final String name = type.getName();
-            final String typeName;
-            if (type.isArray()) {
-                typeName = ARRAY_TYPE_SIMPLE_PREFIX + name;
-            } else if (type.isPrimitive()) {
-                typeName = ARRAY_TYPE_SIMPLE_PREFIX + PRIMITIVE_ARRAY_LETTER.get(type);
-            } else {
-                typeName = ARRAY_TYPE_OBJECT_PREFIX + name + ";";
-            }
-            return (Class<T[]>) Class.forName(typeName);
-        } catch (ClassNotFoundException e) {
+            // array class is cached per component type (no name-based lookup, so class loader does not matter)
+            return (Class<T[]>) ClassMetadata.arrayClass(type);
+        } catch (IllegalArgumentException e) {
             throw new IllegalStateException("Failed to create array class for "
                     + TypeToStringUtils.toStringType(type), e);
         }
@@ -111,6 +87,6 @@ public final class ArrayTypeUtils {
      */
     public static Type toArrayType(final Type type) {
         return type instanceof Class ? toArrayClass((Class<?>) type)
-                : new GenericArrayTypeImpl(type);
+                : TypesInterner.intern(new GenericArrayTypeImpl(type));
     }
 }
@@ -0,0 +1,200 @@
+package ru.vyarus.java.generics.resolver.util;
+
+import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Cache partitions by class loader, used by internal caches (descriptors cache, hierarchy templates, interned
+ * types, types relations and common types memos).
+ * <p>
+ * Partition is referenced only from classes of its class loader (with {@link ClassValue}) and weakly from loaders
+ * registry. Partition must hold (strongly) only classes of its own loader and parent loaders (see
+ * {@link #owner(Type...)}), so partition does not prevent class loader unloading and is collected together
+ * with its class loader. Partition lookup by class is lock-free.
+ *
+ * @param <T> partition type
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class ClassLoaderPartitions<T> {
+
+    private final Factory<T> factory;
+    private final ClassValue<T> byClass = new ClassValue<T>() {
+        @Override
+        protected T computeValue(final Class<?> type) {
+            return partition(type);
+        }
+    };
+    // weak keys and values: partition is held by its classes (bootstrap loader is the null key)
+    private final Map<ClassLoader, WeakReference<T>> byLoader = new WeakHashMap<>();
+
+    public ClassLoaderPartitions(final Factory<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @param type class
+     * @return partition of class loader of provided class
+     */
+    public T get(final Class<?> type) {
+        return byClass.get(type);
+    }
+
+    /**
+     * @param loader class loader (null for bootstrap loader)
+     * @return partition of class loader or null if no partition exists
+     */
+    public synchronized T find(final ClassLoader loader) {
+        final WeakReference<T> ref = byLoader.get(loader);
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * @return all existing partitions
+     */
+    public synchronized List<T> all() {
+        final List<T> res = new ArrayList<>(byLoader.size());
+        for (WeakReference<T> ref : byLoader.values()) {
+            final T partition = ref.get();
+            if (partition != null) {
+                res.add(partition);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Searches for class of the "youngest" class loader among all classes, composing provided types (all other
+     * classes are loaded by the same loader or its parents). Partition of this class could hold provided types.
+     * Types with classes of unrelated class loaders (e.g. two plugins) can't be stored in any partition.
+     *
+     * @param types types to check
+     * @return class of the youngest class loader or null if types contain classes of unrelated class loaders
+     * (or not supported types)
+     */
+    public static Class<?> owner(final Type... types) {
+        return owner(Object.class, types);
+    }
+
+    /**
+     * @param one first class
+     * @param two second class
+     * @return class with the youngest class loader or null if class loaders are unrelated
+     */
+    private static Class<?> younger(final Class<?> one, final Class<?> two) {
+        if (one == null || two == null) {
+            return null;
+        }
+        final ClassLoader first = one.getClassLoader();
+        final ClassLoader second = two.getClassLoader();
+        Class<?> res = null;
+        if (first == second || isParent(second, first)) {
+            res = one;
+        } else if (isParent(first, second)) {
+            res = two;
+        }
+        return res;
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static Class<?> owner(final Class<?> current, final Type[] types) {
+        Class<?> res = current;
+        for (Type type : types) {
+            if (res == null) {
+                break;
+            }
+            res = owner(res, type);
+        }
+        return res;
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CognitiveComplexity"})
+    private static Class<?> owner(final Class<?> current, final Type type) {
+        Class<?> res = null;
+        if (type instanceof Class) {
+            res = younger(current, (Class<?>) type);
+        } else if (TypesInterner.isCanonical(type)) {
+            // canonical types already know their partition
+            res = younger(current, TypesInterner.owner(type));
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType param = (ParameterizedType) type;
+            res = owner(current, param.getRawType());
+            if (res != null && param.getOwnerType() != null) {
+                res = owner(res, param.getOwnerType());
+            }
+            if (res != null) {
+                res = owner(res, TypesInterner.arguments(param));
+            }
+        } else if (type instanceof GenericArrayType) {
+            res = owner(current, ((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            final WildcardType wildcard = (WildcardType) type;
+            res = owner(owner(current, TypesInterner.upperBounds(wildcard)), TypesInterner.lowerBounds(wildcard));
+        } else if (type instanceof TypeVariable) {
+            final GenericDeclaration source = ((TypeVariable<?>) type).getGenericDeclaration();
+            res = younger(current, source instanceof Class
+                    ? (Class<?>) source : ((Member) source).getDeclaringClass());
+        } else if (type instanceof ExplicitTypeVariable) {
+            final ExplicitTypeVariable variable = (ExplicitTypeVariable) type;
+            res = variable.getDeclarationSource() != null
+                    ? owner(current, variable.getDeclarationSource()) : owner(current, variable.getBounds());
+        }
+        return res;
+    }
+
+    /**
+     * @param parent possible parent loader (null for bootstrap loader)
+     * @param loader class loader
+     * @return true if loader delegates to parent loader
+     */
+    private static boolean isParent(final ClassLoader parent, final ClassLoader loader) {
+        if (parent == null) {
+            return true;
+        }
+        ClassLoader current = loader;
+        while (current != null) {
+            if (current == parent) {
+                return true;
+            }
+            current = current.getParent();
+        }
+        return false;
+    }
+
+    private synchronized T partition(final Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        T res = find(loader);
+        if (res == null) {
+            res = factory.create(type);
+            byLoader.put(loader, new WeakReference<>(res));
+        }
+        return res;
+    }
+
+    /**
+     * Partition factory.
+     *
+     * @param <T> partition type
+     */
+    public interface Factory<T> {
+
+        /**
+         * @param type first requested class of partition class loader (could be stored in partition)
+         * @return new partition
+         */
+        T create(Class<?> type);
+    }
+}
@@ -0,0 +1,229 @@
+package ru.vyarus.java.generics.resolver.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-class cache of reflection metadata, used by all resolution utilities. Reflection methods like
+ * {@link Class#getTypeParameters()}, {@link Class#getGenericInterfaces()} or {@link Class#getInterfaces()} clone
+ * arrays on each call (and generic signatures could be re-parsed), {@link Class#getEnclosingClass()} and
+ * {@link Class#isMemberClass()} perform additional lookups. Here each value is computed once (on first access).
+ * <p>
+ * Metadata is bound to class with {@link ClassValue}, so it does not prevent class loaders unloading.
+ * <p>
+ * Public methods return unmodifiable lists (views over shared arrays, created once per class). Shared arrays
+ * itself are accessible only for utilities of this package.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings({"PMD.AvoidUsingVolatile", "PMD.MethodReturnsInternalArray", "PMD.TooManyMethods"})
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+    // marker for resolved null values
+    private static final Object NONE = new Object();
+
+    private final Class<?> type;
+    // all values are computed lazily (concurrent computation is harmless)
+    private volatile TypeVariable<?>[] typeParameters;
+    private volatile Type[] genericInterfaces;
+    private volatile Class<?>[] interfaces;
+    private volatile Object genericSuperclass;
+    private volatile Object enclosingClass;
+    private volatile Boolean inner;
+    private volatile Class<?> arrayClass;
+    // unmodifiable views over shared arrays
+    private volatile List<TypeVariable<?>> typeParametersList;
+    private volatile List<Type> genericInterfacesList;
+    private volatile List<Class<?>> interfacesList;
+
+    private ClassMetadata(final Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * @param type class
+     * @param <T>  class type
+     * @return class generics declaration (unmodifiable list)
+     * @see Class#getTypeParameters()
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<TypeVariable<Class<T>>> typeParameters(final Class<T> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        List<TypeVariable<?>> res = meta.typeParametersList;
+        if (res == null) {
+            res = ClassMetadata.<TypeVariable<?>>view(sharedTypeParameters(type));
+            meta.typeParametersList = res;
+        }
+        return (List<TypeVariable<Class<T>>>) (List<?>) res;
+    }
+
+    /**
+     * @param type class
+     * @return true if class declares generics
+     */
+    public static boolean hasTypeParameters(final Class<?> type) {
+        return sharedTypeParameters(type).length > 0;
+    }
+
+    /**
+     * @param type class
+     * @return directly implemented interfaces with generics (unmodifiable list)
+     * @see Class#getGenericInterfaces()
+     */
+    public static List<Type> genericInterfaces(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        List<Type> res = meta.genericInterfacesList;
+        if (res == null) {
+            res = view(sharedGenericInterfaces(type));
+            meta.genericInterfacesList = res;
+        }
+        return res;
+    }
+
+    /**
+     * @param type class
+     * @return directly implemented interfaces (unmodifiable list)
+     * @see Class#getInterfaces()
+     */
+    public static List<Class<?>> interfaces(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        List<Class<?>> res = meta.interfacesList;
+        if (res == null) {
+            res = view(sharedInterfaces(type));
+            meta.interfacesList = res;
+        }
+        return res;
+    }
+
+    /**
+     * @param type class
+     * @return super class with generics or null
+     * @see Class#getGenericSuperclass()
+     */
+    public static Type genericSuperclass(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        Object res = meta.genericSuperclass;
+        if (res == null) {
+            res = type.getGenericSuperclass();
+            meta.genericSuperclass = res == null ? NONE : res;
+        }
+        return res == NONE ? null : (Type) res;
+    }
+
+    /**
+     * @param type class
+     * @return enclosing class or null
+     * @see Class#getEnclosingClass()
+     */
+    public static Class<?> enclosingClass(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        Object res = meta.enclosingClass;
+        if (res == null) {
+            res = type.getEnclosingClass();
+            meta.enclosingClass = res == null ? NONE : res;
+        }
+        return res == NONE ? null : (Class<?>) res;
+    }
+
+    /**
+     * @param type class
+     * @return true if class is inner (not static member class, requiring outer class instance)
+     * @see TypeUtils#isInner(Type)
+     */
+    public static boolean isInner(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        Boolean res = meta.inner;
+        if (res == null) {
+            res = !type.isInterface() && type.isMemberClass() && !Modifier.isStatic(type.getModifiers());
+            meta.inner = res;
+        }
+        return res;
+    }
+
+    /**
+     * @param type class
+     * @return array class with provided component type
+     * @throws IllegalArgumentException if array can't be created for provided type (void)
+     * @see ArrayTypeUtils#toArrayClass(Class)
+     */
+    public static Class<?> arrayClass(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        Class<?> res = meta.arrayClass;
+        if (res == null) {
+            res = Array.newInstance(type, 0).getClass();
+            meta.arrayClass = res;
+        }
+        return res;
+    }
+
+    /**
+     * Shared array must not be modified (only for read-only usage inside package).
+     *
+     * @param type class
+     * @param <T>  class type
+     * @return class generics declaration (shared array)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> TypeVariable<Class<T>>[] sharedTypeParameters(final Class<T> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        TypeVariable<?>[] res = meta.typeParameters;
+        if (res == null) {
+            res = type.getTypeParameters();
+            meta.typeParameters = res;
+        }
+        return (TypeVariable<Class<T>>[]) res;
+    }
+
+    /**
+     * Shared array must not be modified (only for read-only usage inside package).
+     *
+     * @param type class
+     * @return directly implemented interfaces with generics (shared array)
+     */
+    static Type[] sharedGenericInterfaces(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        Type[] res = meta.genericInterfaces;
+        if (res == null) {
+            res = type.getGenericInterfaces();
+            meta.genericInterfaces = res;
+        }
+        return res;
+    }
+
+    /**
+     * Shared array must not be modified (only for read-only usage inside package).
+     *
+     * @param type class
+     * @return directly implemented interfaces (shared array)
+     */
+    static Class<?>[] sharedInterfaces(final Class<?> type) {
+        final ClassMetadata meta = METADATA.get(type);
+        Class<?>[] res = meta.interfaces;
+        if (res == null) {
+            res = type.getInterfaces();
+            meta.interfaces = res;
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return "metadata of " + type.getName();
+    }
+
+    private static <T> List<T> view(final T[] items) {
+        return items.length == 0 ? Collections.<T>emptyList() : Collections.unmodifiableList(Arrays.asList(items));
+    }
+}
@@ -38,9 +38,20 @@ public final class GenericInfoUtils {
      * @return analyzed type generics info
      */
     public static GenericsInfo create(final Class<?> type, final Class<?>... ignoreClasses) {
+        return create(type, HierarchyPruning.ignore(ignoreClasses));
+    }
+
+    /**
+     * Same as {@link #create(Class, Class[])}, but with hierarchy pruning policy.
+     *
+     * @param type    class to analyze
+     * @param pruning types to exclude from hierarchy analysis
+     * @return analyzed type generics info
+     */
+    public static GenericsInfo create(final Class<?> type, final HierarchyPruning pruning) {
         // root class may contain generics or it may be inner class
         final LinkedHashMap<String, Type> generics = GenericsResolutionUtils.resolveRawGenerics(type);
-        return create(type, generics, null, ignoreClasses);
+        return create(type, generics, null, pruning);
     }
 
     /**
@@ -58,8 +69,22 @@ public final class GenericInfoUtils {
      */
     public static GenericsInfo create(
             final GenericsContext context, final Type type, final Class<?>... ignoreClasses) {
+        return create(context, type, HierarchyPruning.ignore(ignoreClasses));
+    }
+
+    /**
+     * Same as {@link #create(GenericsContext, Type, Class[])}, but with hierarchy pruning policy.
+     *
+     * @param context generics context of containing class
+     * @param type    type to analyze (important: this must be generified type and not raw class in
+     *                order to properly resolve generics)
+     * @param pruning types to exclude from hierarchy analysis
+     * @return analyzed type generics info
+     */
+    public static GenericsInfo create(
+            final GenericsContext context, final Type type, final HierarchyPruning pruning) {
         // root generics are required only to properly solve type
-        final Map<String, Type> rootGenerics = context.visibleGenericsMap();
+        final Map<String, Type> rootGenerics = context.visibleGenericsMapView();
         // first step: solve type to replace transitive generics with direct values
         final Type actual = GenericsUtils.resolveTypeVariables(type, rootGenerics);
         final Class<?> target = context.resolveClass(actual);
@@ -69,7 +94,7 @@ public final class GenericInfoUtils {
                 .fillOuterGenerics(actual, generics, context.getGenericsInfo().getTypesMap());
         return create(target, generics,
                 // store possible owner types from parent context
-                usePossiblyOwnerGenerics(target, context.getGenericsInfo()), ignoreClasses);
+                usePossiblyOwnerGenerics(target, context.getGenericsInfo()), pruning);
     }
 
     /**
@@ -102,8 +127,25 @@ public final class GenericInfoUtils {
                                       final Type type,
                                       final Class<?> asType,
                                       final Class<?>... ignoreClasses) {
+        return create(context, type, asType, HierarchyPruning.ignore(ignoreClasses));
+    }
+
+    /**
+     * Same as {@link #create(GenericsContext, Type, Class, Class[])}, but with hierarchy pruning policy.
+     *
+     * @param context generics context of containing class
+     * @param type    type to analyze (important: this must be generified type and not raw class in
+     *                order to properly resolve generics)
+     * @param asType  target child type (this class contain original type in hierarchy)
+     * @param pruning types to exclude from hierarchy analysis
+     * @return analyzed type generics info
+     */
+    public static GenericsInfo create(final GenericsContext context,
+                                      final Type type,
+                                      final Class<?> asType,
+                                      final HierarchyPruning pruning) {
         // root generics are required only to properly solve type
-        final Map<String, Type> rootGenerics = context.visibleGenericsMap();
+        final Map<String, Type> rootGenerics = context.visibleGenericsMapView();
         // first step: solve type to replace transitive generics with direct values
         final Type actual = GenericsUtils.resolveTypeVariables(type, rootGenerics);
         final Class<?> middleType = context.resolveClass(actual);
@@ -129,7 +171,7 @@ public final class GenericInfoUtils {
 
 
         // root type
-        typeGenerics = asType.getTypeParameters().length > 0
+        typeGenerics = ClassMetadata.hasTypeParameters(asType)
                 ? GenericsTrackingUtils.track(asType, middleType, typeGenerics)
                 : EmptyGenericsMap.getInstance();
 
@@ -137,21 +179,98 @@ public final class GenericInfoUtils {
                 .fillOuterGenerics(asType, typeGenerics, knownGenerics.size() > 1
                         // if known middle type is inner class then owner already filled
                         ? knownGenerics : context.getGenericsInfo().getTypesMap());
-        return create(asType, typeGenerics, knownGenerics, ignoreClasses);
+        return create(asType, typeGenerics, knownGenerics, pruning);
     }
 
 
+    /**
+     * Build limited descriptor (with ignored classes) from already resolved complete descriptor (without ignored
+     * classes) of the same root class. This avoids hierarchy re-analysis when complete descriptor is already known
+     * (e.g. cached).
+     * <p>
+     * Limited descriptor could be derived only if no remaining type is reachable through ignored class (in this case
+     * remaining types generics could be resolved differently: interface, appearing multiple times in hierarchy,
+     * collects generics from all appearances).
+     *
+     * @param info          complete descriptor (resolved without ignored classes)
+     * @param ignoreClasses classes to exclude from hierarchy
+     * @return limited descriptor or null if it can't be derived (and so must be resolved)
+     * @throws IllegalArgumentException if provided descriptor was resolved with ignored classes
+     */
+    public static GenericsInfo limit(final GenericsInfo info, final Class<?>... ignoreClasses) {
+        return limit(info, HierarchyPruning.ignore(ignoreClasses));
+    }
+
+    /**
+     * Same as {@link #limit(GenericsInfo, Class[])}, but with hierarchy pruning policy.
+     *
+     * @param info    complete descriptor (resolved without pruning)
+     * @param pruning types to exclude from hierarchy
+     * @return limited descriptor or null if it can't be derived (and so must be resolved)
+     * @throws IllegalArgumentException if provided descriptor was resolved with pruning
+     */
+    public static GenericsInfo limit(final GenericsInfo info, final HierarchyPruning pruning) {
+        if (!info.getPruning().isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "Complete descriptor required, but %s resolved with ignored classes",
+                    TypeToStringUtils.toStringType(info.getRootClass())));
+        }
+        final Map<Class<?>, LinkedHashMap<String, Type>> types = info.getTypesMap();
+        final Set<Class<?>> retained = new HashSet<>();
+        final Set<Class<?>> cut = new HashSet<>();
+        collectHierarchy(info.getRootClass(), false, types, pruning, retained, cut);
+        for (Class<?> type : cut) {
+            if (retained.contains(type)) {
+                // type reachable both through ignored and not ignored classes
+                return null;
+            }
+        }
+        types.keySet().retainAll(retained);
+        return new GenericsInfo(info.getRootClass(), types, pruning);
+    }
+
     private static GenericsInfo create(
             final Class type,
             final LinkedHashMap<String, Type> rootGenerics,
             final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
-            final Class<?>... ignoreClasses) {
+            final HierarchyPruning pruning) {
 
         final Map<Class<?>, LinkedHashMap<String, Type>> generics = GenericsResolutionUtils.resolve(type,
                 rootGenerics,
                 knownGenerics == null ? Collections.<Class<?>, LinkedHashMap<String, Type>>emptyMap() : knownGenerics,
-                Arrays.asList(ignoreClasses));
-        return new GenericsInfo(type, generics, ignoreClasses);
+                pruning);
+        return new GenericsInfo(type, generics, pruning);
+    }
+
+    /**
+     * Collect types of resolved hierarchy, visible with ignored classes (the same way as hierarchy is analyzed) and
+     * types reachable through ignored classes.
+     *
+     * @param type     current type
+     * @param isCut    true if current type is ignored or reachable only through ignored class
+     * @param types    complete hierarchy types
+     * @param pruning  types to exclude
+     * @param retained visible types (collector)
+     * @param cut      types behind ignored classes (collector)
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private static void collectHierarchy(final Class<?> type,
+                                         final boolean isCut,
+                                         final Map<Class<?>, LinkedHashMap<String, Type>> types,
+                                         final HierarchyPruning pruning,
+                                         final Set<Class<?>> retained,
+                                         final Set<Class<?>> cut) {
+        if (!(isCut ? cut : retained).add(type)) {
+            // already processed
+            return;
+        }
+        final List<Class<?>> supertypes = new ArrayList<>(Arrays.asList(ClassMetadata.sharedInterfaces(type)));
+        supertypes.add(type.getSuperclass());
+        for (Class<?> supertype : supertypes) {
+            if (types.containsKey(supertype)) {
+                collectHierarchy(supertype, isCut || pruning.isPruned(supertype), types, pruning, retained, cut);
+            }
+        }
     }
 
     /**
@@ -4,6 +4,8 @@ import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
 import ru.vyarus.java.generics.resolver.error.GenericsResolutionException;
 import ru.vyarus.java.generics.resolver.error.IncompatibleTypesException;
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics;
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics;
 import ru.vyarus.java.generics.resolver.util.type.TypeLiteral;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
@@ -41,6 +43,19 @@ public final class GenericsResolutionUtils {
         return resolve(type, resolveRawGenerics(type), ignoreClasses);
     }
 
+    /**
+     * Same as {@link #resolve(Class, Class[])}, but with hierarchy pruning policy.
+     *
+     * @param type    type to resolve generics for
+     * @param pruning types to exclude from analysis
+     * @return resolved generics for all types in class hierarchy
+     */
+    public static Map<Class<?>, LinkedHashMap<String, Type>> resolve(final Class<?> type,
+                                                                     final HierarchyPruning pruning) {
+        return resolve(type, resolveRawGenerics(type),
+                Collections.<Class<?>, LinkedHashMap<String, Type>>emptyMap(), pruning);
+    }
+
     /**
      * Resolve hierarchy of provided type. It makes sense only for {@link ParameterizedType} as only this type
      * could hold class generics. Parameter preserved to be {@link Type} for more universal usage
@@ -108,13 +123,40 @@ public final class GenericsResolutionUtils {
             final LinkedHashMap<String, Type> rootGenerics,
             final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
             final List<Class<?>> ignoreClasses) {
+        return resolve(type, rootGenerics, knownGenerics, HierarchyPruning.ignore(ignoreClasses));
+    }
+
+    /**
+     * Same as {@link #resolve(Class, LinkedHashMap, Map, List)}, but with hierarchy pruning policy instead of
+     * ignored classes list.
+     *
+     * @param type          class to analyze
+     * @param rootGenerics  resolved root type generics (including owner type generics); must not be null!
+     * @param knownGenerics type generics known before analysis (some middle class generics are known) and
+     *                      could contain possible outer generics (types for sure not included in resolving type
+     *                      hierarchy); must not be null, but could be empty map
+     * @param pruning       types to exclude from analysis
+     * @return resolved generics for all types in class hierarchy
+     */
+    public static Map<Class<?>, LinkedHashMap<String, Type>> resolve(
+            final Class<?> type,
+            final LinkedHashMap<String, Type> rootGenerics,
+            final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
+            final HierarchyPruning pruning) {
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        final long start = metrics == null ? 0 : System.nanoTime();
         final Map<Class<?>, LinkedHashMap<String, Type>> generics = new HashMap<>();
         generics.put(type, rootGenerics);
         try {
-            analyzeType(generics, type, knownGenerics, ignoreClasses);
+            analyzeType(generics, type, knownGenerics, pruning);
         } catch (Exception ex) {
             throw new GenericsResolutionException(type, rootGenerics, knownGenerics, ex);
         }
+        if (metrics != null) {
+            final long time = System.nanoTime() - start;
+            metrics.hierarchyResolved(type, depth(type, generics, new HashMap<Class<?>, Integer>()),
+                    generics.size(), time);
+        }
         return generics;
     }
 
@@ -145,8 +187,8 @@ public final class GenericsResolutionUtils {
         if (actual instanceof ParameterizedType) {
             final ParameterizedType actualType = (ParameterizedType) actual;
             final Type[] genericTypes = actualType.getActualTypeArguments();
-            final Class target = (Class) actualType.getRawType();
-            final TypeVariable[] genericNames = target.getTypeParameters();
+            final Class<?> target = (Class<?>) actualType.getRawType();
+            final TypeVariable[] genericNames = ClassMetadata.sharedTypeParameters(target);
 
             // inner class can use outer class generics
             res = fillOuterGenerics(actual, new LinkedHashMap<>(), null);
@@ -190,7 +232,7 @@ public final class GenericsResolutionUtils {
      * @see #resolveRawGenerics(Class) to include outer type generics
      */
     public static LinkedHashMap<String, Type> resolveDirectRawGenerics(final Class<?> type) {
-        return resolveRawGenericsChain(type.getTypeParameters(), null);
+        return resolveRawGenericsChain(ClassMetadata.sharedTypeParameters(type), null);
     }
 
     /**
@@ -318,7 +360,7 @@ public final class GenericsResolutionUtils {
                         : resolveRawGenerics(outerType);
             }
             // class may declare generics with the same name and they must not be overridden
-            for (TypeVariable var : GenericsUtils.resolveClass(type, generics).getTypeParameters()) {
+            for (TypeVariable var : ClassMetadata.sharedTypeParameters(GenericsUtils.resolveClass(type, generics))) {
                 outerGenerics.remove(var.getName());
             }
 
@@ -394,19 +436,19 @@ public final class GenericsResolutionUtils {
      * @param knownGenerics type generics known before analysis (some middle class generics are known) and
      *                      possible owner types (types not present in analyzed type hierarchy)
      * @param type          class to analyze
-     * @param ignoreClasses classes to ignore during analysis
+     * @param pruning       types to exclude from analysis
      */
     private static void analyzeType(final Map<Class<?>, LinkedHashMap<String, Type>> generics,
                                     final Class<?> type,
                                     final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
-                                    final List<Class<?>> ignoreClasses) {
+                                    final HierarchyPruning pruning) {
         Class<?> supertype = type;
         while (true) {
-            for (Type iface : supertype.getGenericInterfaces()) {
-                analyzeInterface(generics, knownGenerics, iface, supertype, ignoreClasses);
+            for (Type iface : ClassMetadata.sharedGenericInterfaces(supertype)) {
+                analyzeInterface(generics, knownGenerics, iface, supertype, pruning);
             }
             final Class next = supertype.getSuperclass();
-            if (next == null || Object.class == next || ignoreClasses.contains(next)) {
+            if (next == null || Object.class == next || pruning.isPruned(next)) {
                 break;
             }
             // possibly provided generics (externally)
@@ -419,6 +461,35 @@ public final class GenericsResolutionUtils {
         }
     }
 
+    /**
+     * Used only for metrics.
+     *
+     * @param type     hierarchy type
+     * @param generics resolved hierarchy
+     * @param depths   already computed depths
+     * @return longest path from type to hierarchy leaf
+     */
+    private static int depth(final Class<?> type,
+                             final Map<Class<?>, LinkedHashMap<String, Type>> generics,
+                             final Map<Class<?>, Integer> depths) {
+        Integer res = depths.get(type);
+        if (res == null) {
+            int max = 0;
+            final Class<?> superclass = type.getSuperclass();
+            if (superclass != null && generics.containsKey(superclass)) {
+                max = depth(superclass, generics, depths);
+            }
+            for (Class<?> iface : ClassMetadata.sharedInterfaces(type)) {
+                if (generics.containsKey(iface)) {
+                    max = Math.max(max, depth(iface, generics, depths));
+                }
+            }
+            res = max + 1;
+            depths.put(type, res);
+        }
+        return res;
+    }
+
     /**
      * Analyze interface generics. If type is contained in known types - no generics resolution performed
      * (trust provided info).
@@ -427,41 +498,51 @@ public final class GenericsResolutionUtils {
      * @param knownTypes    type generics known before analysis (some middle class generics are known)
      * @param iface         interface to analyze
      * @param hostType      class implementing interface (where generics actually defined)
-     * @param ignoreClasses classes to ignore during analysis
+     * @param pruning       types to exclude from analysis
      */
     private static void analyzeInterface(final Map<Class<?>, LinkedHashMap<String, Type>> types,
                                          final Map<Class<?>, LinkedHashMap<String, Type>> knownTypes,
                                          final Type iface,
                                          final Class<?> hostType,
-                                         final List<Class<?>> ignoreClasses) {
+                                         final HierarchyPruning pruning) {
         final Class interfaceType = iface instanceof ParameterizedType
                 ? (Class) ((ParameterizedType) iface).getRawType()
                 : (Class) iface;
-        if (!ignoreClasses.contains(interfaceType)) {
+        if (!pruning.isPruned(interfaceType)) {
+            // not null if interface was already analyzed (reachable through multiple paths)
+            final LinkedHashMap<String, Type> previous = types.get(interfaceType);
+            final LinkedHashMap<String, Type> current;
             if (knownTypes.containsKey(interfaceType)) {
                 // check possibly already resolved generics (if provided externally)
-                types.put(interfaceType, knownTypes.get(interfaceType));
+                current = knownTypes.get(interfaceType);
             } else if (iface instanceof ParameterizedType) {
                 final ParameterizedType parametrization = (ParameterizedType) iface;
-                final LinkedHashMap<String, Type> generics =
-                        resolveGenerics(parametrization, types.get(hostType));
+                current = resolveGenerics(parametrization, types.get(hostType));
 
-                if (types.containsKey(interfaceType)) {
+                if (previous != null) {
                     // class hierarchy may contain multiple implementations for the same interface
                     // in this case we can merge known generics, using most specific types
                     // (root type unifies interfaces, so we just collecting actual maximum known info
                     // from multiple sources)
-                    merge(interfaceType, generics, types.get(interfaceType));
+                    merge(interfaceType, current, previous);
                 }
-                types.put(interfaceType, generics);
-            } else if (interfaceType.getTypeParameters().length > 0) {
+            } else if (ClassMetadata.hasTypeParameters(interfaceType)) {
                 // root class didn't declare generics
-                types.put(interfaceType, resolveRawGenerics(interfaceType));
+                current = resolveRawGenerics(interfaceType);
             } else if (!GROOVY_OBJECT.equals(interfaceType.getSimpleName())) {
                 // avoid groovy specific interface (all groovy objects implements it)
-                types.put(interfaceType, EmptyGenericsMap.getInstance());
+                current = EmptyGenericsMap.getInstance();
+            } else {
+                current = null;
+            }
+            if (current != null) {
+                types.put(interfaceType, current);
+            }
+            // interface sub hierarchy depends only on interface generics: when generics are not changed,
+            // second analysis would produce exactly the same result
+            if (previous == null || !previous.equals(current)) {
+                analyzeType(types, interfaceType, knownTypes, pruning);
             }
-            analyzeType(types, interfaceType, knownTypes, ignoreClasses);
         }
     }
 
@@ -500,9 +581,9 @@ public final class GenericsResolutionUtils {
         LinkedHashMap<String, Type> res = null;
         final Class parent = type.getSuperclass();
         if (!type.isInterface() && parent != null && parent != Object.class
-                && type.getGenericSuperclass() instanceof ParameterizedType) {
-            res = resolveGenerics(type.getGenericSuperclass(), generics);
-        } else if (parent != null && parent.getTypeParameters().length > 0) {
+                && ClassMetadata.genericSuperclass(type) instanceof ParameterizedType) {
+            res = resolveGenerics(ClassMetadata.genericSuperclass(type), generics);
+        } else if (parent != null && ClassMetadata.hasTypeParameters(parent)) {
             // root class didn't declare generics
             res = resolveRawGenerics(parent);
         }
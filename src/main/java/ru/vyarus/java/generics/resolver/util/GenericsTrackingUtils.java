@@ -44,7 +44,7 @@ public final class GenericsTrackingUtils {
     public static LinkedHashMap<String, Type> track(final Class<?> type,
                                                     final Class<?> known,
                                                     final LinkedHashMap<String, Type> knownGenerics) {
-        if (type.getTypeParameters().length == 0 || knownGenerics.isEmpty()) {
+        if (!ClassMetadata.hasTypeParameters(type) || knownGenerics.isEmpty()) {
             return EmptyGenericsMap.getInstance();
         }
 
@@ -91,7 +91,7 @@ public final class GenericsTrackingUtils {
 
         // resolve all generics in correct resolution order
         final Map<String, Type> tmpTypes = new HashMap<>(tracedRootGenerics);
-        for (TypeVariable gen : GenericsUtils.orderVariablesForResolution(type.getTypeParameters())) {
+        for (TypeVariable gen : GenericsUtils.orderVariablesForResolution(ClassMetadata.sharedTypeParameters(type))) {
             final String name = gen.getName();
             final Type value = tracedRootGenerics.containsKey(name)
                     ? tracedRootGenerics.get(name)
@@ -104,7 +104,7 @@ public final class GenericsTrackingUtils {
 
         // finally apply correct generics order
         final LinkedHashMap<String, Type> res = new LinkedHashMap<>();
-        for (TypeVariable gen : type.getTypeParameters()) {
+        for (TypeVariable gen : ClassMetadata.sharedTypeParameters(type)) {
             res.put(gen.getName(), tmpTypes.get(gen.getName()));
         }
         return res;
@@ -264,7 +264,7 @@ public final class GenericsTrackingUtils {
      */
     private static void trackDependentVariables(final Class<?> type,
                                                 final Map<String, Type> tracedRootGenerics) {
-        final TypeVariable<? extends Class<?>>[] typeParameters = type.getTypeParameters();
+        final TypeVariable<? extends Class<?>>[] typeParameters = ClassMetadata.sharedTypeParameters(type);
         if (tracedRootGenerics.isEmpty() || typeParameters.length == tracedRootGenerics.size()) {
             return;
         }
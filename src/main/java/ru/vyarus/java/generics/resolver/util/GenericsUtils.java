@@ -3,6 +3,7 @@ package ru.vyarus.java.generics.resolver.util;
 import ru.vyarus.java.generics.resolver.context.GenericDeclarationScope;
 import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
@@ -96,7 +97,7 @@ public final class GenericsUtils {
         } else if (type instanceof Class) {
             // if type is class return raw declaration
             final Class<?> actual = (Class<?>) analyzingType;
-            if (actual.getTypeParameters().length > 0) {
+            if (ClassMetadata.hasTypeParameters(actual)) {
                 res = GenericsResolutionUtils.resolveDirectRawGenerics(actual)
                         .values().toArray(new Type[0]);
             }
@@ -363,13 +364,13 @@ public final class GenericsUtils {
     public static Map<String, Type> extractOwnerGenerics(final Class<?> type,
                                                          final Map<String, Type> generics) {
         final boolean hasOwnerGenerics =
-                type.isMemberClass() && type.getTypeParameters().length != generics.size();
+                type.isMemberClass() && ClassMetadata.sharedTypeParameters(type).length != generics.size();
         if (!hasOwnerGenerics) {
             return Collections.emptyMap();
         }
         final LinkedHashMap<String, Type> res = new LinkedHashMap<>(generics);
         // owner generics are all generics not mentioned in signature
-        for (TypeVariable var : type.getTypeParameters()) {
+        for (TypeVariable var : ClassMetadata.sharedTypeParameters(type)) {
             res.remove(var.getName());
         }
         return res;
@@ -390,13 +391,13 @@ public final class GenericsUtils {
                                                         final Map<String, Type> generics) {
         // assuming generics map always contains correct generics and may include only outer
         // so if we call it with outer type and outer only generics it will correctly detect it
-        final boolean enoughGenerics = type.getTypeParameters().length == generics.size();
+        final boolean enoughGenerics = ClassMetadata.sharedTypeParameters(type).length == generics.size();
         if (enoughGenerics) {
             return generics;
         }
         final LinkedHashMap<String, Type> res = new LinkedHashMap<>();
         // owner generics are all generics not mentioned in signature
-        for (TypeVariable var : type.getTypeParameters()) {
+        for (TypeVariable var : ClassMetadata.sharedTypeParameters(type)) {
             final String name = var.getName();
             if (generics.containsKey(name)) {
                 res.put(name, generics.get(name));
@@ -450,7 +451,7 @@ public final class GenericsUtils {
     // LinkedHashMap indicates stored order, important for context
     public static LinkedHashMap<String, Type> createGenericsMap(final Class<?> type,
                                                                 final List<? extends Type> generics) {
-        final TypeVariable<? extends Class<?>>[] params = type.getTypeParameters();
+        final TypeVariable<? extends Class<?>>[] params = ClassMetadata.sharedTypeParameters(type);
         if (params.length != generics.size()) {
             throw new IllegalArgumentException(String.format(
                     "Can't build generics map for %s with %s because of incorrect generics count",
@@ -593,20 +594,21 @@ public final class GenericsUtils {
             if (parametrizedType.getOwnerType() != null) {
                 findVariables(parametrizedType.getOwnerType(), found);
             }
-            for (Type par : parametrizedType.getActualTypeArguments()) {
+            for (Type par : TypesInterner.arguments(parametrizedType)) {
                 findVariables(par, found);
             }
         } else if (type instanceof GenericArrayType) {
             findVariables(((GenericArrayType) type).getGenericComponentType(), found);
         } else if (type instanceof WildcardType) {
             final WildcardType wildcard = (WildcardType) type;
-            if (wildcard.getLowerBounds().length > 0) {
+            final Type[] lowerBounds = TypesInterner.lowerBounds(wildcard);
+            if (lowerBounds.length > 0) {
                 // ? super
-                findVariables(wildcard.getLowerBounds()[0], found);
+                findVariables(lowerBounds[0], found);
             } else {
                 // ? extends
                 // in java only one bound could be defined, but here could actually be repackaged TypeVariable
-                for (Type par : wildcard.getUpperBounds()) {
+                for (Type par : TypesInterner.upperBounds(wildcard)) {
                     findVariables(par, found);
                 }
             }
@@ -654,8 +656,8 @@ public final class GenericsUtils {
                                                           final Map<String, Type> generics,
                                                           final boolean countPreservedVariables) {
 
-        final boolean emptyContainerForClass = type.getActualTypeArguments().length == 0
-                && type.getOwnerType() == null;
+        final Type[] arguments = TypesInterner.arguments(type);
+        final boolean emptyContainerForClass = arguments.length == 0 && type.getOwnerType() == null;
         final Type owner = type.getOwnerType() != null
                 ? resolveTypeVariables(type.getOwnerType(),
                     // some outer class generics could be hidden by inner class generics (same name)
@@ -663,9 +665,13 @@ public final class GenericsUtils {
                     // does not influence for sure inner type)
                     new IgnoreGenericsMap(extractOwnerGenerics((Class) type.getRawType(), generics)))
                 : null;
-        return emptyContainerForClass ? type.getRawType()
-                : new ParameterizedTypeImpl(type.getRawType(),
-                resolveTypeVariables(type.getActualTypeArguments(), generics, countPreservedVariables), owner);
+        if (emptyContainerForClass) {
+            return type.getRawType();
+        }
+        final Type[] resolved = resolveTypeVariables(arguments, generics, countPreservedVariables);
+        // canonical type without variables could be used as is
+        return TypesInterner.isCanonical(type) && owner == type.getOwnerType() && Arrays.equals(resolved, arguments)
+                ? type : TypesInterner.intern(new ParameterizedTypeImpl(type.getRawType(), resolved, owner));
     }
 
     /**
@@ -685,18 +691,20 @@ public final class GenericsUtils {
                                                      final Map<String, Type> generics,
                                                      final boolean countPreservedVariables) {
         final Type res;
-        if (type.getLowerBounds().length > 0) {
+        final Type[] lowerBounds = TypesInterner.lowerBounds(type);
+        if (lowerBounds.length > 0) {
             // only one lower bound could be (? super A)
-            final Type lowerBound = resolveTypeVariables(
-                    type.getLowerBounds(), generics, countPreservedVariables)[0];
+            final Type lowerBound = resolveTypeVariables(lowerBounds[0], generics, countPreservedVariables);
             // flatten <? super Object> to Object
             res = lowerBound == Object.class
-                    ? Object.class : WildcardTypeImpl.lower(lowerBound);
+                    ? Object.class : TypesInterner.intern(WildcardTypeImpl.lower(lowerBound));
         } else {
             // could be multiple upper bounds because of named generic bounds repackage (T extends A & B)
-            final Type[] upperBounds = resolveTypeVariables(type.getUpperBounds(), generics, countPreservedVariables);
+            final Type[] upperBounds = resolveTypeVariables(
+                    TypesInterner.upperBounds(type), generics, countPreservedVariables);
             // flatten <? extends Object> (<?>) to Object and <? extends Something> to Something
-            res = upperBounds.length == 1 ? upperBounds[0] : WildcardTypeImpl.upper(upperBounds);
+            res = upperBounds.length == 1 ? upperBounds[0]
+                    : TypesInterner.intern(WildcardTypeImpl.upper(upperBounds));
         }
         return res;
     }
@@ -0,0 +1,284 @@
+package ru.vyarus.java.generics.resolver.util;
+
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Hierarchy pruning policy: decides which super types must be excluded from class hierarchy analysis. Excluded type
+ * is not analyzed together with all its super types (unless they are reachable through other types). Used to cut
+ * off large uninteresting hierarchy parts (e.g. {@code java.io.Serializable}, {@code groovy.lang.*}) before they are
+ * walked or to avoid interface clashes.
+ * <p>
+ * Type is pruned if it matches any rule:
+ * <ul>
+ * <li>exact class (hash lookup)</li>
+ * <li>name prefix: package (type package or any sub package) or class name (class itself and its nested
+ * classes)</li>
+ * <li>marker annotation present on type</li>
+ * <li>custom predicate</li>
+ * </ul>
+ * Root class is never pruned. For rules other than exact classes decisions are memoized for each class.
+ * <p>
+ * Policy is immutable and could be reused. Descriptors, resolved with policy, are cached by
+ * {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory} (for each policy): policies with the same
+ * rules are equal (custom predicates are compared with {@code equals}, so declare predicate as constant to share
+ * cached descriptors).
+ * <pre>{@code HierarchyPruning policy = HierarchyPruning.builder()
+ *      .classes(Serializable.class)
+ *      .packages("groovy.lang", "scala")
+ *      .build();
+ * GenericsResolver.resolve(Some.class, policy);}</pre>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings("PMD.LooseCoupling")
+public final class HierarchyPruning {
+
+    private static final HierarchyPruning NONE = new HierarchyPruning(Collections.<Class<?>>emptySet(),
+            Collections.<String>emptySet(), Collections.<Class<? extends Annotation>>emptySet(), null);
+
+    private final Set<Class<?>> classes;
+    private final Set<String> packages;
+    private final Set<Class<? extends Annotation>> annotations;
+    private final Predicate<Class<?>> predicate;
+    // memoized decisions (only for non exact rules)
+    private final ClassValue<Boolean> decisions;
+
+    private HierarchyPruning(final Set<Class<?>> classes,
+                             final Set<String> packages,
+                             final Set<Class<? extends Annotation>> annotations,
+                             final Predicate<Class<?>> predicate) {
+        this.classes = classes;
+        this.packages = packages;
+        this.annotations = annotations;
+        this.predicate = predicate;
+        this.decisions = packages.isEmpty() && annotations.isEmpty() && predicate == null ? null
+                : new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(final Class<?> type) {
+                return matches(type);
+            }
+        };
+    }
+
+    /**
+     * @return empty policy (nothing pruned)
+     */
+    public static HierarchyPruning none() {
+        return NONE;
+    }
+
+    /**
+     * Shortcut for exact classes policy.
+     *
+     * @param classes classes to exclude from hierarchy analysis
+     * @return policy instance
+     */
+    public static HierarchyPruning ignore(final Class<?>... classes) {
+        return classes.length == 0 ? NONE : builder().classes(classes).build();
+    }
+
+    /**
+     * Shortcut for exact classes policy.
+     *
+     * @param classes classes to exclude from hierarchy analysis (may be null)
+     * @return policy instance
+     */
+    public static HierarchyPruning ignore(final Collection<Class<?>> classes) {
+        return classes == null || classes.isEmpty() ? NONE : builder().classes(classes).build();
+    }
+
+    /**
+     * @return policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param type class to check
+     * @return true if type must be excluded from hierarchy analysis
+     */
+    public boolean isPruned(final Class<?> type) {
+        return classes.contains(type) || (decisions != null && decisions.get(type));
+    }
+
+    /**
+     * @return true if policy does not prune anything
+     */
+    public boolean isEmpty() {
+        return decisions == null && classes.isEmpty();
+    }
+
+    /**
+     * @return exactly pruned classes
+     */
+    public Class<?>[] getClasses() {
+        return classes.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * @return pruned packages (including sub packages)
+     */
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(packages);
+    }
+
+    /**
+     * @return marker annotations of pruned types
+     */
+    public Set<Class<? extends Annotation>> getAnnotations() {
+        return Collections.unmodifiableSet(annotations);
+    }
+
+    /**
+     * @return custom predicate or null
+     */
+    public Predicate<Class<?>> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HierarchyPruning)) {
+            return false;
+        }
+        final HierarchyPruning that = (HierarchyPruning) o;
+        return classes.equals(that.classes) && packages.equals(that.packages)
+                && annotations.equals(that.annotations) && Objects.equals(predicate, that.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classes, packages, annotations, predicate);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder res = new StringBuilder("pruning[");
+        if (!classes.isEmpty()) {
+            res.append("classes=").append(
+                    TypeToStringUtils.toStringTypes(getClasses(), EmptyGenericsMap.getInstance())).append(' ');
+        }
+        if (!packages.isEmpty()) {
+            res.append("packages=").append(packages).append(' ');
+        }
+        if (!annotations.isEmpty()) {
+            res.append("annotations=").append(
+                    TypeToStringUtils.toStringTypes(annotations.toArray(new Class<?>[0]),
+                            EmptyGenericsMap.getInstance())).append(' ');
+        }
+        if (predicate != null) {
+            res.append("predicate=").append(predicate).append(' ');
+        }
+        return res.toString().trim() + "]";
+    }
+
+    private boolean matches(final Class<?> type) {
+        final String name = type.getName();
+        for (String pkg : packages) {
+            if (name.startsWith(pkg) && (name.length() == pkg.length()
+                    || name.charAt(pkg.length()) == '.' || name.charAt(pkg.length()) == '$')) {
+                return true;
+            }
+        }
+        for (Class<? extends Annotation> marker : annotations) {
+            if (type.isAnnotationPresent(marker)) {
+                return true;
+            }
+        }
+        return predicate != null && predicate.test(type);
+    }
+
+    /**
+     * {@link HierarchyPruning} builder. Rules are combined with OR.
+     */
+    public static final class Builder {
+        private final Set<Class<?>> classes = new LinkedHashSet<>();
+        private final Set<String> packages = new LinkedHashSet<>();
+        private final Set<Class<? extends Annotation>> annotations = new LinkedHashSet<>();
+        private Predicate<Class<?>> predicate;
+
+        private Builder() {
+        }
+
+        /**
+         * @param classes classes to exclude from hierarchy analysis
+         * @return builder instance for chained calls
+         */
+        public Builder classes(final Class<?>... classes) {
+            return classes(Arrays.asList(classes));
+        }
+
+        /**
+         * @param classes classes to exclude from hierarchy analysis
+         * @return builder instance for chained calls
+         */
+        public Builder classes(final Collection<Class<?>> classes) {
+            this.classes.addAll(classes);
+            return this;
+        }
+
+        /**
+         * Package name could end with ".*" (e.g. "groovy.lang.*" is the same as "groovy.lang"). Full class name
+         * could also be used (e.g. "java.io.Serializable" excludes class itself and its nested classes), but prefer
+         * {@link #classes(Class[])} when class is accessible (exact classes are checked faster).
+         *
+         * @param packages packages (including sub packages) or class names to exclude from hierarchy analysis
+         * @return builder instance for chained calls
+         */
+        public Builder packages(final String... packages) {
+            for (String pkg : packages) {
+                final String name = pkg.endsWith(".*") ? pkg.substring(0, pkg.length() - 2) : pkg;
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Empty package name");
+                }
+                this.packages.add(name);
+            }
+            return this;
+        }
+
+        /**
+         * Annotation must be available at runtime. Inherited annotations are also recognized.
+         *
+         * @param annotations marker annotations of types to exclude from hierarchy analysis
+         * @return builder instance for chained calls
+         */
+        @SafeVarargs
+        public final Builder annotations(final Class<? extends Annotation>... annotations) {
+            // no Arrays.asList to avoid passing generic varargs array
+            for (Class<? extends Annotation> annotation : annotations) {
+                this.annotations.add(annotation);
+            }
+            return this;
+        }
+
+        /**
+         * Predicate must be thread safe and always return the same result for the same class (decisions are
+         * memoized). If predicate was already set, it's combined with provided predicate using OR.
+         *
+         * @param predicate custom rule (true to exclude type from hierarchy analysis)
+         * @return builder instance for chained calls
+         */
+        public Builder predicate(final Predicate<Class<?>> predicate) {
+            this.predicate = this.predicate == null ? predicate : this.predicate.or(predicate);
+            return this;
+        }
+
+        /**
+         * @return policy instance
+         */
+        public HierarchyPruning build() {
+            return classes.isEmpty() && packages.isEmpty() && annotations.isEmpty() && predicate == null ? NONE
+                    : new HierarchyPruning(new LinkedHashSet<>(classes), new LinkedHashSet<>(packages),
+                    new LinkedHashSet<>(annotations), predicate);
+        }
+    }
+}
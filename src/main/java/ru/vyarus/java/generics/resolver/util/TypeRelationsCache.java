@@ -0,0 +1,334 @@
+package ru.vyarus.java.generics.resolver.util;
+
+import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
+import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
+import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional memo of types relations, computed by {@link TypeUtils#isAssignable(Type, Type)},
+ * {@link TypeUtils#isMoreSpecific(Type, Type)} (and {@link TypeUtils#isMoreSpecificOrEqual(Type, Type)}) and
+ * {@link TypeUtils#isCompatible(Type, Type)}. Useful when the same types pairs are checked many times (e.g. event
+ * listeners matching).
+ * <p>
+ * Memo is disabled by default. Enable it with system property or environment variable:
+ * {@code ru.vyarus.java.generics.resolver.util.TypeRelationsCache.maxSize=10000} or from code with
+ * {@link #enable(int)}. Memo is bounded: when it grows above maximum size it is cleared.
+ * <p>
+ * Only pairs of types with reliable equality are cached: classes, types created by JDK reflection and types
+ * created by library (without {@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType}, which
+ * hold instances). For other types relation is always computed. Incompatible types errors
+ * ({@link ru.vyarus.java.generics.resolver.error.IncompatibleTypesException}) are not cached.
+ * <p>
+ * Memo is also cleared with {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory#clearCache()}.
+ * <p>
+ * Relations are stored in partition of the youngest class loader of types classes (see
+ * {@link ClassLoaderPartitions}), so memo does not prevent class loader unloading. Relations of types with
+ * classes of unrelated class loaders are not cached.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+@SuppressWarnings("PMD.AvoidUsingVolatile")
+public final class TypeRelationsCache {
+
+    /**
+     * System property or environment variable name to enable memo with maximum size.
+     */
+    public static final String MAX_SIZE_PROPERTY = TypeRelationsCache.class.getName() + ".maxSize";
+
+    /**
+     * {@link TypeUtils#isAssignable(Type, Type)} relation.
+     */
+    static final int ASSIGNABLE = 0;
+    /**
+     * {@link TypeUtils#isCompatible(Type, Type)} relation.
+     */
+    static final int COMPATIBLE = 1;
+    /**
+     * {@link TypeUtils#isMoreSpecific(Type, Type)} relation (result is a combination of {@link #MORE_SPECIFIC}
+     * and {@link #EQUAL} flags).
+     */
+    static final int SPECIFIC = 2;
+
+    /**
+     * Relation result: not cached.
+     */
+    static final int UNKNOWN = -1;
+    /**
+     * Relation result: false.
+     */
+    static final int FALSE = 0;
+    /**
+     * Relation result: true (or more specific flag).
+     */
+    static final int TRUE = 1;
+    static final int MORE_SPECIFIC = TRUE;
+    static final int EQUAL = 2;
+
+    private static final ClassLoaderPartitions<ConcurrentMap<Key, Integer>> RELATIONS = new ClassLoaderPartitions<>(
+            new ClassLoaderPartitions.Factory<ConcurrentMap<Key, Integer>>() {
+                @Override
+                public ConcurrentMap<Key, Integer> create(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            });
+    // approximate count of cached relations (in all partitions)
+    private static final AtomicInteger SIZE = new AtomicInteger();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static volatile int maxSize = readMaxSize();
+
+    private TypeRelationsCache() {
+    }
+
+    /**
+     * Enable memo (or change maximum size).
+     *
+     * @param maxSize maximum cached relations count (0 to disable memo)
+     * @see #MAX_SIZE_PROPERTY
+     */
+    public static void enable(final int maxSize) {
+        TypeRelationsCache.maxSize = Math.max(0, maxSize);
+        if (maxSize <= 0) {
+            clear();
+        }
+    }
+
+    /**
+     * Disable memo (cached relations removed).
+     */
+    public static void disable() {
+        enable(0);
+    }
+
+    /**
+     * @return true if memo enabled
+     */
+    public static boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Remove all cached relations.
+     */
+    public static void clear() {
+        for (ConcurrentMap<Key, Integer> partition : RELATIONS.all()) {
+            partition.clear();
+        }
+        SIZE.set(0);
+    }
+
+    /**
+     * Counters are collected from application start (not reset on {@link #clear()}).
+     *
+     * @return current memo state and usage counters
+     */
+    public static Stats getStats() {
+        int size = 0;
+        for (ConcurrentMap<Key, Integer> partition : RELATIONS.all()) {
+            size += partition.size();
+        }
+        return new Stats(size, HITS.sum(), MISSES.sum(), EVICTIONS.sum());
+    }
+
+    /**
+     * @param relation relation type
+     * @param one      first type
+     * @param two      second type
+     * @return memo key or null if memo disabled or types can't be cached
+     */
+    static Key key(final int relation, final Type one, final Type two) {
+        if (maxSize > 0 && isCacheable(one) && isCacheable(two)) {
+            final Class<?> owner = ClassLoaderPartitions.owner(one, two);
+            if (owner != null) {
+                return new Key(RELATIONS.get(owner), relation, one, two);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param key memo key (could be null)
+     * @return cached result or {@link #UNKNOWN}
+     */
+    static int get(final Key key) {
+        if (key == null) {
+            return UNKNOWN;
+        }
+        final Integer res = key.partition.get(key);
+        if (res == null) {
+            MISSES.increment();
+            return UNKNOWN;
+        }
+        HITS.increment();
+        return res;
+    }
+
+    /**
+     * @param key    memo key (could be null)
+     * @param result relation result
+     */
+    static void put(final Key key, final int result) {
+        if (key != null) {
+            final int size = SIZE.get();
+            if (size >= maxSize) {
+                EVICTIONS.add(size);
+                clear();
+            }
+            if (key.partition.put(key, result) == null) {
+                SIZE.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Instance types are equal to usual types, but hold instances which must not be cached. Custom types
+     * implementations could have unreliable equality.
+     *
+     * @param type type to check
+     * @return true if type could be used as key, false otherwise
+     */
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static boolean isCacheable(final Type type) {
+        final Class<?> cls = type.getClass();
+        boolean res = false;
+        // classes and types created by JDK (reflection)
+        if (type instanceof Class || cls.getClassLoader() == null
+                || type instanceof ExplicitTypeVariable || TypesInterner.isCanonical(type)) {
+            res = true;
+        } else if (cls == ParameterizedTypeImpl.class) {
+            final ParameterizedType param = (ParameterizedType) type;
+            res = (param.getOwnerType() == null || isCacheable(param.getOwnerType()))
+                    && isCacheable(TypesInterner.arguments(param));
+        } else if (cls == WildcardTypeImpl.class) {
+            final WildcardType wildcard = (WildcardType) type;
+            res = isCacheable(TypesInterner.upperBounds(wildcard))
+                    && isCacheable(TypesInterner.lowerBounds(wildcard));
+        } else if (cls == GenericArrayTypeImpl.class) {
+            res = isCacheable(((GenericArrayTypeImpl) type).getGenericComponentType());
+        }
+        return res;
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static boolean isCacheable(final Type[] types) {
+        for (Type type : types) {
+            if (!isCacheable(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readMaxSize() {
+        String value = System.getProperty(MAX_SIZE_PROPERTY);
+        if (value == null) {
+            value = System.getenv(MAX_SIZE_PROPERTY);
+        }
+        if (value == null || value.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException(String.format("Invalid %s value: '%s'", MAX_SIZE_PROPERTY, value), ex);
+        }
+    }
+
+    /**
+     * Memo key: relation type and types pair (order is important).
+     */
+    static final class Key {
+        // partition of types class loader (not a part of key)
+        private final ConcurrentMap<Key, Integer> partition;
+        private final int relation;
+        private final Type one;
+        private final Type two;
+        private final int hash;
+
+        Key(final ConcurrentMap<Key, Integer> partition, final int relation, final Type one, final Type two) {
+            this.partition = partition;
+            this.relation = relation;
+            this.one = one;
+            this.two = two;
+            this.hash = 31 * (31 * relation + one.hashCode()) + two.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            boolean res = this == o;
+            if (!res && o instanceof Key) {
+                final Key key = (Key) o;
+                res = relation == key.relation && hash == key.hash && one.equals(key.one) && two.equals(key.two);
+            }
+            return res;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Relations memo state snapshot.
+     */
+    public static final class Stats {
+        private final int size;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        Stats(final int size, final long hits, final long misses, final long evictions) {
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        /**
+         * @return cached relations count
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return count of relations, obtained from memo
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return count of memo lookups without cached relation (only cacheable types are counted)
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return count of relations, removed from memo due to size limit
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("size=%s, hits=%s, misses=%s, evictions=%s", size, hits, misses, evictions);
+        }
+    }
+}
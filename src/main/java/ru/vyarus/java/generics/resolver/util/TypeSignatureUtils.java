@@ -0,0 +1,272 @@
+package ru.vyarus.java.generics.resolver.util;
+
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
+import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stable (JDK independent) textual representation of types, used to store types symbolically and to detect class
+ * declaration changes (precomputed generics metadata and descriptors snapshot).
+ * <p>
+ * Format: class name for classes ({@link Class#getName()}, e.g. {@code java.util.Map$Entry}), {@code []} suffix
+ * for arrays (e.g. {@code int[]}, {@code java.util.List<java.lang.String>[]}), arguments in angle brackets for
+ * parameterized types (e.g. {@code java.util.Map<java.lang.String,java.lang.Integer>}), wildcards as
+ * {@code ?}, {@code ? extends A&B} or {@code ? super A} and type variables by name. There are no spaces, except
+ * wildcard keywords. Owner type of parameterized type is not rendered (for parsed types owner is always a declaring
+ * class).
+ * <p>
+ * Class signature ({@link #toClassSignature(Class)}) contains class type variables with bounds, generic super
+ * class and interfaces (and outer class signature for inner classes), so any change in class generics declaration
+ * changes signature.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public final class TypeSignatureUtils {
+
+    private static final String WILDCARD = "?";
+    private static final String EXTENDS = " extends ";
+    private static final String SUPER = " super ";
+    private static final String ARRAY = "[]";
+    private static final String DELIMITERS = "<>,&[] ";
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class, void.class}) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    private TypeSignatureUtils() {
+    }
+
+    /**
+     * Types, not supported by format (e.g. {@link ru.vyarus.java.generics.resolver.context.container
+     * .ExplicitTypeVariable}) are rendered with {@link Object#toString()}.
+     *
+     * @param type type to render
+     * @return type signature
+     */
+    public static String toSignature(final Type type) {
+        final StringBuilder res = new StringBuilder();
+        render(type, res);
+        return res.toString();
+    }
+
+    /**
+     * @param type class
+     * @return class declaration signature (generics, super class and interfaces)
+     */
+    public static String toClassSignature(final Class<?> type) {
+        final StringBuilder res = new StringBuilder(type.getName()).append('<');
+        final TypeVariable<?>[] vars = ClassMetadata.sharedTypeParameters(type);
+        for (int i = 0; i < vars.length; i++) {
+            if (i > 0) {
+                res.append(',');
+            }
+            res.append(vars[i].getName()).append(':');
+            renderAll(vars[i].getBounds(), '&', res);
+        }
+        res.append(">:");
+        if (ClassMetadata.genericSuperclass(type) != null) {
+            render(ClassMetadata.genericSuperclass(type), res);
+        }
+        res.append(':');
+        renderAll(ClassMetadata.sharedGenericInterfaces(type), ',', res);
+        final Type outer = TypeUtils.getOuter(type);
+        if (outer != null) {
+            res.append('$').append(toClassSignature((Class<?>) outer));
+        }
+        return res.toString();
+    }
+
+    /**
+     * 64-bit FNV-1a hash (of string characters). Used as compact signature checksum.
+     *
+     * @param value value to hash
+     * @return hash
+     */
+    public static long hash(final CharSequence value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            hash = (hash ^ (ch & BYTE_MASK)) * FNV_PRIME;
+            hash = (hash ^ (ch >>> Byte.SIZE)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Parse type signature (produced by {@link #toSignature(Type)}). Type variables are not supported.
+     * Parsed parameterized types, wildcards and generic arrays are interned.
+     *
+     * @param signature type signature
+     * @param loader    class loader to load classes with
+     * @return parsed type
+     * @throws ClassNotFoundException   if class is not found
+     * @throws IllegalArgumentException if signature is malformed
+     */
+    public static Type parse(final String signature, final ClassLoader loader) throws ClassNotFoundException {
+        final Parser parser = new Parser(signature, loader);
+        final Type res = parser.type();
+        if (parser.pos != signature.length()) {
+            throw parser.error();
+        }
+        return res;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static void render(final Type type, final StringBuilder res) {
+        if (type instanceof Class) {
+            final Class<?> cls = (Class<?>) type;
+            if (cls.isArray()) {
+                render(cls.getComponentType(), res);
+                res.append(ARRAY);
+            } else {
+                res.append(cls.getName());
+            }
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType param = (ParameterizedType) type;
+            render(param.getRawType(), res);
+            res.append('<');
+            renderAll(TypesInterner.arguments(param), ',', res);
+            res.append('>');
+        } else if (type instanceof WildcardType) {
+            final WildcardType wildcard = (WildcardType) type;
+            final Type[] upper = TypesInterner.upperBounds(wildcard);
+            final Type[] lower = TypesInterner.lowerBounds(wildcard);
+            res.append(WILDCARD);
+            if (upper.length > 0 && !(upper.length == 1 && upper[0] == Object.class)) {
+                res.append(EXTENDS);
+                renderAll(upper, '&', res);
+            }
+            if (lower.length > 0) {
+                res.append(SUPER);
+                renderAll(lower, '&', res);
+            }
+        } else if (type instanceof GenericArrayType) {
+            render(((GenericArrayType) type).getGenericComponentType(), res);
+            res.append(ARRAY);
+        } else if (type instanceof TypeVariable) {
+            res.append(((TypeVariable) type).getName());
+        } else {
+            res.append(type);
+        }
+    }
+
+    private static void renderAll(final Type[] types, final char separator, final StringBuilder res) {
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                res.append(separator);
+            }
+            render(types[i], res);
+        }
+    }
+
+    /**
+     * Recursive descent parser of type signature.
+     */
+    private static final class Parser {
+        private final String value;
+        private final ClassLoader loader;
+        private int pos;
+
+        Parser(final String value, final ClassLoader loader) {
+            this.value = value;
+            this.loader = loader;
+        }
+
+        Type type() throws ClassNotFoundException {
+            Type res;
+            if (value.startsWith(WILDCARD, pos)) {
+                pos += WILDCARD.length();
+                res = wildcard();
+            } else {
+                final Class<?> raw = load(name());
+                if (accept("<")) {
+                    final List<Type> args = list(',');
+                    expect(">");
+                    res = TypesInterner.intern(new ParameterizedTypeImpl(raw,
+                            args.toArray(new Type[0]), raw.getDeclaringClass()));
+                } else {
+                    res = raw;
+                }
+            }
+            while (accept(ARRAY)) {
+                res = ArrayTypeUtils.toArrayType(res);
+            }
+            return res;
+        }
+
+        IllegalArgumentException error() {
+            return new IllegalArgumentException(String.format(
+                    "Malformed type signature at position %s: %s", pos, value));
+        }
+
+        private Type wildcard() throws ClassNotFoundException {
+            Type[] upper = new Type[]{Object.class};
+            Type[] lower = new Type[0];
+            if (accept(EXTENDS)) {
+                upper = list('&').toArray(new Type[0]);
+            }
+            if (accept(SUPER)) {
+                lower = list('&').toArray(new Type[0]);
+            }
+            return TypesInterner.intern(new WildcardTypeImpl(upper, lower));
+        }
+
+        private List<Type> list(final char separator) throws ClassNotFoundException {
+            final List<Type> res = new ArrayList<>();
+            do {
+                res.add(type());
+            } while (accept(String.valueOf(separator)));
+            return res;
+        }
+
+        private String name() {
+            final int start = pos;
+            while (pos < value.length() && DELIMITERS.indexOf(value.charAt(pos)) < 0) {
+                pos++;
+            }
+            if (pos == start) {
+                throw error();
+            }
+            return value.substring(start, pos);
+        }
+
+        private boolean accept(final String token) {
+            final boolean res = value.startsWith(token, pos);
+            if (res) {
+                pos += token.length();
+            }
+            return res;
+        }
+
+        private void expect(final String token) {
+            if (!accept(token)) {
+                throw error();
+            }
+        }
+
+        private Class<?> load(final String name) throws ClassNotFoundException {
+            final Class<?> res = PRIMITIVES.get(name);
+            return res != null ? res : Class.forName(name, false, loader);
+        }
+    }
+}
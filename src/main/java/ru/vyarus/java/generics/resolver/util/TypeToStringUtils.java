@@ -2,11 +2,13 @@ package ru.vyarus.java.generics.resolver.util;
 
 import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.PrintableGenericsMap;
 
+import java.io.IOException;
 import java.lang.reflect.*;
 import java.util.Map;
 
@@ -21,6 +23,17 @@ public final class TypeToStringUtils {
     private static final String COMMA_SEPARATOR = ", ";
     private static final String HASH = "#";
     private static final String DOT = ".";
+    private static final String ARRAY = "[]";
+    private static final String OBJECT = "Object";
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // class rendering is not cheap for inner and anonymous classes
+    private static final ClassValue<String> CLASS_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return processClass(type);
+        }
+    };
 
     private TypeToStringUtils() {
     }
@@ -77,26 +90,60 @@ public final class TypeToStringUtils {
      * @see #toStringType(Type) shortcut for types without variables
      */
     public static String toStringType(final Type type, final Map<String, Type> generics) {
-        final String res;
+        // class names are cached
+        return type instanceof Class ? CLASS_NAMES.get((Class<?>) type)
+                : appendType(new StringBuilder(DEFAULT_CAPACITY), type, generics).toString();
+    }
+
+    /**
+     * Same as {@link #toStringType(Type, Map)}, but appends type string to provided builder (without intermediate
+     * strings).
+     *
+     * @param res      builder to append type to
+     * @param type     type to convert to string
+     * @param generics type class generics type
+     * @return provided builder
+     * @throws UnknownGenericException when found generic not declared on type (e.g. method generic)
+     */
+    public static StringBuilder appendType(final StringBuilder res, final Type type, final Map<String, Type> generics) {
         if (type instanceof Class) {
-            res = processClass((Class) type);
+            res.append(CLASS_NAMES.get((Class<?>) type));
         } else if (type instanceof ParameterizedType) {
-            res = processParametrizedType((ParameterizedType) type, generics);
+            appendParametrizedType(res, (ParameterizedType) type, generics);
         } else if (type instanceof GenericArrayType) {
-            res = toStringType(((GenericArrayType) type).getGenericComponentType(), generics) + "[]";
+            appendType(res, ((GenericArrayType) type).getGenericComponentType(), generics).append(ARRAY);
         } else if (type instanceof WildcardType) {
-            res = processWildcardType((WildcardType) type, generics);
+            appendWildcardType(res, (WildcardType) type, generics);
         } else if (type instanceof ExplicitTypeVariable) {
             // print generic name (only when PrintableGenericsMap used)
-            res = type.toString();
+            res.append(type.toString());
         } else {
             // deep generics nesting case
             // when PrintableGenericsMap used and generics is not known, will print generic name (see above)
-            res = toStringType(declaredGeneric((TypeVariable) type, generics), generics);
+            appendType(res, declaredGeneric((TypeVariable) type, generics), generics);
         }
         return res;
     }
 
+    /**
+     * Same as {@link #toStringType(Type, Map)}, but appends type string to provided output. When output is
+     * {@link StringBuilder}, type is rendered directly into it.
+     *
+     * @param out      output to append type to
+     * @param type     type to convert to string
+     * @param generics type class generics type
+     * @throws IOException             on output error
+     * @throws UnknownGenericException when found generic not declared on type (e.g. method generic)
+     */
+    public static void appendType(final Appendable out, final Type type, final Map<String, Type> generics)
+            throws IOException {
+        if (out instanceof StringBuilder) {
+            appendType((StringBuilder) out, type, generics);
+        } else {
+            out.append(toStringType(type, generics));
+        }
+    }
+
     /**
      * Print class with generic variables. For example, {@code List<T>}.
      *
@@ -104,7 +151,19 @@ public final class TypeToStringUtils {
      * @return string containing class and it's declared generics
      */
     public static String toStringWithNamedGenerics(final Class<?> type) {
-        return toStringType(new ParameterizedTypeImpl(type, type.getTypeParameters()), new PrintableGenericsMap());
+        return appendWithNamedGenerics(new StringBuilder(DEFAULT_CAPACITY), type).toString();
+    }
+
+    /**
+     * Same as {@link #toStringWithNamedGenerics(Class)}, but appends to provided builder.
+     *
+     * @param res  builder to append type to
+     * @param type class to print
+     * @return provided builder
+     */
+    public static StringBuilder appendWithNamedGenerics(final StringBuilder res, final Class<?> type) {
+        return appendType(res, new ParameterizedTypeImpl(type, ClassMetadata.sharedTypeParameters(type)),
+                new PrintableGenericsMap());
     }
 
     /**
@@ -120,9 +179,36 @@ public final class TypeToStringUtils {
      * @see ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap to print Object instead of not known generic
      */
     public static String toStringWithGenerics(final Class<?> type, final Map<String, Type> generics) {
+        return appendWithGenerics(new StringBuilder(DEFAULT_CAPACITY), type, generics).toString();
+    }
+
+    /**
+     * Same as {@link #toStringWithGenerics(Class, Map)}, but appends to provided builder.
+     *
+     * @param res      builder to append type to
+     * @param type     class class to print with generics
+     * @param generics known generics map class generics map
+     * @return provided builder
+     */
+    public static StringBuilder appendWithGenerics(final StringBuilder res,
+                                                   final Class<?> type,
+                                                   final Map<String, Type> generics) {
         // provided generics may contain outer type generics, but we will render only required generics
         final Map<String, Type> actual = GenericsUtils.extractTypeGenerics(type, generics);
-        return toStringType(new ParameterizedTypeImpl(type, actual.values().toArray(new Type[0])), actual);
+        res.append(CLASS_NAMES.get(type));
+        if (!actual.isEmpty()) {
+            final int start = res.append('<').length();
+            boolean first = true;
+            for (Type arg : actual.values()) {
+                if (!first) {
+                    res.append(COMMA_SEPARATOR);
+                }
+                appendType(res, arg, actual);
+                first = false;
+            }
+            closeArguments(res, start);
+        }
+        return res;
     }
 
     /**
@@ -164,16 +250,30 @@ public final class TypeToStringUtils {
             // only one argument
             res = toStringType(types[0], generics);
         } else {
-            final StringBuilder buf = new StringBuilder(types.length * 20);
-            boolean first = true;
-            for (Type type : types) {
-                if (!first) {
-                    buf.append(separator);
-                }
-                buf.append(toStringType(type, generics));
-                first = false;
+            res = appendTypes(new StringBuilder(types.length * 20), types, separator, generics).toString();
+        }
+        return res;
+    }
+
+    /**
+     * Same as {@link #toStringTypes(Type[], String, Map)}, but appends to provided builder.
+     *
+     * @param res       builder to append types to
+     * @param types     types to convert to string
+     * @param separator separator string
+     * @param generics  generics (common for all types)
+     * @return provided builder
+     * @throws UnknownGenericException when found generic not declared on type (e.g. method generic)
+     */
+    public static StringBuilder appendTypes(final StringBuilder res,
+                                            final Type[] types,
+                                            final String separator,
+                                            final Map<String, Type> generics) {
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                res.append(separator);
             }
-            res = buf.toString();
+            appendType(res, types[i], generics);
         }
         return res;
     }
@@ -196,10 +296,22 @@ public final class TypeToStringUtils {
      * @see ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap to print Object instead of not known generic
      */
     public static String toStringMethod(final Method method, final Map<String, Type> generics) {
-        return String.format("%s %s(%s)",
-                toStringType(method.getGenericReturnType(), generics),
-                method.getName(),
-                toStringTypes(method.getGenericParameterTypes(), generics));
+        return appendMethod(new StringBuilder(DEFAULT_CAPACITY), method, generics).toString();
+    }
+
+    /**
+     * Same as {@link #toStringMethod(Method, Map)}, but appends to provided builder.
+     *
+     * @param res      builder to append method to
+     * @param method   method
+     * @param generics required generics (type generics and possible method generics)
+     * @return provided builder
+     */
+    public static StringBuilder appendMethod(final StringBuilder res,
+                                             final Method method,
+                                             final Map<String, Type> generics) {
+        appendType(res, method.getGenericReturnType(), generics).append(' ').append(method.getName()).append('(');
+        return appendTypes(res, method.getGenericParameterTypes(), COMMA_SEPARATOR, generics).append(')');
     }
 
     /**
@@ -220,9 +332,22 @@ public final class TypeToStringUtils {
      * @see ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap to print Object instead of not known generic
      */
     public static String toStringConstructor(final Constructor constructor, final Map<String, Type> generics) {
-        return String.format("%s(%s)",
-                toStringType(constructor.getDeclaringClass()),
-                toStringTypes(constructor.getGenericParameterTypes(), generics));
+        return appendConstructor(new StringBuilder(DEFAULT_CAPACITY), constructor, generics).toString();
+    }
+
+    /**
+     * Same as {@link #toStringConstructor(Constructor, Map)}, but appends to provided builder.
+     *
+     * @param res         builder to append constructor to
+     * @param constructor constructor
+     * @param generics    required generics (type generics and possible constructor generics)
+     * @return provided builder
+     */
+    public static StringBuilder appendConstructor(final StringBuilder res,
+                                                  final Constructor constructor,
+                                                  final Map<String, Type> generics) {
+        res.append(CLASS_NAMES.get(constructor.getDeclaringClass())).append('(');
+        return appendTypes(res, constructor.getGenericParameterTypes(), COMMA_SEPARATOR, generics).append(')');
     }
 
     /**
@@ -296,13 +421,13 @@ public final class TypeToStringUtils {
      * @return to string class representation
      */
     @SuppressWarnings("PMD.UseStringBufferForStringAppends")
-    private static String processClass(final Class clazz) {
+    private static String processClass(final Class<?> clazz) {
         String res;
         // simpleName on anonymous class is empty string
         // simpleName on inner class is not informative at all
-        if (clazz.getEnclosingClass() != null) {
+        if (ClassMetadata.enclosingClass(clazz) != null) {
             // for a chain of inner classes
-            res = processClass(clazz.getEnclosingClass());
+            res = CLASS_NAMES.get(ClassMetadata.enclosingClass(clazz));
             try {
                 if (clazz.getEnclosingConstructor() != null) {
                     res += HASH + toStringConstructor(clazz.getEnclosingConstructor(), IgnoreGenericsMap.getInstance());
@@ -314,8 +439,9 @@ public final class TypeToStringUtils {
             }
             if (clazz.isAnonymousClass()) {
                 // show root class instead of unhelpful $1 for anonymous class
-                res += "$" + (clazz.getSuperclass() == Object.class && clazz.getInterfaces().length > 0
-                        ? clazz.getInterfaces()[0].getSimpleName() : clazz.getSuperclass().getSimpleName());
+                final Class<?>[] ifaces = ClassMetadata.sharedInterfaces(clazz);
+                res += "$" + (clazz.getSuperclass() == Object.class && ifaces.length > 0
+                        ? ifaces[0].getSimpleName() : clazz.getSuperclass().getSimpleName());
             } else {
                 // inner class itself
                 res += DOT + clazz.getSimpleName();
@@ -326,38 +452,68 @@ public final class TypeToStringUtils {
         return res;
     }
 
-    private static String processParametrizedType(final ParameterizedType parametrized,
-                                                  final Map<String, Type> generics) {
-        final StringBuilder res = new StringBuilder(50);
-        res.append(toStringType(parametrized.getRawType(), generics));
-        final Type[] args = parametrized.getActualTypeArguments();
+    private static void appendParametrizedType(final StringBuilder res,
+                                               final ParameterizedType parametrized,
+                                               final Map<String, Type> generics) {
+        final int start = res.length();
+        appendType(res, parametrized.getRawType(), generics);
+        final Type[] args = TypesInterner.arguments(parametrized);
         if (args.length > 0) {
-            final String params = toStringTypes(args, generics);
-            // do not print absent parametrization (it can't be checked before toString)
-            if (!params.replace(COMMA_SEPARATOR, "").replace("Object", "").isEmpty()) {
-                res.append('<').append(params).append('>');
-            }
+            final int argsStart = res.append('<').length();
+            appendTypes(res, args, COMMA_SEPARATOR, generics);
+            closeArguments(res, argsStart);
         }
-        final String str = res.toString();
         // important to cover potential owner type generics declaration (Owner<String>.Inner<Integer>)
         // (here we assume only correct types: self-constructed parameterized types may not contain outer generics)
         // note that toStringType will already include outer type, but without generics
         final Type outer = TypeUtils.getOuter(parametrized);
-        return mergeOuterClassGenerics(
-                outer == null ? null : toStringType(outer, new IgnoreGenericsMap(generics)),
-                str);
+        if (outer != null) {
+            final String inner = res.substring(start);
+            res.setLength(start);
+            res.append(mergeOuterClassGenerics(toStringType(outer, new IgnoreGenericsMap(generics)), inner));
+        }
     }
 
-    private static String processWildcardType(final WildcardType wildcard, final Map<String, Type> generics) {
-        final String res;
-        if (wildcard.getLowerBounds().length == 0) {
+    /**
+     * Do not print absent parametrization (it can't be checked before rendering): when all arguments are
+     * {@code Object}, arguments are removed.
+     *
+     * @param res   builder
+     * @param start arguments start position (after opening bracket)
+     */
+    private static void closeArguments(final StringBuilder res, final int start) {
+        // arguments string is only Object tokens after separators removal
+        int matched = 0;
+        int i = start;
+        while (i < res.length()) {
+            if (res.charAt(i) == COMMA_SEPARATOR.charAt(0) && i + 1 < res.length()
+                    && res.charAt(i + 1) == COMMA_SEPARATOR.charAt(1)) {
+                i += COMMA_SEPARATOR.length();
+            } else if (res.charAt(i++) == OBJECT.charAt(matched % OBJECT.length())) {
+                matched++;
+            } else {
+                res.append('>');
+                return;
+            }
+        }
+        if (matched % OBJECT.length() == 0) {
+            res.setLength(start - 1);
+        } else {
+            res.append('>');
+        }
+    }
+
+    private static void appendWildcardType(final StringBuilder res,
+                                           final WildcardType wildcard,
+                                           final Map<String, Type> generics) {
+        final Type[] lower = TypesInterner.lowerBounds(wildcard);
+        if (lower.length == 0) {
             // could be multiple bounds, because of stored named generic bounds (<T extends A & B>)
             // see GenericsResolutionUtils.resolveRawGeneric()
-            res = "? extends " + toStringTypes(wildcard.getUpperBounds(), " & ", generics);
+            appendTypes(res.append("? extends "), TypesInterner.upperBounds(wildcard), " & ", generics);
         } else {
-            res = "? super " + toStringType(wildcard.getLowerBounds()[0], generics);
+            appendType(res.append("? super "), lower[0], generics);
         }
-        return res;
     }
 
     private static Type declaredGeneric(final TypeVariable generic, final Map<String, Type> declarations) {
@@ -1,6 +1,8 @@
 package ru.vyarus.java.generics.resolver.util;
 
 import ru.vyarus.java.generics.resolver.error.IncompatibleTypesException;
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics;
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics;
 import ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory;
 import ru.vyarus.java.generics.resolver.util.type.InstanceTypeFactory;
 import ru.vyarus.java.generics.resolver.util.walk.AssignabilityTypesVisitor;
@@ -74,11 +76,12 @@ public final class TypeUtils {
      * @see ComparatorTypesVisitor for implementation details
      * @see #isCompatible(Type, Type) use for compatibility check (before) to avoid incompatible types exception
      * @see #isMoreSpecificOrEqual(Type, Type) for broader check
+     * @see TypeRelationsCache for optional results memo
      */
     public static boolean isMoreSpecific(final Type what, final Type comparingTo) {
         // assume correct type implementation (for faster check)
         return !what.equals(comparingTo)
-                && doMoreSpecificWalk(what, comparingTo).isMoreSpecific();
+                && (compare(what, comparingTo) & TypeRelationsCache.MORE_SPECIFIC) > 0;
     }
 
     /**
@@ -95,8 +98,8 @@ public final class TypeUtils {
             // assume correct type implementation (for faster check)
             return true;
         }
-        final ComparatorTypesVisitor visitor = doMoreSpecificWalk(what, comparingTo);
-        return visitor.isMoreSpecific() || visitor.isEqual();
+        // more specific or equal
+        return compare(what, comparingTo) > 0;
     }
 
     /**
@@ -123,16 +126,27 @@ public final class TypeUtils {
      * @param toType type to check assignability for
      * @return true if types are equal or type is more specific, false if can't be casted or types incompatible
      * @see AssignabilityTypesVisitor for implementation details
+     * @see TypeRelationsCache for optional results memo
      */
     public static boolean isAssignable(final Type what, final Type toType) {
         if (what.equals(toType)) {
             // assume correct type implementation (for faster check)
             return true;
         }
-        final AssignabilityTypesVisitor visitor = new AssignabilityTypesVisitor();
-        TypesWalker.walk(what, toType, visitor);
-
-        return visitor.isAssignable();
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        final long start = metrics == null ? 0 : System.nanoTime();
+        final TypeRelationsCache.Key key = TypeRelationsCache.key(TypeRelationsCache.ASSIGNABLE, what, toType);
+        int res = TypeRelationsCache.get(key);
+        if (res == TypeRelationsCache.UNKNOWN) {
+            final AssignabilityTypesVisitor visitor = new AssignabilityTypesVisitor();
+            TypesWalker.walk(what, toType, visitor);
+            res = visitor.isAssignable() ? TypeRelationsCache.TRUE : TypeRelationsCache.FALSE;
+            TypeRelationsCache.put(key, res);
+        }
+        if (metrics != null) {
+            metrics.typesRelationChecked(GenericsMetrics.Relation.ASSIGNABLE, System.nanoTime() - start);
+        }
+        return res == TypeRelationsCache.TRUE;
     }
 
     /**
@@ -217,11 +231,23 @@ public final class TypeUtils {
      * @param two second type
      * @return true if types are alignable, false otherwise
      * @see TypesWalker for implementation details
+     * @see TypeRelationsCache for optional results memo
      */
     public static boolean isCompatible(final Type one, final Type two) {
-        final CompatibilityTypesVisitor visitor = new CompatibilityTypesVisitor();
-        TypesWalker.walk(one, two, visitor);
-        return visitor.isCompatible();
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        final long start = metrics == null ? 0 : System.nanoTime();
+        final TypeRelationsCache.Key key = TypeRelationsCache.key(TypeRelationsCache.COMPATIBLE, one, two);
+        int res = TypeRelationsCache.get(key);
+        if (res == TypeRelationsCache.UNKNOWN) {
+            final CompatibilityTypesVisitor visitor = new CompatibilityTypesVisitor();
+            TypesWalker.walk(one, two, visitor);
+            res = visitor.isCompatible() ? TypeRelationsCache.TRUE : TypeRelationsCache.FALSE;
+            TypeRelationsCache.put(key, res);
+        }
+        if (metrics != null) {
+            metrics.typesRelationChecked(GenericsMetrics.Relation.COMPATIBLE, System.nanoTime() - start);
+        }
+        return res == TypeRelationsCache.TRUE;
     }
 
 
@@ -241,7 +267,7 @@ public final class TypeUtils {
         }
         final Class<?> actual = GenericsUtils.resolveClassIgnoringVariables(type);
         // interface is always static and can't use outer generics
-        return !actual.isInterface() && actual.isMemberClass() && !Modifier.isStatic(actual.getModifiers());
+        return ClassMetadata.isInner(actual);
     }
 
     /**
@@ -257,7 +283,7 @@ public final class TypeUtils {
             return ((ParameterizedType) type).getOwnerType();
         }
         return isInner(type)
-                ? GenericsUtils.resolveClassIgnoringVariables(type).getEnclosingClass()
+                ? ClassMetadata.enclosingClass(GenericsUtils.resolveClassIgnoringVariables(type))
                 : null;
     }
 
@@ -292,6 +318,8 @@ public final class TypeUtils {
      * NOTE: returned type will not contain variables ({@link TypeVariable}), even if provided types contain them
      * (all variables are solved to upper bound). For example, {@code List<T extends Number>} will be counted as
      * {@code List<Number>} and {@code Set<N>} as {@code Set<Object>}.
+     * <p>
+     * Resolved common types are cached (see {@link CommonTypeFactory}).
      *
      * @param one first type
      * @param two second type
@@ -355,14 +383,32 @@ public final class TypeUtils {
         return InstanceTypeFactory.build(instances);
     }
 
-    private static ComparatorTypesVisitor doMoreSpecificWalk(final Type what, final Type comparingTo) {
-        final ComparatorTypesVisitor visitor = new ComparatorTypesVisitor();
-        TypesWalker.walk(what, comparingTo, visitor);
+    /**
+     * @param what        type to check
+     * @param comparingTo type to compare to
+     * @return comparison flags ({@link TypeRelationsCache#MORE_SPECIFIC} and {@link TypeRelationsCache#EQUAL})
+     * @throws IncompatibleTypesException when types are not compatible
+     */
+    private static int compare(final Type what, final Type comparingTo) {
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        final long start = metrics == null ? 0 : System.nanoTime();
+        final TypeRelationsCache.Key key = TypeRelationsCache.key(TypeRelationsCache.SPECIFIC, what, comparingTo);
+        int res = TypeRelationsCache.get(key);
+        if (res == TypeRelationsCache.UNKNOWN) {
+            final ComparatorTypesVisitor visitor = new ComparatorTypesVisitor();
+            TypesWalker.walk(what, comparingTo, visitor);
 
-        if (!visitor.isCompatible()) {
-            throw new IncompatibleTypesException("Type %s can't be compared to %s because they are not compatible",
-                    what, comparingTo);
+            if (!visitor.isCompatible()) {
+                throw new IncompatibleTypesException(
+                        "Type %s can't be compared to %s because they are not compatible", what, comparingTo);
+            }
+            res = (visitor.isMoreSpecific() ? TypeRelationsCache.MORE_SPECIFIC : 0)
+                    | (visitor.isEqual() ? TypeRelationsCache.EQUAL : 0);
+            TypeRelationsCache.put(key, res);
+        }
+        if (metrics != null) {
+            metrics.typesRelationChecked(GenericsMetrics.Relation.MORE_SPECIFIC, System.nanoTime() - start);
         }
-        return visitor;
+        return res;
     }
 }
@@ -58,7 +58,7 @@ public final class TypeVariableUtils {
             final List<Class<?>> ignoreClasses) {
         // leave type variables to track where would they go
         final LinkedHashMap<String, Type> rootGenerics = new LinkedHashMap<>();
-        for (TypeVariable var : type.getTypeParameters()) {
+        for (TypeVariable var : ClassMetadata.sharedTypeParameters(type)) {
             // special variables type, known by resolver (no exceptions for unknown generics will be thrown)
             rootGenerics.put(var.getName(), new ExplicitTypeVariable(var));
         }
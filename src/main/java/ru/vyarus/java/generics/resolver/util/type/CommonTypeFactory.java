@@ -1,8 +1,13 @@
 package ru.vyarus.java.generics.resolver.util.type;
 
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics;
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics;
 import ru.vyarus.java.generics.resolver.util.ArrayTypeUtils;
+import ru.vyarus.java.generics.resolver.util.ClassLoaderPartitions;
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
 import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
@@ -15,6 +20,8 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Calculates common (base) type for provided types (maximum type to which both types could be downcasted).
@@ -23,6 +30,12 @@ import java.util.*;
  * reduced type is {@link Number} and full type is {@code ? extends Number & Comparable<Number>}). Full type
  * remains all type information whereas reduced type is simpler in usage (for cases when maximum accuracy is not
  * required).
+ * <p>
+ * Resolved common types are cached (for types composed of classes and interned types, see
+ * {@link TypesInterner}). Cache is bounded with {@link #CACHE_MAX_SIZE} (cleared when grown above) and cleared with
+ * {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory#clearCache()}. Common types are cached in
+ * partition of the youngest class loader of provided types classes (see {@link ClassLoaderPartitions}), so cache
+ * does not prevent class loader unloading.
  *
  * @author Vyacheslav Rusakov
  * @since 22.03.2019
@@ -30,8 +43,21 @@ import java.util.*;
 @SuppressWarnings({"PMD.GodClass", "checkstyle:IllegalIdentifierName", "PMD.LooseCoupling"})
 public final class CommonTypeFactory {
 
+    /**
+     * Maximum count of cached common types (for each interfaces resolution mode and class loader).
+     */
+    public static final int CACHE_MAX_SIZE = 1000;
+
     // specificity comparator (more specific types first)
     private static final Comparator<Type> TYPE_COMPARATOR = Collections.reverseOrder(new TypesComparator());
+    // resolved common types (by class loader)
+    private static final ClassLoaderPartitions<Partition> RESOLVED = new ClassLoaderPartitions<>(
+            new ClassLoaderPartitions.Factory<Partition>() {
+                @Override
+                public Partition create(final Class<?> type) {
+                    return new Partition();
+                }
+            });
 
     private CommonTypeFactory() {
     }
@@ -63,15 +89,58 @@ public final class CommonTypeFactory {
     public static Type build(final Type one,
                              final Type two,
                              final boolean alwaysIncludeInterfaces) {
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        final long start = metrics == null ? 0 : System.nanoTime();
         // get rid of possible variables
         final Type first = cleanupTypeForComparison(one);
         final Type second = cleanupTypeForComparison(two);
 
-        final Type res = buildImpl(first, second, alwaysIncludeInterfaces, new PathsCache());
-        // during resolution wildcard types may be used as temporal placeholders (to prevent cycles)
-        // and after resolution there might be wildcards with only one upper bound
-        // so we need to repackage type to get rid of such wildcards
-        return GenericsUtils.resolveTypeVariables(res, EmptyGenericsMap.getInstance());
+        // types without variables are repackaged into canonical types (if possible)
+        final Class<?> owner = isCacheable(first) && isCacheable(second)
+                ? ClassLoaderPartitions.owner(first, second) : null;
+        final ConcurrentMap<TypesKey, Type> resolved = owner == null ? null
+                : RESOLVED.get(owner).get(alwaysIncludeInterfaces);
+        final TypesKey key = resolved == null ? null : new TypesKey(first, second);
+        Type res = key == null ? null : resolved.get(key);
+        if (res == null) {
+            // paths cache used only for cycles prevention in current resolution
+            res = buildImpl(first, second, alwaysIncludeInterfaces, new PathsCache());
+            // during resolution wildcard types may be used as temporal placeholders (to prevent cycles)
+            // and after resolution there might be wildcards with only one upper bound
+            // so we need to repackage type to get rid of such wildcards
+            res = GenericsUtils.resolveTypeVariables(res, EmptyGenericsMap.getInstance());
+            if (key != null) {
+                if (resolved.size() >= CACHE_MAX_SIZE) {
+                    resolved.clear();
+                }
+                resolved.put(key, res);
+            }
+        }
+        if (metrics != null) {
+            metrics.commonTypeBuilt(System.nanoTime() - start);
+        }
+        return res;
+    }
+
+    /**
+     * Clear resolved common types cache.
+     */
+    public static void clearCache() {
+        for (Partition partition : RESOLVED.all()) {
+            partition.classTypes.clear();
+            partition.fullTypes.clear();
+        }
+    }
+
+    /**
+     * Only classes and canonical types are cached: they are immutable and never hold instances
+     * (as {@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType}).
+     *
+     * @param type type to check
+     * @return true if type could be used as cache key
+     */
+    private static boolean isCacheable(final Type type) {
+        return type instanceof Class || TypesInterner.isCanonical(type);
     }
 
     private static Type buildImpl(final Type first,
@@ -416,9 +485,9 @@ public final class CommonTypeFactory {
                                         final Map<Class<?>, LinkedHashMap<String, Type>> secondContext,
                                         final boolean alwaysIncludeInterfaces,
                                         final PathsCache cache) {
-        final TypeVariable<? extends Class<?>>[] typeParameters = type.getTypeParameters();
-        if (typeParameters.length > 0) {
-            final Type[] params = new Type[typeParameters.length];
+        final List<? extends TypeVariable<?>> typeParameters = ClassMetadata.typeParameters(type);
+        if (!typeParameters.isEmpty()) {
+            final Type[] params = new Type[typeParameters.size()];
             final Map<String, Type> firstGenerics = firstContext.get(type);
             final Map<String, Type> secondGenerics = secondContext.get(type);
             int i = 0;
@@ -513,6 +582,18 @@ public final class CommonTypeFactory {
         }
     }
 
+    /**
+     * Resolved common types of one class loader (separate for interfaces resolution modes).
+     */
+    private static final class Partition {
+        private final ConcurrentMap<TypesKey, Type> classTypes = new ConcurrentHashMap<>();
+        private final ConcurrentMap<TypesKey, Type> fullTypes = new ConcurrentHashMap<>();
+
+        ConcurrentMap<TypesKey, Type> get(final boolean alwaysIncludeInterfaces) {
+            return alwaysIncludeInterfaces ? fullTypes : classTypes;
+        }
+    }
+
     /**
      * Type pair unification object to use as map key.
      */
@@ -673,8 +754,8 @@ public final class CommonTypeFactory {
             }
 
             // type with generics assumed more specific
-            final boolean o1Generics = o1cls.getTypeParameters().length > 0;
-            final boolean o2Generics = o2cls.getTypeParameters().length > 0;
+            final boolean o1Generics = ClassMetadata.hasTypeParameters(o1cls);
+            final boolean o2Generics = ClassMetadata.hasTypeParameters(o2cls);
             if (o1Generics != o2Generics) {
                 return o1Generics ? 1 : -1;
             }
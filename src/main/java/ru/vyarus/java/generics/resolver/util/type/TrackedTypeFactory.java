@@ -1,6 +1,7 @@
 package ru.vyarus.java.generics.resolver.util.type;
 
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
@@ -54,7 +55,7 @@ public final class TrackedTypeFactory {
         } else {
             final Class<?> target = GenericsUtils.resolveClass(type);
             // it make sense to track from direct parameterized type or parameterized types inside wildcard
-            if (target.getTypeParameters().length > 0
+            if (ClassMetadata.hasTypeParameters(target)
                     && (source instanceof ParameterizedType || source instanceof WildcardType)) {
 
                 // select the most specific generics
@@ -2,6 +2,7 @@ package ru.vyarus.java.generics.resolver.util.type;
 
 import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner;
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
 
 import java.lang.reflect.GenericArrayType;
@@ -15,6 +16,9 @@ import java.lang.reflect.WildcardType;
  * <p>
  * Returned types could be easily prettry printed as they all have toString implemented through
  * {@link ru.vyarus.java.generics.resolver.util.TypeToStringUtils}.
+ * <p>
+ * Constructed types are interned (see {@link TypesInterner}): equal declarations return the same instance (unless
+ * type contains {@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType}).
  *
  * @author Vyacheslav Rusakov
  * @since 02.04.2019
@@ -32,7 +36,7 @@ public final class TypeFactory {
      * @return parameterized type
      */
     public static ParameterizedType param(final Class root, final Type... arguments) {
-        return new ParameterizedTypeImpl(root, arguments);
+        return TypesInterner.intern(new ParameterizedTypeImpl(root, arguments));
     }
 
     /**
@@ -45,7 +49,7 @@ public final class TypeFactory {
      * @return generified inner class type
      */
     public static ParameterizedType param(final Class root, final Type[] arguments, final Type owner) {
-        return new ParameterizedTypeImpl(root, arguments, owner);
+        return TypesInterner.intern(new ParameterizedTypeImpl(root, arguments, owner));
     }
 
     /**
@@ -57,7 +61,7 @@ public final class TypeFactory {
      * @return array type for component
      */
     public static GenericArrayType array(final Type type) {
-        return new GenericArrayTypeImpl(type);
+        return TypesInterner.intern(new GenericArrayTypeImpl(type));
     }
 
     /**
@@ -67,7 +71,7 @@ public final class TypeFactory {
      * @return wildcard type
      */
     public static WildcardType upper(final Type... types) {
-        return WildcardTypeImpl.upper(types);
+        return TypesInterner.intern(WildcardTypeImpl.upper(types));
     }
 
     /**
@@ -77,7 +81,7 @@ public final class TypeFactory {
      * @return wildcard type
      */
     public static WildcardType lower(final Type type) {
-        return WildcardTypeImpl.lower(type);
+        return TypesInterner.intern(WildcardTypeImpl.lower(type));
     }
 
     /**
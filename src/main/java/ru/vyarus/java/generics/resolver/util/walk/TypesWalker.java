@@ -1,6 +1,9 @@
 package ru.vyarus.java.generics.resolver.util.walk;
 
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics;
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics;
 import ru.vyarus.java.generics.resolver.util.ArrayTypeUtils;
+import ru.vyarus.java.generics.resolver.util.ClassMetadata;
 import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
@@ -65,6 +68,8 @@ public final class TypesWalker {
      * @param visitor visitor
      */
     public static void walk(final Type one, final Type two, final TypesVisitor visitor) {
+        final GenericsMetrics metrics = ResolverMetrics.get();
+        final long start = metrics == null ? 0 : System.nanoTime();
         // Use possibly more specific generics (otherwise root class generics would be used as Object and this
         // way it could be used as upper bound)
         // Also, types could contain outer class generics declarations, which must be preserved
@@ -80,6 +85,9 @@ public final class TypesWalker {
         // are required only for type context building (on some level to resolve comparable type)
         doWalkOuterClass(GenericsUtils.resolveTypeVariables(one, oneKnownGenerics), oneKnownGenerics,
                 GenericsUtils.resolveTypeVariables(two, twoKnownGenerics), twoKnownGenerics, visitor);
+        if (metrics != null) {
+            metrics.typesWalked(one, two, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -142,7 +150,7 @@ public final class TypesWalker {
             if (oneType.isArray()) {
                 canContinue = doWalk(ArrayTypeUtils.getArrayComponentType(one), oneKnownGenerics,
                         ArrayTypeUtils.getArrayComponentType(two), twoKnownGenerics, visitor);
-            } else if (oneType.getTypeParameters().length > 0 || twoType.getTypeParameters().length > 0) {
+            } else if (ClassMetadata.hasTypeParameters(oneType) || ClassMetadata.hasTypeParameters(twoType)) {
                 // check generics compatibility
                 canContinue = visitGenerics(one, oneType, oneKnownGenerics, two, twoType, twoKnownGenerics, visitor);
             }
@@ -213,7 +221,7 @@ public final class TypesWalker {
         // to avoid redundant checks, first look if same type is declared in parameter
         if (src.isAssignableFrom(GenericsUtils.resolveClass(genericType))) {
             // look if this generic declaration reference itself (Some<T extends Some<T>>)
-            for (TypeVariable var : src.getTypeParameters()) {
+            for (TypeVariable var : ClassMetadata.typeParameters(src)) {
                 if (var.getName().equals(genericName)) {
                     for (Type bound : var.getBounds()) {
                         // declaration through the same type found  (Some<T extends Some>)
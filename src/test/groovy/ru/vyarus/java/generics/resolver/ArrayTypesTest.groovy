@@ -53,4 +53,19 @@ class ArrayTypesTest extends Specification {
         ArrayTypeUtils.toArrayClass(int) == int[]
 
     }
+
+    def "Check array class for custom class loader"() {
+
+        when: "class not visible for library class loader"
+        def type = new GroovyClassLoader().parseClass('class DynamicArrayComponent {}')
+        then: "array class resolved"
+        ArrayTypeUtils.toArrayClass(type).componentType == type
+        ArrayTypeUtils.toArrayClass(type).is(ArrayTypeUtils.toArrayClass(type))
+
+        when: "array of void"
+        ArrayTypeUtils.toArrayClass(void)
+        then: "not allowed"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Failed to create array class for void"
+    }
 }
@@ -1,14 +1,46 @@
 package ru.vyarus.java.generics.resolver
 
+import ru.vyarus.java.generics.resolver.context.GenericsContext
 import ru.vyarus.java.generics.resolver.context.GenericsInfo
 import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.context.GenericsSnapshot
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner
+import ru.vyarus.java.generics.resolver.cases.order.EnormousCase
+import ru.vyarus.java.generics.resolver.error.GenericsResolutionException
+import ru.vyarus.java.generics.resolver.support.Lvl2Base1
 import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.support.array.ArRoot
+import ru.vyarus.java.generics.resolver.support.loader.LoaderBean
+import ru.vyarus.java.generics.resolver.support.loader.LoaderPredicate
+import ru.vyarus.java.generics.resolver.support.nestedtype.direct.BadRoot
+import ru.vyarus.java.generics.resolver.support.nestedtype.direct.Direct
+import ru.vyarus.java.generics.resolver.support.noclash.NoClashRoot
+import ru.vyarus.java.generics.resolver.support.wildcard.WCRoot
+import ru.vyarus.java.generics.resolver.util.GenericInfoUtils
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
+import ru.vyarus.java.generics.resolver.util.HierarchyPruning
+import ru.vyarus.java.generics.resolver.util.TypeRelationsCache
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import groovy.transform.CompileStatic
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.lang.ref.WeakReference
+import java.lang.reflect.Type
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
 import java.util.concurrent.Future
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.function.Predicate
 
 /**
  * @author Vyacheslav Rusakov 
@@ -51,31 +83,515 @@ class CacheTest extends Specification {
         true
     }
 
+    def "Check descriptor computed once per class"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        List<Class> types = [ArrayList, LinkedList, HashMap, TreeMap, HashSet, TreeSet, Root]
+
+        when: "Resolve different classes in 20 threads"
+        List<Future<List<GenericsInfo>>> executed = []
+        20.times({
+            executed << executor.submit({
+                types.collect { GenericsInfoFactory.create(it) }
+            } as Callable<List<GenericsInfo>>)
+        })
+        List<List<GenericsInfo>> results = executed.collect { it.get() }
+        then: "All threads received the same descriptors"
+        results.every { res -> (0..<types.size()).every { res[it].is(results[0][it]) } }
+        results[0].collect { it.rootClass } == types
+    }
+
     def "Check cache methods"() {
 
         when: "clear current cache state"
-        def field = GenericsInfoFactory.getDeclaredField("CACHE")
-        field.setAccessible(true)
-        Map cache = field.get(null)
+        GenericsResolver.resolve(Root)
         then:
-        !cache.isEmpty()
+        GenericsInfoFactory.cacheStats.size > 0
         GenericsInfoFactory.isCacheEnabled()
         GenericsInfoFactory.clearCache()
         GenericsInfoFactory.isCacheEnabled()
-        cache.isEmpty()
+        GenericsInfoFactory.cacheStats.size == 0
+        GenericsInfoFactory.cacheStats.weight == 0
 
         when: "disabling cache"
         GenericsInfoFactory.disableCache()
         then:
-        cache.isEmpty()
+        GenericsInfoFactory.cacheStats.size == 0
         !GenericsInfoFactory.isCacheEnabled()
 
         when: "creating descriptor with cache disabled"
         GenericsResolver.resolve(Root)
         then:
-        cache.isEmpty()
+        GenericsInfoFactory.cacheStats.size == 0
 
        cleanup:
        System.setProperty(GenericsInfoFactory.CACHE_PROPERTY, "true")
     }
-}
\ No newline at end of file
+
+    def "Check cache size limit"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        GenericsInfoFactory.limitCacheSize(5)
+        long evictions = GenericsInfoFactory.cacheStats.evictions
+
+        when: "resolving more classes than allowed"
+        GenericsInfo root = GenericsInfoFactory.create(Root)
+        // frequently used
+        5.times { GenericsInfoFactory.create(Root) }
+        [ArrayList, LinkedList, HashMap, TreeMap, HashSet, TreeSet, ArrayDeque, Vector].each {
+            GenericsInfoFactory.create(it)
+        }
+        then: "cache limited"
+        GenericsInfoFactory.cacheStats.size <= 5
+        GenericsInfoFactory.cacheStats.evictions > evictions
+        and: "frequently used descriptor preserved"
+        GenericsInfoFactory.create(Root).is(root)
+
+        cleanup:
+        GenericsInfoFactory.limitCacheSize(0)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check cache weight limit"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        GenericsInfoFactory.limitCacheWeight(20)
+
+        when: "resolving classes with big hierarchies"
+        [ArrayList, LinkedList, HashMap, TreeMap, HashSet, TreeSet].each {
+            GenericsInfoFactory.create(it)
+        }
+        then: "cache limited"
+        GenericsInfoFactory.cacheStats.weight <= 20
+        GenericsInfoFactory.cacheStats.size < 6
+
+        cleanup:
+        GenericsInfoFactory.limitCacheWeight(0)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check memoized data counted in weight"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+
+        when: "resolving descriptor"
+        GenericsContext context = GenericsResolver.resolve(WeightRoot)
+        int types = context.genericsInfo.composingTypes.size()
+        then: "weight is hierarchy size"
+        GenericsInfoFactory.cacheStats.weight == types
+
+        when: "creating type context"
+        context.type(WeightBase)
+        context.type(WeightBase)
+        then: "context counted once"
+        GenericsInfoFactory.cacheStats.weight == types + 1
+
+        when: "navigating to inlying context"
+        def inlying = context.type(WeightBase).fieldType(WeightBase.getDeclaredField('items'))
+        inlying.members()
+        then: "inlying descriptor counted with its memoized data"
+        GenericsInfoFactory.cacheStats.weight > types + 1 + inlying.genericsInfo.composingTypes.size()
+                + inlying.members().size()
+
+        when: "building members table"
+        long before = GenericsInfoFactory.cacheStats.weight
+        def table = context.members()
+        context.members()
+        then: "table counted"
+        GenericsInfoFactory.cacheStats.weight >= before + table.size()
+
+        cleanup:
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check weight limit applied on memoized data growth"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        GenericsInfoFactory.limitCacheWeight(10)
+
+        when: "resolving descriptor"
+        GenericsContext context = GenericsResolver.resolve(WeightRoot)
+        then: "descriptor cached"
+        GenericsInfoFactory.cacheStats.size == 1
+
+        when: "memoized data exceeds limit"
+        long evictions = GenericsInfoFactory.cacheStats.evictions
+        context.members()
+        then: "descriptor evicted"
+        GenericsInfoFactory.cacheStats.size == 0
+        GenericsInfoFactory.cacheStats.weight == 0
+        GenericsInfoFactory.cacheStats.evictions == evictions + 1
+
+        cleanup:
+        GenericsInfoFactory.limitCacheWeight(0)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check soft cache"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        GenericsInfoFactory.enableSoftCache()
+
+        when: "resolving with soft cache"
+        GenericsInfo info = GenericsInfoFactory.create(Root)
+        then: "descriptor cached"
+        GenericsInfoFactory.create(Root).is(info)
+        GenericsInfoFactory.cacheStats.size == 1
+        GenericsInfoFactory.cacheStats.weight == info.composingTypes.size()
+
+        cleanup:
+        System.clearProperty(GenericsInfoFactory.CACHE_SOFT_PROPERTY)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check descriptors composed from hierarchy templates"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        List<Class> types = [Root, EnormousCase, ArRoot, WCRoot, NoClashRoot,
+                             ArrayList, LinkedList, HashMap, LinkedHashMap, TreeMap, TreeSet, ConcurrentHashMap]
+
+        when: "resolving hierarchies, sharing super types"
+        List<GenericsInfo> infos = types.collect { GenericsInfoFactory.create(it) }
+        then: "result is the same as with complete hierarchy analysis"
+        (0..<types.size()).every {
+            infos[it].typesMap == GenericsResolutionUtils.resolve(types[it])
+        }
+
+        when: "resolving after cache clear"
+        GenericsInfoFactory.clearCache()
+        then: "result is the same"
+        types.every { GenericsInfoFactory.create(it).typesMap == GenericsResolutionUtils.resolve(it) }
+
+        cleanup:
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check hierarchy templates retained by cached descriptors"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+
+        when: "resolving descriptor"
+        GenericsInfoFactory.create(String)
+        int retained = GenericsInfoFactory.cacheStats.templates
+        then: "super types templates retained"
+        retained > 0
+
+        when: "resolving descriptors with big hierarchies"
+        [ArrayList, LinkedList, HashMap, TreeMap].each { GenericsInfoFactory.create(it) }
+        then: "more templates retained"
+        GenericsInfoFactory.cacheStats.templates > retained
+
+        when: "descriptors evicted"
+        GenericsInfoFactory.limitCacheSize(1)
+        // frequently used
+        5.times { GenericsInfoFactory.create(String) }
+        GenericsInfoFactory.create(Integer)
+        for (int i = 0; i < 50 && GenericsInfoFactory.cacheStats.templates > retained; i++) {
+            System.gc()
+            Thread.sleep(20)
+        }
+        then: "templates collected together with descriptors"
+        GenericsInfoFactory.cacheStats.size == 1
+        GenericsInfoFactory.cacheStats.templates == retained
+
+        when: "resolving evicted descriptor again"
+        GenericsInfoFactory.limitCacheSize(0)
+        GenericsInfo info = GenericsInfoFactory.create(ArrayList)
+        then: "templates re-computed"
+        info.typesMap == GenericsResolutionUtils.resolve(ArrayList)
+        GenericsInfoFactory.cacheStats.templates > retained
+
+        cleanup:
+        GenericsInfoFactory.limitCacheSize(0)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check lazy descriptors"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        GenericsInfoFactory.enableLazyResolution()
+        List<Class> types = [Root, EnormousCase, ArRoot, WCRoot, NoClashRoot,
+                             ArrayList, LinkedList, HashMap, LinkedHashMap, TreeMap, TreeSet, ConcurrentHashMap]
+
+        when: "resolving lazy descriptor"
+        GenericsInfo info = GenericsInfoFactory.create(ConcurrentHashMap)
+        then: "only required types resolved"
+        info.composingTypes == GenericsResolutionUtils.resolve(ConcurrentHashMap).keySet()
+        info.getTypeGenerics(Map) == ['K': Object, 'V': Object]
+        int size = info.composingTypes.size()
+        (0..<size).count { info.@lazy.isResolved(it) } < size
+        GenericsResolver.resolve(ConcurrentHashMap).type(Map).genericsMap() == ['K': Object, 'V': Object]
+
+        and: "result is the same as with complete hierarchy analysis"
+        types.every { GenericsInfoFactory.create(it).typesMap == GenericsResolutionUtils.resolve(it) }
+        types.every {
+            Map<Class<?>, LinkedHashMap<String, Type>> expected = GenericsResolutionUtils.resolve(it)
+            GenericsInfo desc = GenericInfoUtils.create(it)
+            GenericsInfoFactory.clearCache()
+            GenericsInfo lazy = GenericsInfoFactory.create(it)
+            // resolve types in reversed order
+            expected.keySet().sort { a, b -> b.name <=> a.name }
+                    .every { lazy.getTypeGenerics(it) == expected.get(it) } && lazy.toString() == desc.toString()
+        }
+
+        when: "resolving interface with different parametrization"
+        info = GenericsInfoFactory.create(BadRoot)
+        info.getTypeGenerics(Direct)
+        then: "resolution fails on access"
+        thrown(GenericsResolutionException)
+
+        when: "resolving lazy descriptor concurrently"
+        GenericsInfoFactory.clearCache()
+        info = GenericsInfoFactory.create(EnormousCase)
+        List<Future<Boolean>> executed = (1..20).collect {
+            executor.submit({
+                GenericsResolutionUtils.resolve(EnormousCase).every { k, v -> info.getTypeGenerics(k) == v }
+            } as Callable<Boolean>)
+        }
+        then: "all threads see the same generics"
+        executed.every { it.get() }
+
+        cleanup:
+        System.clearProperty(GenericsInfoFactory.LAZY_PROPERTY)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check parallel warm up"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        List<Class<?>> types = [Root, EnormousCase, BadRoot, ArRoot, WCRoot, NoClashRoot,
+                                ArrayList, LinkedList, HashMap, LinkedHashMap, TreeMap, TreeSet, ConcurrentHashMap]
+
+        when: "warming up cache with executor"
+        List<GenericsInfoFactory.Resolution> res = GenericsInfoFactory.warmUp(types, executor)
+        then: "all classes resolved"
+        res.collect { it.type } == types
+        res.findAll { !it.success }.collect { it.type } == [BadRoot]
+        res[2].error instanceof GenericsResolutionException
+        res[2].descriptor == null
+        res[2].toString().startsWith(BadRoot.name + ": failed (")
+        res[0].toString() == Root.name + ": resolved"
+        res.findAll { it.success }.every {
+            it.error == null && GenericsInfoFactory.create(it.type).is(it.descriptor)
+                    && it.descriptor.typesMap == GenericsResolutionUtils.resolve(it.type)
+        }
+        GenericsInfoFactory.cacheStats.size == types.size() - 1
+
+        when: "warming up with default pool"
+        GenericsInfoFactory.clearCache()
+        res = GenericsInfoFactory.warmUp(types)
+        then: "resolved"
+        res.count { it.success } == types.size() - 1
+
+        when: "warming up from the worker of single thread pool"
+        GenericsInfoFactory.clearCache()
+        def pool = new ForkJoinPool(1)
+        res = pool.submit({ GenericsInfoFactory.warmUp(types, pool) } as Callable).get(30, TimeUnit.SECONDS)
+        pool.shutdown()
+        then: "no pool starvation"
+        res.count { it.success } == types.size() - 1
+
+        when: "executor rejects tasks"
+        GenericsInfoFactory.clearCache()
+        res = GenericsInfoFactory.warmUp([Root, ArrayList] as List<Class<?>>,
+                { throw new RejectedExecutionException() } as Executor)
+        then: "resolved in current thread"
+        res.every { it.success }
+
+        cleanup:
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check class loader partitions"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        URLClassLoader loader = createLoader()
+
+        when: "resolving class from separate class loader"
+        Class type = loader.loadClass(LoaderBean.name)
+        GenericsInfo info = GenericsInfoFactory.create(type)
+        GenericsInfoFactory.create(Root)
+        then: "cached"
+        type != LoaderBean
+        GenericsInfoFactory.create(type).is(info)
+        GenericsInfoFactory.cacheStats.size == 2
+
+        when: "dropping class loader descriptors"
+        int removed = GenericsInfoFactory.clearCache(loader)
+        then: "only class loader descriptors removed"
+        removed == 1
+        GenericsInfoFactory.cacheStats.size == 1
+        !GenericsInfoFactory.create(type).is(info)
+        GenericsInfoFactory.clearCache(new URLClassLoader(new URL[0])) == 0
+
+        cleanup:
+        loader.close()
+    }
+
+    def "Check cache does not prevent class loader unloading"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        TypeRelationsCache.enable(100)
+
+        when: "class loader is not used anymore"
+        WeakReference<ClassLoader> ref = resolveInSeparateLoader()
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc()
+            Thread.sleep(20)
+        }
+        then: "class loader collected together with cached descriptors and memos"
+        ref.get() == null
+        GenericsInfoFactory.cacheStats.size == 0
+
+        cleanup:
+        TypeRelationsCache.disable()
+    }
+
+    def "Check memoized descriptors do not prevent class loader unloading"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+
+        when: "class loader classes used in context of bootstrap class"
+        WeakReference<ClassLoader> ref = resolveInBootstrapContext()
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc()
+            Thread.sleep(20)
+        }
+        then: "class loader collected together with pruned descriptor"
+        ref.get() == null
+        GenericsInfoFactory.cacheStats.size == 1
+
+        cleanup:
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check descriptors snapshot"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        Path file = Files.createTempFile("generics", ".snapshot")
+        List<Class<?>> types = [Root, ArRoot, WCRoot, ArrayList]
+        Map<Class<?>, GenericsInfo> descriptors = types.collectEntries { [(it): GenericsInfoFactory.create(it)] }
+        GenericsInfoFactory.create(Root, Lvl2Base1)
+
+        when: "saving snapshot"
+        int count = GenericsInfoFactory.saveSnapshot(file)
+        then: "only complete descriptors saved"
+        count == 4
+
+        when: "loading snapshot"
+        GenericsInfoFactory.clearCache()
+        count = GenericsInfoFactory.loadSnapshot(file, null)
+        then: "descriptors restored"
+        count == 4
+        GenericsInfoFactory.cacheStats.size == 4
+        types.every {
+            def info = GenericsInfoFactory.create(it)
+            !info.is(descriptors[it]) && info.typesMap == descriptors[it].typesMap
+                    && info.toString() == descriptors[it].toString()
+        }
+
+        when: "loading into filled cache"
+        count = GenericsInfoFactory.loadSnapshot(file, null)
+        then: "cached descriptors not replaced"
+        count == 0
+
+        when: "classes not available"
+        GenericsInfoFactory.clearCache()
+        count = GenericsInfoFactory.loadSnapshot(file, new URLClassLoader(new URL[0], (ClassLoader) null))
+        then: "only jdk descriptors loaded"
+        count == 1
+        GenericsInfoFactory.cacheStats.size == 1
+
+        when: "class signature changed"
+        GenericsInfoFactory.clearCache()
+        byte[] data = Files.readAllBytes(file)
+        byte[] hash = ByteBuffer.allocate(8).putLong(GenericsSnapshot.signature(Root)).array()
+        int pos = Collections.indexOfSubList(data as List, hash as List)
+        data[pos] = (byte) (data[pos] ^ 1)
+        count = GenericsInfoFactory.loadSnapshot(ByteBuffer.wrap(data), null)
+        then: "changed class descriptor rejected"
+        pos > 0
+        count == 3
+        GenericsInfoFactory.cacheStats.size == 3
+
+        when: "loading not a snapshot"
+        GenericsInfoFactory.loadSnapshot(ByteBuffer.wrap([1, 2, 3, 4, 5] as byte[]), null)
+        then: "error"
+        thrown(IOException)
+
+        when: "loading truncated snapshot"
+        GenericsInfoFactory.loadSnapshot(ByteBuffer.wrap(Arrays.copyOf(data, data.length - 3)), null)
+        then: "error"
+        thrown(IOException)
+
+        cleanup:
+        Files.deleteIfExists(file)
+        GenericsInfoFactory.clearCache()
+    }
+
+    private static URLClassLoader createLoader() {
+        // no parent: class is loaded again by separate loader
+        return new URLClassLoader([LoaderBean.protectionDomain.codeSource.location] as URL[], (ClassLoader) null)
+    }
+
+    // static compilation: dynamic groovy call site caches could hold loaded class
+    @CompileStatic
+    private static WeakReference<ClassLoader> resolveInSeparateLoader() {
+        URLClassLoader loader = createLoader()
+        Class type = loader.loadClass(LoaderBean.name)
+        assert GenericsResolver.resolve(type).type(Callable).generic(0) != null
+        assert GenericsInfoFactory.cacheStats.size == 1
+        // bounded memos hold classes of loader too
+        Type comparable = TypesInterner.intern(new ParameterizedTypeImpl(Comparable, [type] as Type[]))
+        assert TypesInterner.isCanonical(comparable)
+        assert TypeUtils.isAssignable(type, comparable)
+        assert TypeRelationsCache.stats.size > 0
+        assert TypeUtils.getCommonType(type, ArrayList) == ArrayList
+        loader.close()
+        return new WeakReference<ClassLoader>(loader)
+    }
+
+    @CompileStatic
+    private static WeakReference<ClassLoader> resolveInBootstrapContext() {
+        URLClassLoader loader = createLoader()
+        Class type = loader.loadClass(LoaderBean.name)
+        GenericsContext context = GenericsResolver.resolve(ArrayList)
+        // inlying descriptor is not memoized in bootstrap class descriptor
+        Type list = new ParameterizedTypeImpl(List, [type] as Type[])
+        assert !context.inlyingType(list).genericsInfo.is(context.inlyingType(list).genericsInfo)
+        // pruned descriptor is cached in class loader partition
+        Object predicate = loader.loadClass(LoaderPredicate.name).getDeclaredConstructor().newInstance()
+        // reflective call: groovy cast call site would cache predicate class
+        HierarchyPruning.Builder builder = HierarchyPruning.builder()
+        HierarchyPruning.Builder.getMethod('predicate', Predicate).invoke(builder, predicate)
+        HierarchyPruning pruning = builder.build()
+        GenericsInfo info = GenericsResolver.resolve(ArrayList, pruning).genericsInfo
+        assert !info.isComposingType(Serializable)
+        assert GenericsResolver.resolve(ArrayList, pruning).genericsInfo.is(info)
+        assert GenericsInfoFactory.cacheStats.size == 2
+        loader.close()
+        return new WeakReference<ClassLoader>(loader)
+    }
+
+    static class WeightBase<T> {
+        T value
+        List<T> items
+    }
+
+    static class WeightRoot extends WeightBase<String> {
+    }
+}
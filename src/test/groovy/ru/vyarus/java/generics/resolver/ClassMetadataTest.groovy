@@ -0,0 +1,51 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.support.Base1
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.ClassMetadata
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class ClassMetadataTest extends Specification {
+
+    def "Check metadata caching"() {
+
+        expect: "metadata equal to reflection"
+        ClassMetadata.typeParameters(Base1) == Base1.getTypeParameters() as List
+        ClassMetadata.hasTypeParameters(Base1)
+        !ClassMetadata.hasTypeParameters(Root)
+        ClassMetadata.genericInterfaces(Root) == Root.getGenericInterfaces() as List
+        ClassMetadata.interfaces(Root) == Root.getInterfaces() as List
+        ClassMetadata.genericSuperclass(ArrayList) == ArrayList.getGenericSuperclass()
+        ClassMetadata.genericSuperclass(Object) == null
+        ClassMetadata.genericSuperclass(Root) == null
+        ClassMetadata.enclosingClass(InnerTypesTest.Root) == InnerTypesTest
+        ClassMetadata.enclosingClass(Root) == null
+        !ClassMetadata.isInner(InnerTypesTest.Root)
+        !ClassMetadata.isInner(Root)
+        ClassMetadata.isInner(InnerTypesTest.Owner.Inner)
+
+        and: "lists are shared"
+        ClassMetadata.typeParameters(Base1).is(ClassMetadata.typeParameters(Base1))
+        ClassMetadata.genericInterfaces(Root).is(ClassMetadata.genericInterfaces(Root))
+        ClassMetadata.interfaces(Root).is(ClassMetadata.interfaces(Root))
+        ClassMetadata.arrayClass(Root) == Root[]
+    }
+
+    def "Check metadata is immutable"() {
+
+        when: "modifying type parameters"
+        ClassMetadata.typeParameters(Base1).clear()
+        then: "error"
+        thrown(UnsupportedOperationException)
+
+        when: "modifying interfaces"
+        ClassMetadata.interfaces(Root).set(0, Serializable)
+        then: "error"
+        thrown(UnsupportedOperationException)
+        ClassMetadata.genericInterfaces(Root) == Root.getGenericInterfaces() as List
+    }
+}
@@ -1,9 +1,12 @@
 package ru.vyarus.java.generics.resolver
 
 
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
 import ru.vyarus.java.generics.resolver.support.array.GenericArrayDeclarations
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils
 import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
 import spock.lang.Specification
 
 import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
@@ -63,6 +66,31 @@ class CommonTypeResolutionTest extends Specification {
         upper(Integer, Serializable)                   | upper(Cloneable, CharSequence)                  | Object
     }
 
+    def "Check common types cache"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+
+        when: "resolving common type"
+        def type = CommonTypeFactory.build(Double, Integer, true)
+        then: "cached type returned"
+        CommonTypeFactory.build(Double, Integer, true).is(type)
+        CommonTypeFactory.build(double, int, true).is(type)
+        CommonTypeFactory.build(Double, Integer, false) == Number
+
+        when: "instance type resolved"
+        def instance = new ParameterizedInstanceType(ArrayList, new ArrayList<Integer>())
+        def res = CommonTypeFactory.build(instance, param(LinkedList, Integer), true)
+        then: "cached for cleaned type (without instance)"
+        res.is(CommonTypeFactory.build(param(ArrayList, Object), param(LinkedList, Integer), true))
+
+        when: "cache cleared"
+        GenericsInfoFactory.clearCache()
+        then: "type resolved again"
+        !CommonTypeFactory.build(Double, Integer, true).is(type)
+        CommonTypeFactory.build(Double, Integer, true) == type
+    }
+
 
     interface Base {}
     interface Root1 extends Base {}
@@ -1,5 +1,6 @@
 package ru.vyarus.java.generics.resolver
 
+import ru.vyarus.java.generics.resolver.error.GenericsException
 import ru.vyarus.java.generics.resolver.error.GenericsResolutionException
 import ru.vyarus.java.generics.resolver.error.GenericsTrackingException
 import ru.vyarus.java.generics.resolver.error.IncompatibleTypesException
@@ -7,6 +8,7 @@ import ru.vyarus.java.generics.resolver.error.UnknownGenericException
 import ru.vyarus.java.generics.resolver.support.Base1
 import ru.vyarus.java.generics.resolver.support.Lvl2Base1
 import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.support.nestedtype.direct.BadRoot
 import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap
 import spock.lang.Specification
@@ -132,6 +134,38 @@ class ExceptionTests extends Specification {
     }
 
 
+    def "Check lightweight exceptions"() {
+
+        setup:
+        GenericsException.lightweight = true
+
+        when: "creating exceptions in lightweight mode"
+        def res = new UnknownGenericException(Root, "T", null)
+        def res2 = new IncompatibleTypesException(param(Base1, String), param(Lvl2Base1, Integer))
+        then: "no stack trace and message formatted on demand"
+        res.stackTrace.length == 0
+        res.message == "Generic 'T' is not declared on type ${Root.name}"
+        res.message.is(res.message)
+        res2.stackTrace.length == 0
+        res2.message == "Incompatible types: Base1<String> and Lvl2Base1<Integer>"
+
+        when: "failed resolution"
+        GenericsResolutionUtils.resolve(BadRoot)
+        then: "no stack trace"
+        def ex = thrown(GenericsResolutionException)
+        ex.stackTrace.length == 0
+
+        when: "lightweight mode disabled"
+        GenericsException.lightweight = false
+        res = new UnknownGenericException(Root, "T", null)
+        then: "usual exception"
+        res.stackTrace.length > 0
+        res.message == "Generic 'T' is not declared on type ${Root.name}"
+
+        cleanup:
+        GenericsException.lightweight = false
+    }
+
     static class UnknownGeneric<T> {
 
         T field
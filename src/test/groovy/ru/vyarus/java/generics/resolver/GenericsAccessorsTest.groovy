@@ -68,6 +68,44 @@ class GenericsAccessorsTest extends Specification {
         context.visibleGenericsMap() == ["P": Comparable]
     }
 
+    def "Check generics views"() {
+
+        when: "root context"
+        def context = GenericsResolver.resolve(Root).type(Outer)
+        then: "views are equal to copies"
+        context.genericsMapView() == context.genericsMap()
+        context.visibleGenericsMapView() == context.visibleGenericsMap()
+        context.genericsInfo.getTypeGenericsView(Outer) == context.genericsInfo.getTypeGenerics(Outer)
+        context.genericsInfo.getTypeGenericsView(Root).isEmpty()
+        context.genericType(1) == Integer
+        context.generic(2) == Long
+
+        and: "type contexts cached"
+        GenericsResolver.resolve(Root).type(Outer).is(context)
+
+        when: "modifying view"
+        context.genericsMapView().put("A", Object)
+        then:
+        thrown(UnsupportedOperationException)
+
+        when: "modifying descriptor view"
+        context.genericsInfo.getTypeGenericsView(Outer).put("A", Object)
+        then:
+        thrown(UnsupportedOperationException)
+
+        when: "inner class context"
+        context = context.fieldType(Root.getDeclaredField('field'))
+        then:
+        context.genericsMapView() == ["A": Double, "T": Comparable]
+        context.visibleGenericsMapView() == ["A": Double, "T": Comparable, "B": Integer, "C": Long]
+        context.genericType(1) == Comparable
+
+        when: "wrong position"
+        context.genericType(2)
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+
     def "Check to string cases"() {
 
         when: "outer class"
@@ -5,6 +5,8 @@ import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
 import ru.vyarus.java.generics.resolver.support.*
 import ru.vyarus.java.generics.resolver.support.array.ArBaseLvl2
 import ru.vyarus.java.generics.resolver.support.array.ArRoot
+import ru.vyarus.java.generics.resolver.support.inner.InOwner
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap
 import spock.lang.Specification
 
 import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
@@ -60,4 +62,35 @@ class GenericsInfoFactoryTest extends Specification {
         info.getTypeGenerics(ArBaseLvl2)['T'] instanceof GenericArrayType
         (info.getTypeGenerics(ArBaseLvl2)['T'] as GenericArrayType).genericComponentType == param(List, Model)
     }
+
+    def "Check descriptor content isolation"() {
+
+        when: "creating descriptor from map"
+        Map<Class<?>, LinkedHashMap<String, java.lang.reflect.Type>> types = [
+                (InOwner.InnerExt): ['T': String] as LinkedHashMap,
+                (InOwner.Inner)   : ['T': String] as LinkedHashMap,
+                (Runnable)        : EmptyGenericsMap.getInstance()]
+        GenericsInfo info = new GenericsInfo(InOwner.InnerExt, types)
+        types.get(InOwner.Inner).put('T', Integer)
+        then: "descriptor not affected by source map modification"
+        info.getTypeGenerics(InOwner.Inner) == ['T': String]
+        info.composingTypes == [InOwner.InnerExt, InOwner.Inner, Runnable] as Set
+        info.typesMap[Runnable].isEmpty()
+
+        when: "modifying returned maps"
+        info.getTypeGenerics(InOwner.Inner).put('T', Integer)
+        info.typesMap.get(InOwner.Inner).put('T', Integer)
+        then: "descriptor not affected"
+        info.getTypeGenerics(InOwner.Inner) == ['T': String]
+
+        and: "context found by declaration type"
+        info.findContextByDeclarationType(InOwner.Inner) == InOwner.Inner
+        info.findContextByDeclarationType(InOwner) in [InOwner.Inner, InOwner.InnerExt]
+        info.findContextByDeclarationType(List) == null
+
+        when: "requesting not composing type"
+        info.getTypeGenerics(List)
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
 }
@@ -1,6 +1,7 @@
 package ru.vyarus.java.generics.resolver
 
 import ru.vyarus.java.generics.resolver.context.GenericsContext
+import ru.vyarus.java.generics.resolver.context.GenericsInfo
 import ru.vyarus.java.generics.resolver.support.BeanRoot
 import ru.vyarus.java.generics.resolver.support.Root
 import ru.vyarus.java.generics.resolver.support.array.ArRoot
@@ -9,6 +10,8 @@ import ru.vyarus.java.generics.resolver.support.noclash.NoClashRoot
 import ru.vyarus.java.generics.resolver.support.wildcard.WCRoot
 import spock.lang.Specification
 
+import java.lang.reflect.Type
+
 /**
  * @author Vyacheslav Rusakov
  * @since 14.05.2018
@@ -73,7 +76,85 @@ class GenericsInfoToStringTest extends Specification {
 """
     }
 
+    def "Check hierarchy appending"() {
+
+        when: "appending hierarchy with streaming writer"
+        def info = GenericsResolver.resolve(Root).genericsInfo
+        def res = info.appendHierarchy(new StringBuilder("prefix\n"), new GenericsInfo.StreamingTypeWriter() {
+            @Override
+            String write(Class<?> type, Map<String, Type> generics,
+                         Class<?> owner, Map<String, Type> ownerGenerics, String shift) {
+                throw new UnsupportedOperationException()
+            }
+
+            @Override
+            void write(StringBuilder out, Class<?> type, Map<String, Type> generics,
+                       Class<?> owner, Map<String, Type> ownerGenerics, String shift) {
+                out.append(type.simpleName)
+            }
+        }).toString().replace("\r", "")
+        then: "streaming write used"
+        res == """prefix
+interface Root
+  extends Base1
+    extends Lvl2Base1
+  extends Base2
+    extends Lvl2Base2
+    extends Lvl2Base3
+  extends ComplexGenerics
+  extends ComplexGenerics2
+"""
+        info.appendHierarchy(new StringBuilder(), new GenericsInfo.DefaultTypeWriter()).toString() == info.toString()
+
+        when: "appending hierarchy with string writer"
+        res = info.appendHierarchy(new StringBuilder(), new StringWriter()).toString().replace("\r", "")
+        then: "string method used"
+        res.startsWith('interface Root!\n  extends Base1<Model>!\n')
+
+        when: "streaming writer sub class"
+        res = info.toStringHierarchy(new AppendingWriter()).replace("\r", "")
+        then: "streaming method used"
+        res.startsWith('interface Root?\n  extends Base1<Model>?\n')
+        new AppendingWriter().write(Root, [:], null, null, '') == 'Root?'
+
+        when: "root context aware writer customizing string method"
+        def inlying = GenericsResolver.resolve(InnerTypesTest.Root)
+                .fieldType(InnerTypesTest.Root.getDeclaredField('target'))
+        res = inlying.genericsInfo.toStringHierarchy(new ContextStringWriter(inlying)).replace("\r", "")
+        then: "string method used with root context info"
+        res == 'class InnerTypesTest.Owner<String>.Inner  resolved in context of InnerTypesTest.Root!\n'
+    }
+
+    static class StringWriter extends GenericsInfo.DefaultTypeWriter {
+        @Override
+        String write(Class<?> type, Map<String, Type> generics,
+                     Class<?> owner, Map<String, Type> ownerGenerics, String shift) {
+            super.write(type, generics, owner, ownerGenerics, shift) + '!'
+        }
+    }
+
+    static class AppendingWriter extends GenericsInfo.DefaultStreamingTypeWriter {
+        @Override
+        void write(StringBuilder res, Class<?> type, Map<String, Type> generics,
+                   Class<?> owner, Map<String, Type> ownerGenerics, String shift) {
+            super.write(res, type, generics, owner, ownerGenerics, shift)
+            res.append('?')
+        }
+    }
+
+    static class ContextStringWriter extends GenericsContext.RootContextAwareTypeWriter {
+        ContextStringWriter(GenericsContext context) {
+            super(context)
+        }
+
+        @Override
+        String write(Class<?> type, Map<String, Type> generics,
+                     Class<?> owner, Map<String, Type> ownerGenerics, String shift) {
+            super.write(type, generics, owner, ownerGenerics, shift) + '!'
+        }
+    }
+
     private toString(GenericsContext context) {
         return context.genericsInfo.toString().replace("\r", "")
     }
-}
\ No newline at end of file
+}
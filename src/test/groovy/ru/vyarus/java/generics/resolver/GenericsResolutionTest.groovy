@@ -5,9 +5,12 @@ import ru.vyarus.java.generics.resolver.support.Lvl2Base1
 import ru.vyarus.java.generics.resolver.support.Model
 import ru.vyarus.java.generics.resolver.support.Root
 import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
+import ru.vyarus.java.generics.resolver.util.HierarchyPruning
 import ru.vyarus.java.generics.resolver.util.type.TypeLiteral
 import spock.lang.Specification
 
+import java.lang.reflect.Type
+
 
 /**
  * @author Vyacheslav Rusakov
@@ -42,4 +45,74 @@ class GenericsResolutionTest extends Specification {
         res.size() == 2
         res[Lvl2Base1] == ["I": Boolean]
     }
-}
\ No newline at end of file
+
+    def "Check diamond hierarchy resolution"() {
+
+        when: "shared interface reachable with the same generics"
+        def res = GenericsResolutionUtils.resolve(SameDiamond)
+        then: "resolved once"
+        res[Mid] == ["T": Integer]
+        res[Deep] == ["K": Integer]
+
+        when: "shared interface reachable through generified paths"
+        res = GenericsResolutionUtils.resolve(VarDiamond)
+        then: "resolved"
+        res[Mid] == ["T": Integer]
+        res[Deep] == ["K": Integer]
+
+        when: "tracking interfaces analysis (each analyzed interface is checked in known generics)"
+        def known = new CountingMap()
+        res = GenericsResolutionUtils.resolve(SameDiamond, new LinkedHashMap<String, Type>(), known,
+                HierarchyPruning.none())
+        then: "shared sub hierarchy analyzed once"
+        res[Deep] == ["K": Integer]
+        known.checks(Mid) == 2
+        known.checks(Deep) == 1
+
+        when: "tracking generified paths"
+        known = new CountingMap()
+        GenericsResolutionUtils.resolve(VarDiamond, new LinkedHashMap<String, Type>(['Y': Integer]), known,
+                HierarchyPruning.none())
+        then: "shared sub hierarchy analyzed once"
+        known.checks(Mid) == 2
+        known.checks(Deep) == 1
+
+        when: "jdk collections"
+        res = GenericsResolutionUtils.resolve(StringList)
+        then: "resolved"
+        res[Collection] == ["E": String]
+        res[Iterable] == ["T": String]
+    }
+
+    static interface Deep<K> {}
+
+    static interface Mid<T> extends Deep<T> {}
+
+    static interface IntegerMid extends Mid<Integer> {}
+
+    static interface IntegerMid2 extends Mid<Integer> {}
+
+    static class SameDiamond implements IntegerMid, IntegerMid2 {}
+
+    static interface VarMid<X> extends Mid<X> {}
+
+    static interface BoundMid<Z extends Number> extends Mid<Z> {}
+
+    static class VarDiamond<Y extends Integer> implements VarMid<Y>, BoundMid<Y> {}
+
+    static class CountingMap extends HashMap<Class<?>, LinkedHashMap<String, Type>> {
+        private final Map<Object, Integer> counts = [:]
+
+        @Override
+        boolean containsKey(Object key) {
+            counts[key] = (counts[key] ?: 0) + 1
+            return super.containsKey(key)
+        }
+
+        int checks(Class<?> type) {
+            counts[type] ?: 0
+        }
+    }
+
+    static class StringList extends ArrayList<String> implements Collection<String>, List<String> {}
+}
@@ -1,14 +1,25 @@
 package ru.vyarus.java.generics.resolver
 
 import ru.vyarus.java.generics.resolver.context.GenericsContext
+import ru.vyarus.java.generics.resolver.context.GenericsInfo
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
 import ru.vyarus.java.generics.resolver.support.BeanBase
 import ru.vyarus.java.generics.resolver.support.BeanRoot
+import ru.vyarus.java.generics.resolver.support.ComplexGenerics
 import ru.vyarus.java.generics.resolver.support.Lvl2Base1
+import ru.vyarus.java.generics.resolver.support.Lvl2Base2
 import ru.vyarus.java.generics.resolver.support.Lvl2BeanBase
+import ru.vyarus.java.generics.resolver.support.Root
 import ru.vyarus.java.generics.resolver.support.clash.ClashRoot
+import ru.vyarus.java.generics.resolver.support.Lvl2Base3
+import ru.vyarus.java.generics.resolver.util.GenericInfoUtils
+import ru.vyarus.java.generics.resolver.util.HierarchyPruning
 import spock.lang.Specification
 
+import java.lang.annotation.Retention
+import java.lang.annotation.RetentionPolicy
 import java.util.concurrent.Callable
+import java.util.function.Predicate
 
 /**
  * @author Vyacheslav Rusakov 
@@ -28,4 +39,128 @@ class IgnoreTest extends Specification {
         then: "only root types resolved"
         context.genericsInfo.composingTypes == [BeanRoot, BeanBase, Lvl2Base1] as Set
     }
-}
\ No newline at end of file
+
+    def "Check ignored descriptors cache"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+
+        when: "resolving with ignored classes"
+        GenericsInfo info = GenericsInfoFactory.create(Root, Lvl2Base1, Lvl2Base2)
+        then: "cached for the same ignore set in any order"
+        GenericsInfoFactory.create(Root, Lvl2Base2, Lvl2Base1).is(info)
+        GenericsInfoFactory.create(Root, Lvl2Base2, Lvl2Base1, Lvl2Base1).is(info)
+        !GenericsInfoFactory.create(Root, Lvl2Base1).is(info)
+        !GenericsInfoFactory.create(Root).is(info)
+        info.ignoredTypes as Set == [Lvl2Base1, Lvl2Base2] as Set
+
+        when: "limited descriptor derived from complete descriptor"
+        GenericsInfoFactory.clearCache()
+        GenericsInfo complete = GenericsInfoFactory.create(BeanRoot)
+        info = GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase)
+        then: "same as resolved"
+        info.composingTypes == [BeanRoot, BeanBase, Lvl2Base1] as Set
+        info.getTypeGenerics(BeanBase) == complete.getTypeGenerics(BeanBase)
+        info.getTypeGenerics(Lvl2Base1) == complete.getTypeGenerics(Lvl2Base1)
+        info.ignoredTypes == [Lvl2BeanBase] as Class[]
+        info.typesMap == GenericInfoUtils.create(BeanRoot, Lvl2BeanBase).typesMap
+    }
+
+    def "Check limited descriptor derivation"() {
+
+        when: "deriving descriptor"
+        GenericsInfo info = GenericInfoUtils.limit(GenericInfoUtils.create(Root), Lvl2Base1)
+        then: "derived"
+        info.typesMap == GenericInfoUtils.create(Root, Lvl2Base1).typesMap
+
+        when: "interface reachable through ignored class"
+        info = GenericInfoUtils.limit(GenericInfoUtils.create(DiamondRoot), DiamondLeft)
+        then: "can't derive"
+        info == null
+
+        when: "deriving from limited descriptor"
+        GenericInfoUtils.limit(GenericInfoUtils.create(Root, Lvl2Base1), Lvl2Base2)
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+
+    def "Check hierarchy pruning"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+
+        when: "pruning with packages, classes and annotations"
+        HierarchyPruning policy = HierarchyPruning.builder()
+                .classes(Serializable)
+                .packages('java.lang.*', 'groovy')
+                .annotations(Pruned)
+                .build()
+        GenericsContext context = GenericsResolver.resolve(PruningRoot, policy)
+        then: "pruned types not analyzed"
+        context.genericsInfo.composingTypes == [PruningRoot, DiamondRight, DiamondBase] as Set
+        context.genericsInfo.pruning.is(policy)
+        context.genericsInfo.ignoredTypes == [Serializable] as Class[]
+        policy.isPruned(Comparable)
+        !policy.isPruned(PruningRoot)
+        policy.toString() == "pruning[classes=Serializable packages=[java.lang, groovy] annotations=IgnoreTest.Pruned]"
+
+        and: "class names could be used as packages"
+        HierarchyPruning.builder().packages('java.io.Serializable').build().isPruned(Serializable)
+        HierarchyPruning.builder().packages(IgnoreTest.name).build().isPruned(PrunedIface)
+        !HierarchyPruning.builder().packages('java.io.Serial').build().isPruned(Serializable)
+        GenericsResolver.resolve(PruningRoot, HierarchyPruning.builder().packages('java.io.Serializable').build())
+                .genericsInfo.composingTypes == [PruningRoot, PrunedIface, DiamondBase, DiamondRight, Comparable] as Set
+
+        and: "cached for equal policy"
+        GenericsInfoFactory.create(PruningRoot, HierarchyPruning.builder()
+                .annotations(Pruned).packages('groovy', 'java.lang').classes(Serializable).build())
+                .is(context.genericsInfo)
+        !GenericsInfoFactory.create(PruningRoot).is(context.genericsInfo)
+
+        when: "ignored classes policy"
+        GenericsInfo info = GenericsInfoFactory.create(Root, HierarchyPruning.ignore(Lvl2Base1, Lvl2Base2))
+        then: "same as ignored classes"
+        GenericsInfoFactory.create(Root, Lvl2Base2, Lvl2Base1).is(info)
+        HierarchyPruning.ignore().is(HierarchyPruning.none())
+        HierarchyPruning.builder().build().isEmpty()
+
+        when: "pruning with predicate"
+        GenericsInfo complete = GenericsInfoFactory.create(Root)
+        info = GenericsInfoFactory.create(Root, HierarchyPruning.builder().predicate(LVL2).build())
+        then: "derived from complete descriptor"
+        !info.composingTypes.contains(Lvl2Base1)
+        !info.composingTypes.contains(Lvl2Base3)
+        info.ignoredTypes.length == 0
+        info.getTypeGenerics(ComplexGenerics) == complete.getTypeGenerics(ComplexGenerics)
+        info.typesMap == GenericInfoUtils.create(Root, HierarchyPruning.builder().predicate(LVL2).build()).typesMap
+        GenericsInfoFactory.create(Root, HierarchyPruning.builder().predicate(LVL2).build()).is(info)
+
+        when: "inlying context"
+        context = GenericsResolver.resolve(Root, HierarchyPruning.builder().predicate(LVL2).build())
+        then: "pruning preserved"
+        context.inlyingType(Root).genericsInfo.pruning == info.pruning
+    }
+
+    static final Predicate<Class<?>> LVL2 = { Class<?> type -> type.simpleName.startsWith('Lvl2') } as Predicate
+
+    @Retention(RetentionPolicy.RUNTIME)
+    static @interface Pruned {}
+
+    @Pruned
+    static interface PrunedIface extends DiamondBase<Integer> {}
+
+    static class PruningRoot implements PrunedIface, DiamondRight, Serializable, Comparable<PruningRoot> {
+        @Override
+        int compareTo(PruningRoot o) {
+            return 0
+        }
+    }
+
+    static interface DiamondBase<T> {}
+
+    static interface DiamondLeft extends DiamondBase<Integer> {}
+
+    static interface DiamondRight extends DiamondBase<Integer> {}
+
+    static class DiamondRoot implements DiamondLeft, DiamondRight {}
+}
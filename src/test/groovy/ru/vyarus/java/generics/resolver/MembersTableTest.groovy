@@ -0,0 +1,156 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsContext
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.context.MembersTable
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class MembersTableTest extends Specification {
+
+    void setup() {
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check members table"() {
+
+        when: "building members table"
+        GenericsContext context = GenericsResolver.resolve(Root)
+        MembersTable table = context.members()
+        then: "fields resolved"
+        table.rootClass == Root
+        str(table.getFieldType(Base.getDeclaredField('items'))) == 'List<Integer>'
+        str(table.getFieldType(Base.getDeclaredField('value'))) == 'Integer'
+        table.getFieldType(Root.getDeclaredField('count')) == int
+        table.getFieldType(Other.getDeclaredField('field')) == null
+        table.fields.keySet().every { !it.synthetic }
+
+        and: "methods resolved"
+        def get = table.getMethod(Base.getMethod('getValue'))
+        get.method == Base.getMethod('getValue')
+        get.returnType == Integer
+        get.parameterTypes.isEmpty()
+        get.toString() == 'Integer getValue()'
+        def set = table.getMethod(Base.getMethod('setItems', List))
+        set.returnType == void
+        set.parameterTypes.collect { str(it) } == ['List<Integer>']
+        table.getMethod(Base.getMethod('convert', Comparable, Object)).toString() == 'Comparable convert(Comparable, Integer)'
+        table.getMethod(Iface.getMethod('getName')).returnType == Long
+        table.getMethod(Other.getMethod('getField')) == null
+        table.methods.keySet().every { !it.synthetic && !it.bridge }
+
+        and: "same as separate resolution"
+        table.fields.every { field, type -> context.resolveFieldType(field) == type }
+        table.methods.every { method, sign ->
+            def ctx = context.method(method)
+            ctx.resolveReturnType() == sign.returnType && ctx.resolveParametersTypes() == sign.parameterTypes
+        }
+
+        and: "properties resolved"
+        str(table.getPropertyType('items')) == 'List<Integer>'
+        table.getPropertyType('value') == Integer
+        table.getPropertyType('active') == boolean
+        table.getPropertyType('name') == Long
+        table.getPropertyType('URL') == String
+        table.getPropertyType('count') == null
+        table.getPropertyType('static') == null
+        table.toString().startsWith('members of MembersTableTest.Root: fields=')
+    }
+
+    def "Check members table caching"() {
+
+        when: "accessing table from different contexts"
+        GenericsContext context = GenericsResolver.resolve(Root)
+        def table = context.members()
+        then: "table shared"
+        context.type(Base).members().is(table)
+        context.method(Base.getMethod('getValue')).members().is(table)
+        GenericsResolver.resolve(Root).members().is(table)
+
+        when: "accessing table of inlying context"
+        def inlying = GenericsResolver.resolve(Holder).fieldType(Holder.getDeclaredField('base'))
+        def inlyingTable = inlying.members()
+        then: "table resolved with inlying generics"
+        !inlyingTable.is(table)
+        inlyingTable.rootClass == Base
+        inlyingTable.getPropertyType('value') == String
+        str(inlyingTable.getFieldType(Base.getDeclaredField('items'))) == 'List<String>'
+        inlying.type(Base).members().is(inlyingTable)
+
+        when: "table is immutable"
+        table.fields.clear()
+        then: "error"
+        thrown(UnsupportedOperationException)
+    }
+
+    def "Check property type from effective accessor"() {
+
+        when: "interface declares accessor, implemented in generic superclass"
+        MembersTable table = GenericsResolver.resolve(IdRoot).members()
+        then: "superclass getter used"
+        table.getPropertyType('id') == Long
+        table.getMethod(IdBase.getMethod('getId')).returnType == Long
+        table.getMethod(HasId.getMethod('getId')).returnType == Object
+    }
+
+    private static String str(type) {
+        TypeToStringUtils.toStringType(type)
+    }
+
+    static class Base<T> implements Iface<Long> {
+        private List<T> items
+        private T value
+
+        List<T> getItems() { items }
+
+        void setItems(List<T> items) { this.items = items }
+
+        T getValue() { value }
+
+        public <K extends Comparable> K convert(K arg, T second) { arg }
+
+        @Override
+        Long getName() { null }
+    }
+
+    static class Root extends Base<Integer> {
+        private int count
+
+        boolean isActive() { false }
+
+        void setURL(String url) {}
+
+        static String getStatic() { null }
+
+        private String getCount() { null }
+    }
+
+    static interface Iface<N> {
+        N getName()
+    }
+
+    static class IdBase<T> {
+        T getId() { null }
+    }
+
+    static interface HasId {
+        Object getId()
+    }
+
+    static class IdRoot extends IdBase<Long> implements HasId {
+    }
+
+    static class Holder {
+        Base<String> base
+    }
+
+    static class Other {
+        String field
+
+        String getField() { field }
+    }
+}
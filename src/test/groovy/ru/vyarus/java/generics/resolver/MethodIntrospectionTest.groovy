@@ -81,4 +81,28 @@ class MethodIntrospectionTest extends Specification {
         context.method(doSomth).resolveReturnClass() == Model[]
         context.method(doSomth2).resolveReturnClass() == Model[][]
     }
-}
\ No newline at end of file
+
+    def "Check member contexts cached"() {
+
+        when: "method context requested multiple times"
+        GenericsContext context = GenericsResolver.resolve(Root)
+        Method doSomth = Lvl2Base1.getMethod("doSomth")
+        def methodContext = context.method(doSomth)
+        then: "context created once per descriptor"
+        methodContext.is(context.method(doSomth))
+        methodContext.is(context.type(Base1).method(doSomth))
+        methodContext.resolveReturnClass() == Integer
+
+        when: "constructor context requested multiple times"
+        context = GenericsResolver.resolve(ConstructorGenerics)
+        def ctor = ConstructorGenerics.getConstructor(Object)
+        then: "context created once per descriptor"
+        context.constructor(ctor).is(context.constructor(ctor))
+
+        when: "method context requested from inlying context"
+        context = GenericsResolver.resolve(Root).inlyingType(Root)
+        then: "not cached because root context is different"
+        !context.method(doSomth).is(context.method(doSomth))
+        context.method(doSomth).rootContext() != null
+    }
+}
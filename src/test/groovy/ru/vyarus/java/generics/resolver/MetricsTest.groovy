@@ -0,0 +1,167 @@
+package ru.vyarus.java.generics.resolver
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordingFile
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.metrics.GenericsMetrics
+import ru.vyarus.java.generics.resolver.metrics.JfrGenericsMetrics
+import ru.vyarus.java.generics.resolver.metrics.LatencyHistogram
+import ru.vyarus.java.generics.resolver.metrics.ResolverMetrics
+import ru.vyarus.java.generics.resolver.metrics.SimpleGenericsMetrics
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class MetricsTest extends Specification {
+
+    SimpleGenericsMetrics metrics
+
+    void setup() {
+        GenericsInfoFactory.clearCache()
+        metrics = new SimpleGenericsMetrics()
+        ResolverMetrics.install(metrics)
+    }
+
+    void cleanup() {
+        ResolverMetrics.uninstall()
+    }
+
+    def "Check metrics collection"() {
+
+        when: "resolving classes"
+        GenericsResolver.resolve(Root)
+        GenericsResolver.resolve(Root)
+        GenericsResolver.resolve(InnerTypesTest.Root).fieldType(InnerTypesTest.Root.getDeclaredField('target'))
+        def width = GenericsResolutionUtils.resolve(Root).size()
+        def snapshot = metrics.snapshot()
+        then: "cache and resolution metrics collected"
+        snapshot.cacheHits >= 1
+        snapshot.cacheMisses >= 2
+        snapshot.cacheHitRatio > 0
+        snapshot.descriptors.count >= 2
+        snapshot.hierarchies.count >= 1
+        snapshot.maxDepth == 3
+        snapshot.maxWidth == width
+        snapshot.inlyingContexts.count == 1
+        snapshot.typeTimes.containsKey(Root)
+        snapshot.getSlowestTypes(1).size() == 1
+        snapshot.toString().contains('cache: hits=')
+
+        when: "checking types"
+        TypeUtils.isAssignable(Integer, Number)
+        TypeUtils.isAssignable(Integer, Integer)
+        TypeUtils.isCompatible(Integer, upper(Number, Comparable))
+        TypeUtils.isMoreSpecific(param(List, Integer), param(List, Number))
+        TypeUtils.getCommonType(Integer, Double)
+        snapshot = metrics.snapshot()
+        then: "types operations counted (equal types shortcut not counted)"
+        snapshot.getRelations(GenericsMetrics.Relation.ASSIGNABLE).count >= 1
+        snapshot.getRelations(GenericsMetrics.Relation.COMPATIBLE).count >= 1
+        snapshot.getRelations(GenericsMetrics.Relation.MORE_SPECIFIC).count >= 1
+        snapshot.commonTypes.count == 1
+
+        when: "metrics reset"
+        metrics.reset()
+        snapshot = metrics.snapshot()
+        then: "counters cleared"
+        snapshot.cacheHits == 0
+        snapshot.descriptors.count == 0
+        snapshot.typeTimes.isEmpty()
+
+        when: "metrics uninstalled"
+        ResolverMetrics.uninstall()
+        GenericsResolver.resolve(Root)
+        then: "nothing recorded"
+        !ResolverMetrics.isEnabled()
+        metrics.snapshot().cacheHits == 0
+    }
+
+    def "Check latency histogram"() {
+
+        when: "recording values"
+        def histogram = new LatencyHistogram()
+        [0, 1, 2, 3, 100, -5].each { histogram.record(it) }
+        def snapshot = histogram.snapshot()
+        then: "values aggregated"
+        snapshot.count == 6
+        snapshot.total == 106
+        snapshot.max == 100
+        snapshot.mean == 17
+        snapshot.getBucket(0) == 3
+        snapshot.getBucket(1) == 2
+        snapshot.getBucket(6) == 1
+        snapshot.getPercentile(50) == 1
+        snapshot.getPercentile(80) == 3
+        snapshot.getPercentile(100) == 100
+        new LatencyHistogram().snapshot().getPercentile(99) == 0
+
+        when: "histogram reset"
+        histogram.reset()
+        then: "empty"
+        histogram.snapshot().count == 0
+        histogram.snapshot().max == 0
+    }
+
+    def "Check class limit"() {
+
+        when: "metrics without classes tracking"
+        def limited = new SimpleGenericsMetrics(0)
+        ResolverMetrics.install(limited)
+        GenericsResolver.resolve(Root)
+        then: "classes not tracked"
+        limited.snapshot().descriptors.count == 1
+        limited.snapshot().typeTimes.isEmpty()
+    }
+
+    def "Check JFR events"() {
+
+        when: "recording resolution"
+        def enabled = ResolverMetrics.enableJfr(0)
+        def recording = new Recording()
+        [JfrGenericsMetrics.HIERARCHY_EVENT, JfrGenericsMetrics.INLYING_EVENT,
+         JfrGenericsMetrics.CACHE_MISS_EVENT, JfrGenericsMetrics.SLOW_WALK_EVENT].each { recording.enable(it) }
+        recording.start()
+        GenericsResolver.resolve(InnerTypesTest.Root).fieldType(InnerTypesTest.Root.getDeclaredField('target'))
+        GenericsResolutionUtils.resolve(Root)
+        TypeUtils.isAssignable(Integer, Number)
+        recording.stop()
+        def file = Files.createTempFile('generics', '.jfr')
+        recording.dump(file)
+        def events = RecordingFile.readAllEvents(file)
+        recording.close()
+        Files.delete(file)
+        then: "events recorded"
+        JfrGenericsMetrics.isAvailable()
+        enabled
+        ResolverMetrics.get().delegate.is(metrics)
+        metrics.snapshot().walks.count >= 1
+        events.find {
+            it.eventType.name == JfrGenericsMetrics.HIERARCHY_EVENT && it.getClass('rootClass').name == Root.name
+                    && it.getInt('types') == GenericsResolutionUtils.resolve(Root).size() && it.getInt('depth') == 3
+        }
+        events.find {
+            it.eventType.name == JfrGenericsMetrics.INLYING_EVENT && it.getLong('buildTime') > 0
+        }
+        events.find {
+            it.eventType.name == JfrGenericsMetrics.CACHE_MISS_EVENT
+                    && it.getClass('rootClass').name == InnerTypesTest.Root.name
+        }
+        events.find {
+            it.eventType.name == JfrGenericsMetrics.SLOW_WALK_EVENT && it.getString('firstType') == 'Integer'
+        }
+
+        when: "enabling again"
+        ResolverMetrics.enableJfr()
+        then: "delegate preserved"
+        ResolverMetrics.get().delegate.is(metrics)
+    }
+}
@@ -0,0 +1,161 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.context.PrecomputedGenerics
+import ru.vyarus.java.generics.resolver.processor.GenericsMetadataProcessor
+import ru.vyarus.java.generics.resolver.processor.PrecomputeGenerics
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
+import ru.vyarus.java.generics.resolver.util.TypeSignatureUtils
+import spock.lang.Specification
+
+import javax.tools.JavaCompiler
+import javax.tools.JavaFileObject
+import javax.tools.SimpleJavaFileObject
+import javax.tools.ToolProvider
+import java.lang.reflect.Type
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class PrecomputedGenericsTest extends Specification {
+
+    static final String SOURCE = '''
+package precomputed;
+
+import java.io.Serializable;
+import java.util.*;
+import ru.vyarus.java.generics.resolver.processor.PrecomputeGenerics;
+
+public class Samples {
+
+    @PrecomputeGenerics
+    public static class Root<T extends Comparable<T>> extends Base<T[], List<T[]>> implements Runnable {
+        public void run() {}
+    }
+
+    public static class Base<A, B extends List<A>> implements Comparable<B>, Serializable {
+        public int compareTo(B o) { return 0; }
+    }
+
+    @PrecomputeGenerics
+    public static class Wild extends HashMap<Map.Entry<? extends Number, ?>, Set<? super Integer>> {}
+
+    @PrecomputeGenerics
+    public static class Raw extends Base {}
+
+    @PrecomputeGenerics
+    public static class Multi<K extends Number & Comparable<K>> extends ArrayList<K> {}
+
+    @PrecomputeGenerics
+    public class Inner extends ArrayList<String> {}
+}
+'''
+
+    Path dir
+
+    void setup() {
+        dir = Files.createTempDirectory("precomputed")
+        GenericsInfoFactory.clearCache()
+    }
+
+    void cleanup() {
+        dir.toFile().deleteDir()
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check precomputed generics"() {
+
+        when: "compiling with processor"
+        compile(SOURCE, true)
+        def loader = new URLClassLoader([dir.toUri().toURL()] as URL[], getClass().getClassLoader())
+        def classes = ['Samples$Root', 'Samples$Wild', 'Samples$Raw']
+                .collect { loader.loadClass('precomputed.' + it) }
+        then: "metadata generated and equal to runtime resolution"
+        classes.every {
+            def info = PrecomputedGenerics.load(it)
+            info != null && info.typesMap == GenericsResolutionUtils.resolve(it)
+        }
+        GenericsInfoFactory.create(classes[0]).getTypeGenerics(Comparable) == ['T': param(List, Comparable[])]
+        GenericsInfoFactory.create(classes[1]).getTypeGenerics(Map) ==
+                ['K': param(Map.Entry, [Number, Object] as Type[], Map), 'V': param(Set, lower(Integer))]
+
+        and: "not supported hierarchies skipped"
+        ['Samples$Multi', 'Samples$Inner', 'Samples$Base'].every {
+            loader.loadClass('precomputed.' + it)
+            !Files.exists(dir.resolve('precomputed/' + it + PrecomputeGenerics.METADATA_SUFFIX + '.class'))
+        }
+    }
+
+    def "Check stale metadata ignored"() {
+
+        when: "class changed after metadata generation"
+        compile(SOURCE, true)
+        compile(SOURCE.replace('implements Runnable', 'implements Runnable, Cloneable')
+                .replace('@PrecomputeGenerics', ''), false)
+        def loader = new URLClassLoader([dir.toUri().toURL()] as URL[], getClass().getClassLoader())
+        def type = loader.loadClass('precomputed.Samples$Root')
+        then: "metadata exists, but ignored"
+        loader.loadClass('precomputed.Samples$Root' + PrecomputeGenerics.METADATA_SUFFIX) != null
+        PrecomputedGenerics.load(type) == null
+        GenericsInfoFactory.create(type).composingTypes.contains(Cloneable)
+    }
+
+    def "Check type signatures"() {
+
+        expect: "type signature parsed back"
+        TypeSignatureUtils.toSignature(type) == signature
+        TypeSignatureUtils.parse(signature, getClass().getClassLoader()) == type
+
+        where:
+        type                                                    | signature
+        String                                                  | 'java.lang.String'
+        int[][]                                                 | 'int[][]'
+        param(Map.Entry, [String, upper(Number)] as Type[], Map) | 'java.util.Map$Entry<java.lang.String,? extends java.lang.Number>'
+        param(List, lower(Integer))                             | 'java.util.List<? super java.lang.Integer>'
+        array(param(List, array(param(List, String))))          | 'java.util.List<java.util.List<java.lang.String>[]>[]'
+        param(Map, String, upper(Object))                       | 'java.util.Map<java.lang.String,?>'
+        upper(Number, Comparable)                               | '? extends java.lang.Number&java.lang.Comparable'
+    }
+
+    def "Check malformed signature"() {
+
+        when: "parsing bad signatures"
+        def errors = ['java.util.List<java.lang.String', 'java.util.List<>', 'java.lang.String]'].collect {
+            try {
+                TypeSignatureUtils.parse(it, getClass().getClassLoader())
+                null
+            } catch (IllegalArgumentException ex) {
+                ex.message
+            }
+        }
+        then: "errors"
+        errors == ['Malformed type signature at position 31: java.util.List<java.lang.String',
+                   'Malformed type signature at position 15: java.util.List<>',
+                   'Malformed type signature at position 16: java.lang.String]']
+    }
+
+    private void compile(String source, boolean process) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler()
+        JavaFileObject file = new SimpleJavaFileObject(URI.create('string:///precomputed/Samples.java'),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source
+            }
+        }
+        def task = compiler.getTask(null, null, null,
+                ['-d', dir.toString(), '-s', dir.toString(), '-cp', System.getProperty('java.class.path')]
+                        + (process ? [] : ['-proc:none']),
+                null, [file])
+        if (process) {
+            // generated metadata sources are compiled together with class
+            task.setProcessors([new GenericsMetadataProcessor()])
+        }
+        assert task.call()
+    }
+}
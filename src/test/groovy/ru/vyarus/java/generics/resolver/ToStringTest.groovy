@@ -2,6 +2,7 @@ package ru.vyarus.java.generics.resolver
 
 import ru.vyarus.java.generics.resolver.context.GenericsContext
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException
 import ru.vyarus.java.generics.resolver.support.AnonymousCases
 import ru.vyarus.java.generics.resolver.support.Model
@@ -157,4 +158,31 @@ class ToStringTest extends Specification {
         TypeToStringUtils.toStringTypes([String, Integer, param(Set, Double)] as Type[],
                 " & ", EmptyGenericsMap.getInstance()) == "String & Integer & Set<Double>"
     }
-}
\ No newline at end of file
+
+    def "Check appending to string"() {
+
+        when: "appending types"
+        def type = param(Map, String, param(List, upper(Number)))
+        def method = List.getMethod('add', Object)
+        def writer = new StringWriter()
+        TypeToStringUtils.appendType(writer, type, EmptyGenericsMap.getInstance())
+        then: "result is the same as string rendering"
+        TypeToStringUtils.appendType(new StringBuilder('prefix '), type, EmptyGenericsMap.getInstance())
+                .toString() == 'prefix ' + TypeToStringUtils.toStringType(type)
+        writer.toString() == 'Map<String, List<? extends Number>>'
+        TypeToStringUtils.appendTypes(new StringBuilder(), [String, Integer] as Type[], " & ",
+                EmptyGenericsMap.getInstance()).toString() == "String & Integer"
+        TypeToStringUtils.appendWithGenerics(new StringBuilder(), List, ['E': String]).toString() == "List<String>"
+        TypeToStringUtils.appendWithGenerics(new StringBuilder(), List, ['E': Object]).toString() == "List"
+        TypeToStringUtils.appendWithNamedGenerics(new StringBuilder(), Map).toString() == "Map<K, V>"
+        TypeToStringUtils.appendMethod(new StringBuilder(), method, ['E': String]).toString() == 'boolean add(String)'
+        TypeToStringUtils.toStringMethod(method, ['E': String]) == 'boolean add(String)'
+
+        when: "rendering interned type"
+        def interned = TypesInterner.intern(param(List, String))
+        then: "rendering cached"
+        interned.toString() == 'List<String>'
+        interned.toString().is(interned.toString())
+        TypeToStringUtils.toStringType(List).is(TypeToStringUtils.toStringType(List))
+    }
+}
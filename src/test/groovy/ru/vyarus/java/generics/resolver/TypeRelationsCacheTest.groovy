@@ -0,0 +1,115 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.error.IncompatibleTypesException
+import ru.vyarus.java.generics.resolver.util.TypeRelationsCache
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.TypeLiteral
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class TypeRelationsCacheTest extends Specification {
+
+    void setup() {
+        TypeRelationsCache.enable(100)
+        TypeRelationsCache.clear()
+    }
+
+    void cleanup() {
+        TypeRelationsCache.disable()
+    }
+
+    def "Check relations memo"() {
+
+        when: "checking relations"
+        def res = [TypeUtils.isAssignable(ArrayList, param(List, String)),
+                   TypeUtils.isAssignable(param(List, String), ArrayList),
+                   TypeUtils.isCompatible(Integer, upper(Number, Comparable)),
+                   TypeUtils.isMoreSpecific(param(List, Integer), param(List, Number)),
+                   TypeUtils.isMoreSpecificOrEqual(param(List, Number), param(List, Integer))]
+        then: "relations cached"
+        res == [true, false, true, true, false]
+        relation(TypeRelationsCache.ASSIGNABLE, ArrayList, param(List, String)) == TypeRelationsCache.TRUE
+        relation(TypeRelationsCache.ASSIGNABLE, param(List, String), ArrayList) == TypeRelationsCache.FALSE
+        relation(TypeRelationsCache.COMPATIBLE, Integer, upper(Number, Comparable)) == TypeRelationsCache.TRUE
+        relation(TypeRelationsCache.SPECIFIC, param(List, Integer), param(List, Number)) == TypeRelationsCache.MORE_SPECIFIC
+        relation(TypeRelationsCache.SPECIFIC, param(List, Number), param(List, Integer)) == 0
+
+        when: "checking again"
+        def stats = TypeRelationsCache.getStats()
+        res = [TypeUtils.isAssignable(ArrayList, param(List, String)),
+               TypeUtils.isAssignable(param(List, String), ArrayList),
+               TypeUtils.isCompatible(Integer, upper(Number, Comparable)),
+               TypeUtils.isMoreSpecific(param(List, Integer), param(List, Number)),
+               TypeUtils.isMoreSpecificOrEqual(param(List, Number), param(List, Integer))]
+        def repeat = TypeRelationsCache.getStats()
+        then: "cached relations used"
+        res == [true, false, true, true, false]
+        repeat.size == stats.size
+        repeat.misses == stats.misses
+        repeat.hits - stats.hits == 5
+        repeat.toString() ==
+                "size=${repeat.size}, hits=${repeat.hits}, misses=${repeat.misses}, evictions=${repeat.evictions}"
+
+        when: "reflection types used"
+        def type = new TypeLiteral<ArrayList<String>>() {}.getType()
+        TypeUtils.isAssignable(type, param(List, String))
+        then: "cached"
+        relation(TypeRelationsCache.ASSIGNABLE, type, param(List, String)) == TypeRelationsCache.TRUE
+
+        when: "cache cleared"
+        GenericsInfoFactory.clearCache()
+        then: "relations removed"
+        TypeRelationsCache.getStats().size == 0
+    }
+
+    def "Check not cacheable relations"() {
+
+        when: "checking instance types"
+        def instance = new ParameterizedInstanceType(ArrayList, new ArrayList())
+        def res = TypeUtils.isAssignable(instance, List)
+        then: "not cached"
+        res
+        TypeRelationsCache.key(TypeRelationsCache.ASSIGNABLE, instance, List) == null
+        TypeRelationsCache.key(TypeRelationsCache.ASSIGNABLE, param(Map, String, instance), Map) == null
+
+        when: "checking incompatible types"
+        TypeUtils.isMoreSpecific(Integer, String)
+        then: "error not cached"
+        thrown(IncompatibleTypesException)
+        relation(TypeRelationsCache.SPECIFIC, Integer, String) == TypeRelationsCache.UNKNOWN
+
+        when: "memo disabled"
+        TypeRelationsCache.disable()
+        TypeUtils.isAssignable(ArrayList, List)
+        then: "not cached"
+        !TypeRelationsCache.isEnabled()
+        TypeRelationsCache.getStats().size == 0
+        TypeRelationsCache.key(TypeRelationsCache.ASSIGNABLE, ArrayList, List) == null
+    }
+
+    def "Check memo size limit"() {
+
+        when: "exceeding limit"
+        TypeRelationsCache.enable(2)
+        def evictions = TypeRelationsCache.getStats().evictions
+        TypeUtils.isAssignable(ArrayList, List)
+        TypeUtils.isAssignable(LinkedList, List)
+        TypeUtils.isAssignable(HashSet, Set)
+        then: "memo cleared"
+        TypeRelationsCache.getStats().size <= 2
+        TypeRelationsCache.getStats().evictions > evictions
+    }
+
+    private int relation(int relation, Type one, Type two) {
+        TypeRelationsCache.get(TypeRelationsCache.key(relation, one, two))
+    }
+}
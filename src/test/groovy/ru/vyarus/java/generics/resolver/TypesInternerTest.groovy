@@ -0,0 +1,131 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl
+import ru.vyarus.java.generics.resolver.context.container.TypesInterner
+import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl
+import ru.vyarus.java.generics.resolver.support.Lvl2Base1
+import ru.vyarus.java.generics.resolver.support.Model
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.support.loader.LoaderBean
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+class TypesInternerTest extends Specification {
+
+    void setup() {
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check types interning"() {
+
+        when: "constructing equal types"
+        def one = param(Map, String, param(List, upper(Number, Comparable)))
+        def two = param(Map, String, param(List, upper(Number, Comparable)))
+        then: "same instance"
+        one.is(two)
+        TypesInterner.isCanonical(one)
+        array(one).is(array(two))
+        lower(one).is(lower(two))
+        one.hashCode() == new ParameterizedTypeImpl(Map, String, param(List, upper(Number, Comparable))).hashCode()
+
+        and: "canonical and usual instances are equal"
+        def plain = new ParameterizedTypeImpl(Map, String, new ParameterizedTypeImpl(List,
+                new WildcardTypeImpl([Number, Comparable] as Type[], [] as Type[])))
+        !TypesInterner.isCanonical(plain)
+        one == plain
+        plain == one
+        TypesInterner.intern(plain).is(one)
+
+        and: "different canonical types are not equal"
+        param(List, String) != param(List, Integer)
+        param(List, String) != param(List, [String] as Type[], Root)
+        upper(Number, Comparable) != upper(Number)
+    }
+
+    def "Check not internable types"() {
+
+        when: "type with instance type"
+        def instance = new ParameterizedInstanceType(List, "sample")
+        def type = param(Map, String, instance)
+        then: "not interned"
+        !TypesInterner.isCanonical(instance)
+        !TypesInterner.isCanonical(type)
+        !type.is(param(Map, String, instance))
+        type == param(Map, String, instance)
+    }
+
+    def "Check resolved types interning"() {
+
+        when: "resolving equal types"
+        def one = GenericsResolver.resolve(Root).method(Lvl2Base1.getMethod("doSomth3")).resolveReturnType()
+        def two = GenericsResolver.resolve(Root).type(Lvl2Base1)
+                .resolveType(Lvl2Base1.getMethod("doSomth3").getGenericReturnType())
+        then: "types were interned"
+        one == param(List, Model)
+        one.is(two)
+        one.is(param(List, Model))
+
+        when: "interner cleared"
+        GenericsInfoFactory.clearCache()
+        def three = param(List, Model)
+        then: "new canonical instance"
+        TypesInterner.size() == 1
+        !three.is(one)
+        three == one
+        one == three
+        three.hashCode() == one.hashCode()
+    }
+
+    def "Check class loader pools"() {
+
+        when: "interning types of separate class loaders"
+        URLClassLoader loader = createLoader()
+        URLClassLoader other = createLoader()
+        Class bean = loader.loadClass(LoaderBean.name)
+        Class otherBean = other.loadClass(LoaderBean.name)
+        def type = param(List, bean)
+        then: "type interned in pool of the youngest class loader"
+        TypesInterner.isCanonical(type)
+        TypesInterner.owner(type).classLoader == loader
+        TypesInterner.owner(param(List, String)).classLoader == null
+        param(Map, param(List, String), bean).is(param(Map, param(List, String), bean))
+        TypesInterner.owner(param(Map, param(List, String), bean)).classLoader == loader
+
+        and: "types with classes of unrelated class loaders are not interned"
+        !TypesInterner.isCanonical(param(Map, bean, otherBean))
+        param(Map, bean, otherBean) == param(Map, bean, otherBean)
+
+        cleanup:
+        loader?.close()
+        other?.close()
+    }
+
+    def "Check no-copy access"() {
+
+        when: "accessing container type internals"
+        def type = param(List, String)
+        def wildcard = lower(String)
+        then: "same arrays returned"
+        TypesInterner.arguments(type).is(TypesInterner.arguments(type))
+        TypesInterner.arguments(type) == [String] as Type[]
+        TypesInterner.upperBounds(wildcard) == [Object] as Type[]
+        TypesInterner.lowerBounds(wildcard) == [String] as Type[]
+
+        and: "reflection types supported"
+        TypesInterner.arguments(Root.getGenericInterfaces()[0]) != null
+    }
+
+    private static URLClassLoader createLoader() {
+        // no parent: class is loaded again by separate loader
+        return new URLClassLoader([LoaderBean.protectionDomain.codeSource.location] as URL[], (ClassLoader) null)
+    }
+}
@@ -2,6 +2,7 @@ package ru.vyarus.java.generics.resolver
 
 import ru.vyarus.java.generics.resolver.error.WrongGenericsContextException
 import ru.vyarus.java.generics.resolver.support.ConstructorGenerics
+import ru.vyarus.java.generics.resolver.support.nestedtype.direct.BadRoot
 import spock.lang.Specification
 
 import java.lang.reflect.TypeVariable
@@ -118,6 +119,40 @@ class WrongContextTest extends Specification {
 
     }
 
+    def "Check non throwing lookups"() {
+
+        when: "navigating to types"
+        def context = GenericsResolver.resolve(Root)
+        then: "null for types not in hierarchy"
+        context.findType(Low).currentClass() == Low
+        context.findType(Root).is(context)
+        context.findType(Other) == null
+        context.findType(int) == null
+        context.genericsInfo.isComposingType(Low)
+        !context.genericsInfo.isComposingType(Other)
+
+        and: "null for members not in hierarchy"
+        context.tryMethod(Low.getDeclaredMethod("get")).currentMethod() == Low.getDeclaredMethod("get")
+        context.tryMethod(Object.getMethod("toString")) == null
+        context.tryConstructor(Low.getDeclaredConstructor()).currentConstructor() == Low.getDeclaredConstructor()
+        context.tryConstructor(Other.getDeclaredConstructor()) == null
+
+        and: "null for types not resolvable in hierarchy"
+        context.tryResolveClass(Low.getDeclaredField("field").getGenericType()) == String
+        context.tryResolveClass(Other.getDeclaredField("field").getGenericType()) == null
+        context.tryResolveClass(List) == List
+        context.tryChooseContext(Other.getDeclaredField("field").getGenericType()) == null
+        context.tryChooseContext(Low.getDeclaredField("field").getGenericType()).currentClass() == Low
+
+        and: "null for ignored types"
+        GenericsResolver.resolve(Root, Low).findType(Low) == null
+        GenericsResolver.resolve(Root, Low).tryResolveClass(Low.getDeclaredField("field").getGenericType()) == null
+
+        and: "null for not resolvable hierarchy"
+        GenericsResolver.tryResolve(Root).currentClass() == Root
+        GenericsResolver.tryResolve(BadRoot) == null
+    }
+
     static class Low<T> {
         T field
 
@@ -70,4 +70,31 @@ class RootType
         then:
         res.rootContext().currentClass() == RootType.class
     }
+
+    def "Check inlying descriptors cache"() {
+
+        setup: "prepare base type context"
+        GenericsContext context = GenericsResolver.resolve(RootType)
+
+        when: "repeated field context navigation"
+        def res = context.fieldType(DeclarationType.getDeclaredField("one"))
+        def res2 = context.type(DeclarationType).fieldType(DeclarationType.getDeclaredField("one"))
+        then: "descriptor cached"
+        res.genericsInfo.is(res2.genericsInfo)
+        res2.generic("T") == Integer
+        res2.rootContext().currentClass() == DeclarationType.class
+
+        when: "different type in the same context"
+        res2 = context.method(DeclarationType.getMethod("ret")).returnType()
+        then: "different descriptor"
+        !res.genericsInfo.is(res2.genericsInfo)
+        res2.generic("T") == String
+        context.method(DeclarationType.getMethod("ret")).returnType().genericsInfo.is(res2.genericsInfo)
+
+        when: "type as"
+        res = context.fieldTypeAs(DeclarationType.getDeclaredField("one"), SubType)
+        then: "cached separately"
+        !res.genericsInfo.is(context.fieldType(DeclarationType.getDeclaredField("one")).genericsInfo)
+        res.genericsInfo.is(context.fieldTypeAs(DeclarationType.getDeclaredField("one"), SubType).genericsInfo)
+    }
 }
@@ -0,0 +1,24 @@
+package ru.vyarus.java.generics.resolver.support.loader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Java class (without groovy dependencies) to be loaded with separate class loader.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class LoaderBean extends ArrayList<String> implements Comparable<LoaderBean>, Callable<List<String>> {
+
+    @Override
+    public int compareTo(final LoaderBean o) {
+        return 0;
+    }
+
+    @Override
+    public List<String> call() {
+        return this;
+    }
+}
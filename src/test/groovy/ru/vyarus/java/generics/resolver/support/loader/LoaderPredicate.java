@@ -0,0 +1,18 @@
+package ru.vyarus.java.generics.resolver.support.loader;
+
+import java.io.Serializable;
+import java.util.function.Predicate;
+
+/**
+ * Pruning predicate (without groovy dependencies) to be loaded with separate class loader.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 17.10.2026
+ */
+public class LoaderPredicate implements Predicate<Class<?>> {
+
+    @Override
+    public boolean test(final Class<?> type) {
+        return type == Serializable.class;
+    }
+}